@@ -2,6 +2,7 @@ package spork.android.test;
 
 import org.junit.Test;
 
+import spork.android.AndroidPlanCache;
 import spork.android.internal.utils.Views;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -11,6 +12,8 @@ public class ClassTests {
 
     @Test
     public void test() throws Exception {
+        assertThat(AndroidPlanCache.class, utilityClass());
+
         // .utils
         assertThat(Views.class, utilityClass());
     }
@@ -1,6 +1,5 @@
 package spork.android.test.bindclick;
 
-import android.support.test.espresso.PerformException;
 import android.support.test.rule.ActivityTestRule;
 
 import org.junit.Rule;
@@ -18,12 +17,8 @@ import spork.exceptions.SporkRuntimeException;
 import static android.support.test.espresso.Espresso.onView;
 import static android.support.test.espresso.action.ViewActions.click;
 import static android.support.test.espresso.matcher.ViewMatchers.withId;
-import static org.hamcrest.CoreMatchers.allOf;
-import static org.hamcrest.CoreMatchers.containsString;
-import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
 
 public class ClickBindingTest {
     @Rule
@@ -64,16 +59,11 @@ public class ClickBindingTest {
 
     @Test
     public void testFaultyClickArgumentsView() {
-        expectedException.expect(PerformException.class);
-        expectedException.expectCause(allOf(
-                isA(SporkRuntimeException.class),
-                hasMessage(containsString("onClick() failed because the method arguments are invalid"))
-        ));
-
-        TestFaultyClickArgumentsView view = activityRule.getActivity().getTestFaultyClickArgumentsView();
+        // Invalid click method arguments are reported when the View is bound, not when it is clicked
+        expectedException.expect(SporkRuntimeException.class);
+        expectedException.expectMessage("Invalid click method arguments");
 
-        assertNotNull(view);
-        onView(withId(view.getId())).perform(click());
+        new TestFaultyClickArgumentsView(activityRule.getActivity());
     }
 
     private void testClick(ClickTestProvider provider) {
@@ -18,9 +18,6 @@ public class TestActivity extends Activity implements ClickTestProvider {
     @BindView(R.id.testview)
     private TestView testView;
 
-    @BindView(R.id.testfaultyclickargumentsview)
-    private TestFaultyClickArgumentsView testFaultyClickArgumentsView;
-
     private int clickCount = 0;
 
     public void onCreate(Bundle savedInstanceState) {
@@ -51,8 +48,4 @@ public class TestActivity extends Activity implements ClickTestProvider {
     public TestView getTestView() {
         return testView;
     }
-
-    public TestFaultyClickArgumentsView getTestFaultyClickArgumentsView() {
-        return testFaultyClickArgumentsView;
-    }
 }
@@ -0,0 +1,46 @@
+package spork.android;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+
+import java.io.File;
+
+import spork.SporkInstance;
+import spork.exceptions.UnexpectedException;
+
+/**
+ * Provides the plan cache file and fingerprint for an Android app.
+ *
+ * Usage in Application.onCreate():
+ * {@code Spork.usePlanCache(AndroidPlanCache.getFile(this), AndroidPlanCache.getFingerprint(this));}
+ *
+ * @see SporkInstance#usePlanCache(File, String)
+ */
+public final class AndroidPlanCache {
+	private static final String FILE_NAME = "spork-plans.bin";
+
+	private AndroidPlanCache() {
+	}
+
+	/**
+	 * @param context any Context of the app
+	 * @return the plan cache file in the cache directory of the app
+	 */
+	public static File getFile(Context context) {
+		return new File(context.getCacheDir(), FILE_NAME);
+	}
+
+	/**
+	 * @param context any Context of the app
+	 * @return a fingerprint that changes whenever the app is updated
+	 */
+	public static String getFingerprint(Context context) {
+		try {
+			PackageInfo packageInfo = context.getPackageManager().getPackageInfo(context.getPackageName(), 0);
+			return packageInfo.packageName + ':' + packageInfo.versionCode + ':' + packageInfo.lastUpdateTime;
+		} catch (PackageManager.NameNotFoundException caught) {
+			throw new UnexpectedException("Failed to find the package info of the app", caught);
+		}
+	}
+}
@@ -2,6 +2,10 @@ package spork.android;
 
 import spork.SporkInstance;
 import spork.SporkExtension;
+import spork.extension.BinderFactory;
+import spork.extension.FieldBinder;
+import spork.extension.MethodBinder;
+import spork.extension.TypeBinder;
 import spork.android.extension.ContextResolver;
 import spork.android.extension.FragmentResolver;
 import spork.android.extension.ViewResolver;
@@ -20,7 +24,8 @@ import spork.android.internal.binders.BindViewBinder;
 
 /**
  * Extension that adds binders that provide Android-specific features.
- * This class is automatically instantiated and initialized by the static Spork class.
+ * This class is automatically instantiated and initialized by the static Spork class,
+ * because it is listed in META-INF/services/spork.SporkExtension.
  *
  * If you create your own SporkInstance, you need to register an extension manually.
  */
@@ -37,13 +42,40 @@ public final class SporkAndroid implements SporkExtension {
 
 	@Override
 	public void initialize(SporkInstance spork) {
-		spork.register(new BindLayoutBinder()); // layouts must be bound before views
-		spork.register(new BindViewBinder(compoundViewResolver));
-		spork.register(new BindFragmentBinder(compoundFragmentResolver));
-		spork.register(new BindClickBinder(compoundViewResolver));
-		spork.register(new BindResourceBinder(compoundContextResolver));
+		// The binders are created when the first class with their annotation is bound.
+		// Layouts must be bound before views.
+		spork.registerTypeBinder(BindLayout.class, new BinderFactory<TypeBinder<BindLayout>>() {
+			@Override
+			public TypeBinder<BindLayout> create() {
+				return new BindLayoutBinder();
+			}
+		});
+		spork.registerFieldBinder(BindView.class, new BinderFactory<FieldBinder<BindView>>() {
+			@Override
+			public FieldBinder<BindView> create() {
+				return new BindViewBinder(compoundViewResolver);
+			}
+		});
+		spork.registerFieldBinder(BindFragment.class, new BinderFactory<FieldBinder<BindFragment>>() {
+			@Override
+			public FieldBinder<BindFragment> create() {
+				return new BindFragmentBinder(compoundFragmentResolver);
+			}
+		});
+		spork.registerMethodBinder(BindClick.class, new BinderFactory<MethodBinder<BindClick>>() {
+			@Override
+			public MethodBinder<BindClick> create() {
+				return new BindClickBinder(compoundViewResolver);
+			}
+		});
+		spork.registerFieldBinder(BindResource.class, new BinderFactory<FieldBinder<BindResource>>() {
+			@Override
+			public FieldBinder<BindResource> create() {
+				return new BindResourceBinder(compoundContextResolver);
+			}
+		});
 
-		SporkAndroidExtensionLoader.load(this, "spork.android.support.SporkAndroidSupport");
+		SporkAndroidExtensionLoader.loadAll(this, SporkAndroid.class.getClassLoader(), "spork.android.support.SporkAndroidSupport");
 	}
 
 	/**
@@ -1,5 +1,11 @@
 package spork.android.internal;
 
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
 import spork.android.SporkAndroid;
 import spork.android.SporkAndroidExtension;
 
@@ -8,6 +14,35 @@ public final class SporkAndroidExtensionLoader {
 	private SporkAndroidExtensionLoader() {
 	}
 
+	/**
+	 * Load all SporkAndroidExtension classes that are listed in META-INF/services/spork.android.SporkAndroidExtension
+	 * and then the fallback extensions that were not listed.
+	 * Fails without throwing an exception if an extension can't be loaded.
+	 *
+	 * @param classLoader the ClassLoader that finds the service files
+	 * @param fallbackClassNames the SporkAndroidExtension class names to load when their service file is missing
+	 */
+	public static void loadAll(SporkAndroid sporkAndroid, ClassLoader classLoader, String... fallbackClassNames) {
+		Set<String> loadedClassNames = new HashSet<>();
+		Iterator<SporkAndroidExtension> iterator = ServiceLoader.load(SporkAndroidExtension.class, classLoader).iterator();
+
+		try {
+			while (iterator.hasNext()) {
+				SporkAndroidExtension extension = iterator.next();
+				extension.initialize(sporkAndroid);
+				loadedClassNames.add(extension.getClass().getName());
+			}
+		} catch (ServiceConfigurationError e) {
+			System.out.println("SporkAndroid: failed to load the extensions of META-INF/services/" + SporkAndroidExtension.class.getName() + ": " + e.getMessage());
+		}
+
+		for (String extensionClassName : fallbackClassNames) {
+			if (!loadedClassNames.contains(extensionClassName)) {
+				load(sporkAndroid, extensionClassName);
+			}
+		}
+	}
+
 	/**
 	 * Try to load a SporkAndroidExtension.
 	 * Fails without throwing an exception if the extension is not present.
@@ -2,8 +2,11 @@ package spork.android.internal.binders;
 
 import android.view.View;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import spork.android.BindClick;
 import spork.android.extension.ViewResolver;
@@ -12,23 +15,54 @@ import spork.exceptions.BindFailed;
 import spork.exceptions.ExceptionMessageBuilder;
 import spork.exceptions.SporkRuntimeException;
 import spork.exceptions.UnexpectedException;
-import spork.extension.MethodBinder;
+import spork.extension.AbstractPreparableMethodBinder;
+import spork.extension.Accessors;
+import spork.extension.BindContext;
+import spork.extension.Binding;
+import spork.extension.MethodAccessor;
+import spork.extension.UnbindableBinding;
+import spork.extension.VolatileBinder;
 
-public final class BindClickBinder implements MethodBinder<BindClick> {
+public final class BindClickBinder extends AbstractPreparableMethodBinder<BindClick> implements VolatileBinder {
 	private final ViewResolver viewResolver;
 
 	public BindClickBinder(ViewResolver viewResolver) {
 		this.viewResolver = viewResolver;
 	}
 
+	/**
+	 * The supported method signatures for click methods.
+	 */
+	private enum ClickMethodArguments {
+		NONE,
+		VIEW;
+
+		static ClickMethodArguments from(Method method) throws BindFailed {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			if (parameterTypes.length == 0) {
+				return NONE;
+			} else if (parameterTypes.length == 1 && View.class.isAssignableFrom(parameterTypes[0])) {
+				return VIEW;
+			} else {
+				String message = new ExceptionMessageBuilder("Invalid click method arguments")
+						.suggest("method arguments must be a View type (e.g. View, Button, etc.)")
+						.annotation(BindClick.class)
+						.bindingInto(method)
+						.build();
+				throw new BindFailed(message);
+			}
+		}
+	}
+
 	private static class BindClickListener implements View.OnClickListener {
-		private final BindClick annotation;
-		private final Method method;
+		private final MethodAccessor methodAccessor;
+		private final ClickMethodArguments methodArguments;
 		private final Object object;
 
-		BindClickListener(BindClick annotation, Method method, Object object) {
-			this.annotation = annotation;
-			this.method = method;
+		BindClickListener(MethodAccessor methodAccessor, ClickMethodArguments methodArguments, Object object) {
+			this.methodAccessor = methodAccessor;
+			this.methodArguments = methodArguments;
 			this.object = object;
 		}
 
@@ -36,53 +70,92 @@ public final class BindClickBinder implements MethodBinder<BindClick> {
 			return new ExceptionMessageBuilder(baseMessage)
 					.annotation(BindClick.class)
 					.bindingFrom(view.getClass())
-					.bindingInto(method);
+					.bindingInto(methodAccessor.getMethod());
 		}
 
 		@Override
 		public void onClick(View view) {
-			Class<?>[] parameterTypes = method.getParameterTypes();
-
 			try {
-				method.setAccessible(true);
-
-				if (parameterTypes.length == 0) {
-					method.invoke(object);
-				} else if (parameterTypes.length == 1 && View.class.isAssignableFrom(parameterTypes[0])) {
-					method.invoke(object, view);
+				if (methodArguments == ClickMethodArguments.NONE) {
+					methodAccessor.invoke(object);
 				} else {
-					String message = getExceptionMessageBuilder("onClick() failed because the method arguments are invalid", view)
-							.suggest("method arguments must be a View type (e.g. View, Button, etc.)")
-							.build();
-					throw new SporkRuntimeException(message);
+					methodAccessor.invoke(object, view);
 				}
 			} catch (IllegalAccessException caught) {
 				throw new UnexpectedException("Failed to access a Method that was previously made accessible. Maybe there is a concurrency problem?", caught);
 			} catch (InvocationTargetException caught) {
 				String message = getExceptionMessageBuilder("Failed to invoke click method", view).build();
 				throw new SporkRuntimeException(message, caught);
-			} finally {
-				method.setAccessible(false);
 			}
 		}
 	}
 
-	@Override
-	public void bind(Object object, BindClick annotation, Method method, Object... parameters) throws BindFailed {
-		View view = getView(object, annotation, method);
-		view.setOnClickListener(new BindClickListener(annotation, method, object));
-	}
+	private static final class BindClickBinding implements UnbindableBinding {
+		private final ViewResolver viewResolver;
+		private final Method method;
+		private final MethodAccessor methodAccessor;
+		private final ClickMethodArguments methodArguments;
+		private final int viewId;
+		/**
+		 * The listener of each bound object, so that binding an object again (e.g. a pooled or retained object)
+		 * re-uses its listener. The listeners are weakly referenced, because they reference their object:
+		 * a listener lives as long as a View holds it.
+		 */
+		private final Map<Object, WeakReference<BindClickListener>> listeners = new WeakHashMap<>();
 
-	private View getView(Object object, BindClick annotation, Method method) throws BindFailed {
-		try {
-			return Views.getView(viewResolver, annotation.value(), method.getName(), object);
-		} catch (Exception caught) {
-			String message = new ExceptionMessageBuilder("Failed to resolve View for method")
-					.annotation(BindClick.class)
-					.bindingInto(method)
-					.build();
-			throw new BindFailed(message, caught);
+		BindClickBinding(ViewResolver viewResolver, Method method, ClickMethodArguments methodArguments, int viewId) {
+			this.viewResolver = viewResolver;
+			this.method = method;
+			this.methodAccessor = Accessors.forMethod(method);
+			this.methodArguments = methodArguments;
+			this.viewId = viewId;
+		}
+
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			View view = getView(object, bindContext);
+			view.setOnClickListener(getListener(object));
+		}
+
+		private BindClickListener getListener(Object object) {
+			synchronized (listeners) {
+				WeakReference<BindClickListener> listenerReference = listeners.get(object);
+				BindClickListener listener = listenerReference != null ? listenerReference.get() : null;
+
+				// The map compares objects with equals(), but a listener must call the object it was created for
+				if (listener == null || listener.object != object) {
+					listener = new BindClickListener(methodAccessor, methodArguments, object);
+					listeners.put(object, new WeakReference<>(listener));
+				}
+
+				return listener;
+			}
+		}
+
+		@Override
+		public void unbind(Object object, BindContext bindContext) throws BindFailed {
+			View view = getView(object, bindContext);
+			view.setOnClickListener(null);
 		}
+
+		private View getView(Object object, BindContext bindContext) throws BindFailed {
+			try {
+				return Views.getView(viewResolver, viewId, method.getName(), object, bindContext);
+			} catch (Exception caught) {
+				String message = new ExceptionMessageBuilder("Failed to resolve View for method")
+						.annotation(BindClick.class)
+						.bindingInto(method)
+						.build();
+				throw new BindFailed(message, caught);
+			}
+		}
+	}
+
+	@Override
+	public Binding prepare(BindClick annotation, Method method) throws BindFailed {
+		// Invalid method arguments are reported when the class is first bound instead of when the View is clicked
+		ClickMethodArguments methodArguments = ClickMethodArguments.from(method);
+		return new BindClickBinding(viewResolver, method, methodArguments, annotation.value());
 	}
 
 	@Override
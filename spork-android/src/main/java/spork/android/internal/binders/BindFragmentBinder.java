@@ -9,64 +9,100 @@ import spork.android.extension.FragmentResolver;
 import spork.android.internal.utils.ResourceId;
 import spork.exceptions.BindFailed;
 import spork.exceptions.ExceptionMessageBuilder;
-import spork.extension.FieldBinder;
+import spork.extension.AbstractPreparableFieldBinder;
+import spork.extension.Accessors;
+import spork.extension.BindContext;
+import spork.extension.Binding;
+import spork.extension.FieldAccessor;
+import spork.extension.UnbindableBinding;
+import spork.extension.VolatileBinder;
 
-public final class BindFragmentBinder implements FieldBinder<BindFragment> {
+public final class BindFragmentBinder extends AbstractPreparableFieldBinder<BindFragment> implements VolatileBinder {
 	private final FragmentResolver fragmentResolver;
 
 	public BindFragmentBinder(FragmentResolver fragmentResolver) {
 		this.fragmentResolver = fragmentResolver;
 	}
 
-	@Override
-	public void bind(Object object, BindFragment annotation, Field field, Object... parameters) throws BindFailed {
-		int id = annotation.value();
-		@Nullable Object fragmentObject = resolveFragment(id, object, field);
-
-		if (fragmentObject == null) {
-			String message = new ExceptionMessageBuilder("Fragment not found")
-					.annotation(BindFragment.class)
-					.bindingInto(field)
-					.build();
+	private static final class BindFragmentBinding implements UnbindableBinding {
+		private final FragmentResolver fragmentResolver;
+		private final Field field;
+		private final FieldAccessor fieldAccessor;
+		private final int id;
 
-			throw new BindFailed(message);
+		BindFragmentBinding(FragmentResolver fragmentResolver, Field field, int id) {
+			this.fragmentResolver = fragmentResolver;
+			this.field = field;
+			this.fieldAccessor = Accessors.forField(field);
+			this.id = id;
 		}
 
-		try {
-			field.setAccessible(true);
-			field.set(object, fragmentObject);
-		} catch (IllegalAccessException caught) {
-			String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
-					.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
-					.annotation(BindFragment.class)
-					.bindingInto(field)
-					.build();
-
-			throw new BindFailed(message, caught);
-		} finally {
-			field.setAccessible(false);
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			@Nullable Object fragmentObject = resolveFragment(object);
+
+			if (fragmentObject == null) {
+				String message = new ExceptionMessageBuilder("Fragment not found")
+						.annotation(BindFragment.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message);
+			}
+
+			try {
+				fieldAccessor.set(object, fragmentObject);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
+						.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
+						.annotation(BindFragment.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
 		}
-	}
 
-	@Nullable
-	private Object resolveFragment(int id, Object object, Field field) throws BindFailed {
-		try {
-			if (id == ResourceId.NONE) {
-				return fragmentResolver.resolveFragment(object, field.getName());
-			} else {
-				return fragmentResolver.resolveFragment(object, id);
+		@Override
+		public void unbind(Object object, BindContext bindContext) throws BindFailed {
+			try {
+				fieldAccessor.set(object, null);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
+						.annotation(BindFragment.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
 			}
-		} catch (Exception caught) {
-			String message = new ExceptionMessageBuilder("Failed to resolve Fragment for field")
-					.annotation(BindFragment.class)
-					.bindingInto(field)
-					.build();
+		}
 
-			throw new BindFailed(message, caught);
+		@Nullable
+		private Object resolveFragment(Object object) throws BindFailed {
+			try {
+				if (id == ResourceId.NONE) {
+					return fragmentResolver.resolveFragment(object, field.getName());
+				} else {
+					return fragmentResolver.resolveFragment(object, id);
+				}
+			} catch (Exception caught) {
+				String message = new ExceptionMessageBuilder("Failed to resolve Fragment for field")
+						.annotation(BindFragment.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
 		}
 	}
+
+	@Override
+	public Binding prepare(BindFragment annotation, Field field) {
+		return new BindFragmentBinding(fragmentResolver, field, annotation.value());
+	}
+
 	@Override
 	public Class<BindFragment> getAnnotationClass() {
 		return BindFragment.class;
 	}
-}
\ No newline at end of file
+}
@@ -7,25 +7,52 @@ import android.view.ViewGroup;
 import spork.android.BindLayout;
 import spork.exceptions.ExceptionMessageBuilder;
 import spork.exceptions.BindFailed;
-import spork.extension.TypeBinder;
+import spork.extension.AbstractPreparableTypeBinder;
+import spork.extension.BindContext;
+import spork.extension.Binding;
 
-public final class BindLayoutBinder implements TypeBinder<BindLayout> {
+public final class BindLayoutBinder extends AbstractPreparableTypeBinder<BindLayout> {
 
-	@Override
-	public void bind(Object object, BindLayout annotation, Class<?> annotatedType, Object... parameters) throws BindFailed{
-		int layoutResourceId = annotation.value();
+	private static final class ActivityLayoutBinding implements Binding {
+		private final int layoutResourceId;
+
+		ActivityLayoutBinding(int layoutResourceId) {
+			this.layoutResourceId = layoutResourceId;
+		}
 
-		if (Activity.class.isAssignableFrom(object.getClass())) {
+		@Override
+		public void bind(Object object, BindContext bindContext) {
 			((Activity) object).setContentView(layoutResourceId);
-		} else if (ViewGroup.class.isAssignableFrom(object.getClass())) {
+		}
+	}
+
+	private static final class ViewGroupLayoutBinding implements Binding {
+		private final int layoutResourceId;
+
+		ViewGroupLayoutBinding(int layoutResourceId) {
+			this.layoutResourceId = layoutResourceId;
+		}
+
+		@Override
+		public void bind(Object object, BindContext bindContext) {
 			ViewGroup viewGroup = (ViewGroup) object;
 			LayoutInflater.from(viewGroup.getContext()).inflate(layoutResourceId, viewGroup);
+		}
+	}
+
+	@Override
+	public Binding prepare(BindLayout annotation, Class<?> annotatedType) throws BindFailed {
+		// Every bound instance is an instance of the annotated type, so the type check is done only once
+		if (Activity.class.isAssignableFrom(annotatedType)) {
+			return new ActivityLayoutBinding(annotation.value());
+		} else if (ViewGroup.class.isAssignableFrom(annotatedType)) {
+			return new ViewGroupLayoutBinding(annotation.value());
 		} else {
-			String baseMessage = "BindLayout is not compatible with " + object.getClass().getName();
+			String baseMessage = "BindLayout is not compatible with " + annotatedType.getName();
 			String message = new ExceptionMessageBuilder(baseMessage)
 					.annotation(BindLayout.class)
 					.suggest("BindLayout only works with Activity or ViewGroup")
-					.bindingInto(object.getClass())
+					.bindingInto(annotatedType)
 					.build();
 
 			throw new BindFailed(message);
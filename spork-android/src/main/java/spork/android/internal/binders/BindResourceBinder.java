@@ -14,90 +14,165 @@ import spork.android.extension.ContextResolver;
 import spork.android.internal.utils.ResourceId;
 import spork.exceptions.BindFailed;
 import spork.exceptions.ExceptionMessageBuilder;
-import spork.extension.FieldBinder;
+import spork.extension.AbstractPreparableFieldBinder;
+import spork.extension.Accessors;
+import spork.extension.BindContext;
+import spork.extension.Binding;
+import spork.extension.FieldAccessor;
+
+public final class BindResourceBinder extends AbstractPreparableFieldBinder<BindResource> {
+	/**
+	 * The Context of the object that is being bound, so it is only resolved once per bind() call.
+	 */
+	private static final BindContext.Key<Context> CONTEXT = new BindContext.Key<>("context");
 
-public final class BindResourceBinder implements FieldBinder<BindResource> {
 	private final ContextResolver contextResolver;
 
 	public BindResourceBinder(ContextResolver contextResolver) {
 		this.contextResolver = contextResolver;
 	}
 
-	@Override
-	public void bind(Object object, BindResource annotation, Field field, Object... parameters) throws BindFailed {
-		Context context;
+	/**
+	 * The supported resource types and their resource type names.
+	 */
+	private enum ResourceType {
+		STRING("string"),
+		DIMENSION("dimen"),
+		DRAWABLE("drawable"),
+		INTEGER("integer"),
+		BOOLEAN("bool");
 
-		try {
-			context = contextResolver.resolveContext(object);
-		} catch (Exception caught) {
-			String message = new ExceptionMessageBuilder("Failed to resolve resource for field")
-					.annotation(BindResource.class)
-					.bindingInto(field)
-					.build();
+		private final String name;
 
-			throw new BindFailed(message, caught);
+		ResourceType(String name) {
+			this.name = name;
 		}
 
-		if (context == null) {
-			String message = new ExceptionMessageBuilder("Failed to retrieve Context from target object")
-					.annotation(BindResource.class)
-					.suggest("make sure you're binding a supported Android object or that it implements " + ContextProvider.class.getName())
-					.suggest("if you're binding a support library class, ensure you added the 'android-support' dependency")
-					.bindingInto(field)
-					.build();
-
-			throw new BindFailed(message);
+		@Nullable
+		static ResourceType from(Class<?> fieldClass) {
+			if (fieldClass == String.class) {
+				return STRING;
+			} else if (fieldClass == Float.class || fieldClass == float.class) {
+				return DIMENSION;
+			} else if (fieldClass == Drawable.class) {
+				return DRAWABLE;
+			} else if (fieldClass == Integer.class || fieldClass == int.class) {
+				return INTEGER;
+			} else if (fieldClass == Boolean.class || fieldClass == boolean.class) {
+				return BOOLEAN;
+			} else {
+				return null;
+			}
 		}
+	}
 
-		Object resource = getResource(context, annotation, field);
-
-		if (resource == null) {
-			String message = new ExceptionMessageBuilder("Resource not found")
-					.annotation(BindResource.class)
-					.bindingInto(field)
-					.build();
-
-			throw new BindFailed(message);
+	private static final class BindResourceBinding implements Binding {
+		private final ContextResolver contextResolver;
+		private final Field field;
+		private final FieldAccessor fieldAccessor;
+		private final ResourceType resourceType;
+		private final int resourceId;
+
+		BindResourceBinding(ContextResolver contextResolver, Field field, ResourceType resourceType, int resourceId) {
+			this.contextResolver = contextResolver;
+			this.field = field;
+			this.fieldAccessor = Accessors.forField(field);
+			this.resourceType = resourceType;
+			this.resourceId = resourceId;
 		}
 
-		try {
-			field.setAccessible(true);
-			field.set(object, resource);
-		} catch (IllegalAccessException caught) {
-			String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
-					.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
-					.annotation(BindResource.class)
-					.bindingInto(field)
-					.build();
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			Context context = bindContext.getAttribute(CONTEXT);
+
+			try {
+				if (context == null) {
+					context = contextResolver.resolveContext(object);
+					bindContext.setAttribute(CONTEXT, context);
+				}
+			} catch (Exception caught) {
+				String message = new ExceptionMessageBuilder("Failed to resolve resource for field")
+						.annotation(BindResource.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
+
+			if (context == null) {
+				String message = new ExceptionMessageBuilder("Failed to retrieve Context from target object")
+						.annotation(BindResource.class)
+						.suggest("make sure you're binding a supported Android object or that it implements " + ContextProvider.class.getName())
+						.suggest("if you're binding a support library class, ensure you added the 'android-support' dependency")
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message);
+			}
+
+			Object resource = getResource(context);
+
+			if (resource == null) {
+				String message = new ExceptionMessageBuilder("Resource not found")
+						.annotation(BindResource.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message);
+			}
+
+			try {
+				fieldAccessor.set(object, resource);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
+						.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
+						.annotation(BindResource.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
+		}
 
-			throw new BindFailed(message, caught);
-		} finally {
-			field.setAccessible(false);
+		// region Resource get methods
+
+		@SuppressWarnings("deprecation")
+		@Nullable
+		private Object getResource(Context context) {
+			int id = resourceId;
+
+			if (id == ResourceId.NONE) {
+				id = context.getResources().getIdentifier(field.getName(), resourceType.name, context.getPackageName());
+			}
+
+			switch (resourceType) {
+				case STRING:
+					return context.getResources().getString(id);
+				case DIMENSION:
+					return context.getResources().getDimension(id);
+				case DRAWABLE:
+					if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+						return context.getResources().getDrawable(id);
+					} else {
+						return context.getDrawable(id);
+					}
+				case INTEGER:
+					return context.getResources().getInteger(id);
+				case BOOLEAN:
+					return context.getResources().getBoolean(id);
+				default:
+					return null;
+			}
 		}
+
+		// endregion
 	}
 
 	@Override
-	public Class<BindResource> getAnnotationClass() {
-		return BindResource.class;
-	}
+	public Binding prepare(BindResource annotation, Field field) throws BindFailed {
+		ResourceType resourceType = ResourceType.from(field.getType());
 
-	// region Resource get methods
-
-	@Nullable
-	private Object getResource(Context context, BindResource annotation, Field field) throws BindFailed {
-		Class<?> fieldClass = field.getType();
-
-		if (fieldClass == String.class) {
-			return getString(context, annotation, field);
-		} else if (fieldClass == Float.class || fieldClass == float.class) {
-			return getDimension(context, annotation, field);
-		} else if (fieldClass == Drawable.class) {
-			return getDrawable(context, annotation, field);
-		} else if (fieldClass == Integer.class || fieldClass == int.class) {
-			return getInteger(context, annotation, field);
-		} else if (fieldClass == Boolean.class || fieldClass == boolean.class) {
-			return getBoolean(context, annotation, field);
-		} else {
+		if (resourceType == null) {
 			String message = new ExceptionMessageBuilder("Unsupported field type: " + field.getType().getName())
 					.annotation(BindResource.class)
 					.bindingInto(field)
@@ -105,64 +180,12 @@ public final class BindResourceBinder implements FieldBinder<BindResource> {
 
 			throw new BindFailed(message);
 		}
-	}
-
-	@Nullable
-	private String getString(Context context, BindResource annotation, Field field) {
-		int resourceId = annotation.value();
 
-		if (resourceId == ResourceId.NONE) {
-			resourceId = context.getResources().getIdentifier(field.getName(), "string", context.getPackageName());
-		}
-
-		return context.getResources().getString(resourceId);
-	}
-
-	private float getDimension(Context context, BindResource annotation, Field field) {
-		int resourceId = annotation.value();
-
-		if (resourceId == ResourceId.NONE) {
-			resourceId = context.getResources().getIdentifier(field.getName(), "dimen", context.getPackageName());
-		}
-
-		return context.getResources().getDimension(resourceId);
-	}
-
-	@SuppressWarnings("deprecation")
-	@Nullable
-	private Drawable getDrawable(Context context, BindResource annotation, Field field) {
-		int resourceId = annotation.value();
-
-		if (resourceId == ResourceId.NONE) {
-			resourceId = context.getResources().getIdentifier(field.getName(), "drawable", context.getPackageName());
-		}
-
-		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
-			return context.getResources().getDrawable(resourceId);
-		} else {
-			return context.getDrawable(resourceId);
-		}
+		return new BindResourceBinding(contextResolver, field, resourceType, annotation.value());
 	}
 
-	private int getInteger(Context context, BindResource annotation, Field field) {
-		int resourceId = annotation.value();
-
-		if (resourceId == ResourceId.NONE) {
-			resourceId = context.getResources().getIdentifier(field.getName(), "integer", context.getPackageName());
-		}
-
-		return context.getResources().getInteger(resourceId);
-	}
-
-	private boolean getBoolean(Context context, BindResource annotation, Field field) {
-		int resourceId = annotation.value();
-
-		if (resourceId == ResourceId.NONE) {
-			resourceId = context.getResources().getIdentifier(field.getName(), "bool", context.getPackageName());
-		}
-
-		return context.getResources().getBoolean(resourceId);
+	@Override
+	public Class<BindResource> getAnnotationClass() {
+		return BindResource.class;
 	}
-
-	// endregion
-}
\ No newline at end of file
+}
@@ -9,17 +9,75 @@ import spork.android.extension.ViewResolver;
 import spork.android.internal.utils.Views;
 import spork.exceptions.BindFailed;
 import spork.exceptions.ExceptionMessageBuilder;
-import spork.extension.FieldBinder;
+import spork.extension.AbstractPreparableFieldBinder;
+import spork.extension.Accessors;
+import spork.extension.BindContext;
+import spork.extension.Binding;
+import spork.extension.FieldAccessor;
+import spork.extension.UnbindableBinding;
+import spork.extension.VolatileBinder;
 
-public final class BindViewBinder implements FieldBinder<BindView> {
+public final class BindViewBinder extends AbstractPreparableFieldBinder<BindView> implements VolatileBinder {
 	private final ViewResolver viewResolver;
 
 	public BindViewBinder(ViewResolver viewResolver) {
 		this.viewResolver = viewResolver;
 	}
 
+	private static final class BindViewBinding implements UnbindableBinding {
+		private final ViewResolver viewResolver;
+		private final Field field;
+		private final FieldAccessor fieldAccessor;
+		private final int viewId;
+
+		BindViewBinding(ViewResolver viewResolver, Field field, int viewId) {
+			this.viewResolver = viewResolver;
+			this.field = field;
+			this.fieldAccessor = Accessors.forField(field);
+			this.viewId = viewId;
+		}
+
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			try {
+				View view = Views.getView(viewResolver, viewId, field.getName(), object, bindContext);
+
+				fieldAccessor.set(object, view);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
+						.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
+						.annotation(BindView.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			} catch (Exception caught) {
+				String message = new ExceptionMessageBuilder("Failed to resolve View")
+						.annotation(BindView.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
+		}
+
+		@Override
+		public void unbind(Object object, BindContext bindContext) throws BindFailed {
+			try {
+				fieldAccessor.set(object, null);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
+						.annotation(BindView.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
+		}
+	}
+
 	@Override
-	public void bind(Object object, BindView annotation, Field field, Object... parameters) throws BindFailed {
+	public Binding prepare(BindView annotation, Field field) throws BindFailed {
 		if (!View.class.isAssignableFrom(field.getType())) {
 			String message = new ExceptionMessageBuilder("Field is not a View")
 					.annotation(BindView.class)
@@ -28,33 +86,11 @@ public final class BindViewBinder implements FieldBinder<BindView> {
 			throw new BindFailed(message);
 		}
 
-		try {
-			View view = Views.getView(viewResolver, annotation.value(), field.getName(), object);
-
-			field.setAccessible(true);
-			field.set(object, view);
-		} catch (IllegalAccessException caught) {
-			String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
-					.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
-					.annotation(BindView.class)
-					.bindingInto(field)
-					.build();
-
-			throw new BindFailed(message, caught);
-		} catch (Exception caught) {
-			String message = new ExceptionMessageBuilder("Failed to resolve View")
-					.annotation(BindView.class)
-					.bindingInto(field)
-					.build();
-
-			throw new BindFailed(message, caught);
-		} finally {
-			field.setAccessible(false);
-		}
+		return new BindViewBinding(viewResolver, field, annotation.value());
 	}
 
 	@Override
 	public Class<BindView> getAnnotationClass() {
 		return BindView.class;
 	}
-}
\ No newline at end of file
+}
@@ -3,9 +3,16 @@ package spork.android.internal.utils;
 import android.content.Context;
 import android.view.View;
 
+import javax.annotation.Nullable;
+
 import spork.android.extension.ViewResolver;
+import spork.extension.BindContext;
 
 public final class Views {
+	/**
+	 * The root View of the object that is being bound, so it is only resolved once per bind() call.
+	 */
+	private static final BindContext.Key<View> ROOT_VIEW = new BindContext.Key<>("rootView");
 
 	private Views() {
 	}
@@ -15,10 +22,11 @@ public final class Views {
 	 * @param viewId       R.id.* value or ResourceId.NONE
 	 * @param nameFallback used when ResourceId.NONE is set, this name will be used to resolve R.id.namefallback
 	 * @param object       any Activity, Fragment or View (including support library types)
+	 * @param bindContext  the context of the current bind() call that holds the resolved root View
 	 * @return the found View
 	 */
-	public static View getView(ViewResolver viewResolver, int viewId, String nameFallback, Object object) throws Exception {
-		View rootView = viewResolver.resolveView(object);
+	public static View getView(ViewResolver viewResolver, int viewId, String nameFallback, Object object, BindContext bindContext) throws Exception {
+		View rootView = getRootView(viewResolver, object, bindContext);
 		if (rootView == null) {
 			throw new Exception("cannot resolve View from " + object.getClass().getName());
 		}
@@ -43,4 +51,16 @@ public final class Views {
 
 		return view;
 	}
+
+	@Nullable
+	private static View getRootView(ViewResolver viewResolver, Object object, BindContext bindContext) throws Exception {
+		View rootView = bindContext.getAttribute(ROOT_VIEW);
+
+		if (rootView == null) {
+			rootView = viewResolver.resolveView(object);
+			bindContext.setAttribute(ROOT_VIEW, rootView);
+		}
+
+		return rootView;
+	}
 }
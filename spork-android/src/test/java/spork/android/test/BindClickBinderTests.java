@@ -0,0 +1,77 @@
+package spork.android.test;
+
+import android.view.View;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import spork.android.BindClick;
+import spork.android.extension.ViewResolver;
+import spork.android.internal.binders.BindClickBinder;
+import spork.exceptions.BindFailed;
+import spork.extension.BindContexts;
+import spork.extension.Binding;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BindClickBinderTests {
+
+	private static class Target {
+		@BindClick(1)
+		void onClick(View view) {
+		}
+
+		@BindClick(1)
+		void onClickWithInvalidArguments(View view, int invalid) {
+		}
+	}
+
+	@Test
+	public void prepare() throws Exception {
+		BindClickBinder binder = new BindClickBinder(mock(ViewResolver.class));
+		Method method = Target.class.getDeclaredMethod("onClick", View.class);
+
+		assertNotNull(binder.prepare(method.getAnnotation(BindClick.class), method));
+	}
+
+	@Test
+	public void listenerIsReusedForTheSameObject() throws Exception {
+		Target target = new Target();
+		View view = mock(View.class);
+		View rootView = mock(View.class);
+		when(rootView.findViewById(1)).thenReturn(view);
+		ViewResolver viewResolver = mock(ViewResolver.class);
+		when(viewResolver.resolveView(any())).thenReturn(rootView);
+		Method method = Target.class.getDeclaredMethod("onClick", View.class);
+		Binding binding = new BindClickBinder(viewResolver).prepare(method.getAnnotation(BindClick.class), method);
+
+		binding.bind(target, BindContexts.create());
+		binding.bind(target, BindContexts.create());
+		binding.bind(new Target(), BindContexts.create());
+
+		ArgumentCaptor<View.OnClickListener> listenerCaptor = ArgumentCaptor.forClass(View.OnClickListener.class);
+		verify(view, times(3)).setOnClickListener(listenerCaptor.capture());
+		List<View.OnClickListener> listeners = listenerCaptor.getAllValues();
+		assertThat(listeners.get(1), sameInstance(listeners.get(0)));
+		assertThat(listeners.get(2), not(sameInstance(listeners.get(0))));
+	}
+
+	@Test(expected = BindFailed.class)
+	public void prepareFailsForInvalidArguments() throws Exception {
+		BindClickBinder binder = new BindClickBinder(mock(ViewResolver.class));
+		Method method = Target.class.getDeclaredMethod("onClickWithInvalidArguments", View.class, int.class);
+
+		binder.prepare(method.getAnnotation(BindClick.class), method);
+	}
+}
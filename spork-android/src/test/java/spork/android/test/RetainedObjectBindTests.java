@@ -0,0 +1,64 @@
+package spork.android.test;
+
+import android.view.View;
+
+import org.junit.Test;
+
+import spork.SporkInstance;
+import spork.android.BindClick;
+import spork.android.BindView;
+import spork.android.extension.ViewResolver;
+import spork.android.internal.binders.BindClickBinder;
+import spork.android.internal.binders.BindViewBinder;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A retained object (e.g. a retained Fragment) outlives its View hierarchy,
+ * so a tracked re-bind must bind it to the new hierarchy.
+ */
+public class RetainedObjectBindTests {
+
+	private static class RetainedTarget {
+		@BindView(1)
+		View view;
+
+		@BindClick(1)
+		void onClick() {
+		}
+	}
+
+	@Test
+	public void rebindUsesNewViews() throws Exception {
+		RetainedTarget target = new RetainedTarget();
+		View firstView = mock(View.class);
+		View secondView = mock(View.class);
+		View firstRootView = createRootView(firstView);
+		View secondRootView = createRootView(secondView);
+		ViewResolver viewResolver = mock(ViewResolver.class);
+		when(viewResolver.resolveView(target)).thenReturn(firstRootView, secondRootView);
+
+		SporkInstance spork = new SporkInstance();
+		spork.trackBoundObjects();
+		spork.register(new BindViewBinder(viewResolver));
+		spork.register(new BindClickBinder(viewResolver));
+
+		spork.bind(target);
+		assertThat(target.view, sameInstance(firstView));
+
+		spork.bind(target);
+		assertThat(target.view, sameInstance(secondView));
+		verify(secondView).setOnClickListener(any(View.OnClickListener.class));
+	}
+
+	private static View createRootView(View childView) {
+		View rootView = mock(View.class);
+		when(rootView.findViewById(1)).thenReturn(childView);
+		return rootView;
+	}
+}
@@ -0,0 +1,54 @@
+package spork.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the binding index: a resource that lists all classes with Spork annotations.
+ *
+ * Each line holds the binary name of a class, followed by its annotated members separated by spaces:
+ * "type" for a type annotation, "field:name" for a field and "method:name" for a method.
+ * Classes with a generated binder are marked with "binder", so that Spork only looks up the generated
+ * binders that exist.
+ * The resource format is read by spork.internal.BindingIndex.
+ */
+final class BindingIndexWriter {
+	static final String RESOURCE_NAME = "META-INF/spork.index";
+
+	void write(Map<String, BindingTarget> targets, Writer writer) throws IOException {
+		writer.write("# Generated by spork-compiler. Do not modify!\n");
+
+		for (Map.Entry<String, BindingTarget> entry : targets.entrySet()) {
+			BindingTarget target = entry.getValue();
+			// A member with multiple annotations is listed once
+			Set<String> members = new LinkedHashSet<>();
+
+			if (target.isGeneratable()) {
+				members.add("binder");
+			}
+
+			if (!target.getTypeAnnotations().isEmpty()) {
+				members.add("type");
+			}
+
+			for (BindingTarget.Member field : GeneratedBinderWriter.sorted(target.getFields())) {
+				members.add("field:" + field.getName());
+			}
+
+			for (BindingTarget.Member method : GeneratedBinderWriter.sorted(target.getMethods())) {
+				members.add("method:" + method.getName());
+			}
+
+			writer.write(entry.getKey());
+
+			for (String member : members) {
+				writer.write(" " + member);
+			}
+
+			writer.write("\n");
+		}
+	}
+}
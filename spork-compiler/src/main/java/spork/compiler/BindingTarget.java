@@ -0,0 +1,100 @@
+package spork.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Holds all annotated members of a single class that a binder is generated for.
+ */
+final class BindingTarget {
+	private final TypeElement typeElement;
+	private final List<String> typeAnnotations = new ArrayList<>(1);
+	private final List<Member> fields = new ArrayList<>();
+	private final List<Member> methods = new ArrayList<>();
+	private boolean generatable = true;
+
+	/**
+	 * An annotated field or method.
+	 */
+	static final class Member {
+		private final String name;
+		private final List<String> parameterTypes;
+		private final String annotationName;
+		private final int index;
+
+		/**
+		 * @param name the field or method name
+		 * @param parameterTypes the erased canonical parameter type names (empty for fields)
+		 * @param annotationName the canonical name of the annotation
+		 * @param index the position of the member in the declaring class
+		 */
+		Member(String name, List<String> parameterTypes, String annotationName, int index) {
+			this.name = name;
+			this.parameterTypes = parameterTypes;
+			this.annotationName = annotationName;
+			this.index = index;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		List<String> getParameterTypes() {
+			return parameterTypes;
+		}
+
+		String getAnnotationName() {
+			return annotationName;
+		}
+
+		int getIndex() {
+			return index;
+		}
+	}
+
+	BindingTarget(TypeElement typeElement) {
+		this.typeElement = typeElement;
+	}
+
+	TypeElement getTypeElement() {
+		return typeElement;
+	}
+
+	void addTypeAnnotation(String annotationName) {
+		typeAnnotations.add(annotationName);
+	}
+
+	void addField(Member member) {
+		fields.add(member);
+	}
+
+	void addMethod(Member member) {
+		methods.add(member);
+	}
+
+	List<String> getTypeAnnotations() {
+		return typeAnnotations;
+	}
+
+	List<Member> getFields() {
+		return fields;
+	}
+
+	List<Member> getMethods() {
+		return methods;
+	}
+
+	/**
+	 * Mark this target as one that cannot be generated (e.g. because a method parameter type is not accessible).
+	 * Spork falls back to reflection for such classes.
+	 */
+	void setNotGeneratable() {
+		generatable = false;
+	}
+
+	boolean isGeneratable() {
+		return generatable;
+	}
+}
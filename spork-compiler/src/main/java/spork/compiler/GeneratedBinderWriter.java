@@ -0,0 +1,100 @@
+package spork.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes the source code of a spork.internal.GeneratedBinder implementation for a {@link BindingTarget}.
+ */
+final class GeneratedBinderWriter {
+	static final String CLASS_NAME_SUFFIX = "_SporkBinder";
+
+	private static final Comparator<BindingTarget.Member> MEMBER_ORDER = new Comparator<BindingTarget.Member>() {
+		@Override
+		public int compare(BindingTarget.Member first, BindingTarget.Member second) {
+			return first.getIndex() < second.getIndex() ? -1 : (first.getIndex() == second.getIndex() ? 0 : 1);
+		}
+	};
+
+	private final String packageName;
+	private final String className;
+	private final List<String> coveredAnnotations;
+
+	/**
+	 * @param packageName the package of the target class (empty for the default package)
+	 * @param className the simple name of the class to generate
+	 * @param coveredAnnotations the canonical names of all annotations that the processor looked for
+	 */
+	GeneratedBinderWriter(String packageName, String className, List<String> coveredAnnotations) {
+		this.packageName = packageName;
+		this.className = className;
+		this.coveredAnnotations = coveredAnnotations;
+	}
+
+	void write(BindingTarget target, Writer writer) throws IOException {
+		writer.write("// Generated by spork-compiler. Do not modify!\n");
+
+		if (!packageName.isEmpty()) {
+			writer.write("package " + packageName + ";\n\n");
+		}
+
+		writer.write("public final class " + className + " implements spork.internal.GeneratedBinder {\n\n");
+		writeCovers(writer);
+		writer.write("\n");
+		writeCollect(target, writer);
+		writer.write("}\n");
+	}
+
+	private void writeCovers(Writer writer) throws IOException {
+		writer.write("\t@Override\n");
+		writer.write("\tpublic boolean covers(Class<? extends java.lang.annotation.Annotation> annotationClass) {\n");
+		writer.write("\t\treturn ");
+
+		for (int i = 0; i < coveredAnnotations.size(); ++i) {
+			if (i > 0) {
+				writer.write("\n\t\t\t\t|| ");
+			}
+
+			writer.write("annotationClass == " + coveredAnnotations.get(i) + ".class");
+		}
+
+		writer.write(";\n");
+		writer.write("\t}\n");
+	}
+
+	private void writeCollect(BindingTarget target, Writer writer) throws IOException {
+		writer.write("\t@Override\n");
+		writer.write("\tpublic void collect(Class<?> type, Collector collector) throws NoSuchFieldException, NoSuchMethodException {\n");
+
+		for (String annotationName : target.getTypeAnnotations()) {
+			writer.write("\t\tcollector.addType(" + annotationName + ".class);\n");
+		}
+
+		for (BindingTarget.Member field : sorted(target.getFields())) {
+			writer.write("\t\tcollector.addField(type.getDeclaredField(\"" + field.getName() + "\"), "
+					+ field.getAnnotationName() + ".class);\n");
+		}
+
+		for (BindingTarget.Member method : sorted(target.getMethods())) {
+			writer.write("\t\tcollector.addMethod(type.getDeclaredMethod(\"" + method.getName() + "\"");
+
+			for (String parameterType : method.getParameterTypes()) {
+				writer.write(", " + parameterType + ".class");
+			}
+
+			writer.write("), " + method.getAnnotationName() + ".class);\n");
+		}
+
+		writer.write("\t}\n");
+	}
+
+	static List<BindingTarget.Member> sorted(List<BindingTarget.Member> members) {
+		List<BindingTarget.Member> result = new ArrayList<>(members);
+		Collections.sort(result, MEMBER_ORDER);
+		return result;
+	}
+}
@@ -0,0 +1,254 @@
+package spork.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates a spork.internal.GeneratedBinder for every class that
+ * holds one or more of the built-in Spork annotations.
+ *
+ * Spork uses the generated binders to find annotated members without scanning all declared members
+ * of a class through reflection. The generated code doesn't bind: binders are registered at runtime,
+ * so the members are still bound by the registered binders. Classes without a generated binder are
+ * scanned through reflection.
+ *
+ * The processor also writes a binding index resource (META-INF/spork.index) that lists all classes
+ * with Spork annotations. When multiple Android modules use the processor, the index files must be
+ * merged when packaging the app: {@code packagingOptions { merge 'META-INF/spork.index' }}
+ */
+public final class SporkProcessor extends AbstractProcessor {
+	static final List<String> SUPPORTED_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+			"javax.inject.Inject",
+			"spork.android.BindLayout",
+			"spork.android.BindView",
+			"spork.android.BindFragment",
+			"spork.android.BindResource",
+			"spork.android.BindClick"
+	));
+
+	// The index is written after the last round, so it holds the targets of all rounds (sorted by binary name)
+	private final Map<String, BindingTarget> indexedTargets = new TreeMap<>();
+	private final List<Element> indexedElements = new ArrayList<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return new LinkedHashSet<>(SUPPORTED_ANNOTATIONS);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		if (roundEnvironment.processingOver()) {
+			if (!indexedTargets.isEmpty()) {
+				writeIndex();
+			}
+
+			return false;
+		}
+
+		List<String> coveredAnnotations = new ArrayList<>(SUPPORTED_ANNOTATIONS.size());
+		Map<TypeElement, BindingTarget> targets = new LinkedHashMap<>();
+
+		for (String annotationName : SUPPORTED_ANNOTATIONS) {
+			TypeElement annotationElement = processingEnv.getElementUtils().getTypeElement(annotationName);
+
+			// Annotations of libraries that are not on the classpath can't be used in the processed sources
+			if (annotationElement == null) {
+				continue;
+			}
+
+			coveredAnnotations.add(annotationName);
+
+			for (Element element : roundEnvironment.getElementsAnnotatedWith(annotationElement)) {
+				collect(element, annotationName, targets);
+			}
+		}
+
+		for (BindingTarget target : targets.values()) {
+			if (target.isGeneratable()) {
+				write(target, coveredAnnotations);
+			}
+
+			TypeElement typeElement = target.getTypeElement();
+			indexedTargets.put(processingEnv.getElementUtils().getBinaryName(typeElement).toString(), target);
+			indexedElements.add(typeElement);
+		}
+
+		return false;
+	}
+
+	// region Collecting annotated members
+
+	private void collect(Element element, String annotationName, Map<TypeElement, BindingTarget> targets) {
+		if (element.getKind() == ElementKind.CLASS) {
+			TypeElement typeElement = (TypeElement) element;
+			if (isSupportedClass(typeElement)) {
+				getTarget(typeElement, targets).addTypeAnnotation(annotationName);
+			}
+		} else if (element.getKind() == ElementKind.FIELD) {
+			TypeElement typeElement = (TypeElement) element.getEnclosingElement();
+			if (isSupportedClass(typeElement)) {
+				List<String> parameterTypes = Collections.emptyList();
+				BindingTarget.Member member = createMember(element, parameterTypes, annotationName);
+				getTarget(typeElement, targets).addField(member);
+			}
+		} else if (element.getKind() == ElementKind.METHOD) {
+			TypeElement typeElement = (TypeElement) element.getEnclosingElement();
+			if (isSupportedClass(typeElement)) {
+				collectMethod((ExecutableElement) element, annotationName, getTarget(typeElement, targets));
+			}
+		}
+		// Other element kinds (e.g. @Inject constructors) are not bound by Spork
+	}
+
+	private void collectMethod(ExecutableElement method, String annotationName, BindingTarget target) {
+		List<String> parameterTypes = new ArrayList<>(method.getParameters().size());
+
+		for (VariableElement parameter : method.getParameters()) {
+			TypeMirror parameterType = processingEnv.getTypeUtils().erasure(parameter.asType());
+
+			if (!isAccessibleFrom(parameterType, target.getTypeElement())) {
+				String message = "Spork binder not generated because a parameter type is not accessible: "
+						+ parameterType.toString();
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, method);
+				target.setNotGeneratable();
+				// The method is still listed in the binding index
+				break;
+			}
+
+			parameterTypes.add(parameterType.toString());
+		}
+
+		target.addMethod(createMember(method, parameterTypes, annotationName));
+	}
+
+	private static BindingTarget.Member createMember(Element element, List<String> parameterTypes, String annotationName) {
+		int index = element.getEnclosingElement().getEnclosedElements().indexOf(element);
+		return new BindingTarget.Member(element.getSimpleName().toString(), parameterTypes, annotationName, index);
+	}
+
+	private static BindingTarget getTarget(TypeElement typeElement, Map<TypeElement, BindingTarget> targets) {
+		BindingTarget target = targets.get(typeElement);
+
+		if (target == null) {
+			target = new BindingTarget(typeElement);
+			targets.put(typeElement, target);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Only top-level and member classes can be found by name at runtime.
+	 */
+	private static boolean isSupportedClass(TypeElement typeElement) {
+		NestingKind nestingKind = typeElement.getNestingKind();
+		return typeElement.getKind() == ElementKind.CLASS
+				&& (nestingKind == NestingKind.TOP_LEVEL || nestingKind == NestingKind.MEMBER);
+	}
+
+	/**
+	 * Check whether a (parameter) type can be referenced from a class that lives in the same package as the target.
+	 */
+	private boolean isAccessibleFrom(TypeMirror type, TypeElement target) {
+		if (type.getKind() == TypeKind.ARRAY) {
+			return isAccessibleFrom(((ArrayType) type).getComponentType(), target);
+		} else if (type.getKind() != TypeKind.DECLARED) {
+			return type.getKind().isPrimitive();
+		}
+
+		PackageElement targetPackage = processingEnv.getElementUtils().getPackageOf(target);
+		Element element = ((DeclaredType) type).asElement();
+
+		while (element instanceof TypeElement) {
+			Set<Modifier> modifiers = element.getModifiers();
+			boolean samePackage = processingEnv.getElementUtils().getPackageOf(element).equals(targetPackage);
+
+			if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+				return false;
+			}
+
+			element = element.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	// endregion
+
+	// region Writing generated binders
+
+	private void write(BindingTarget target, List<String> coveredAnnotations) {
+		TypeElement typeElement = target.getTypeElement();
+		String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+		String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+		String className = simpleBinaryName + GeneratedBinderWriter.CLASS_NAME_SUFFIX;
+		String qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedClassName, typeElement);
+
+			try (Writer writer = sourceFile.openWriter()) {
+				new GeneratedBinderWriter(packageName, className, coveredAnnotations).write(target, writer);
+			}
+		} catch (IOException caught) {
+			String message = "Failed to write " + qualifiedClassName + ": " + caught.getMessage();
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, typeElement);
+		}
+	}
+
+	// endregion
+
+	// region Writing the binding index
+
+	private void writeIndex() {
+		Element[] originatingElements = indexedElements.toArray(new Element[indexedElements.size()]);
+
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", BindingIndexWriter.RESOURCE_NAME, originatingElements);
+
+			try (Writer writer = resource.openWriter()) {
+				new BindingIndexWriter().write(indexedTargets, writer);
+			}
+		} catch (IOException caught) {
+			String message = "Failed to write " + BindingIndexWriter.RESOURCE_NAME + ": " + caught.getMessage();
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message);
+		}
+	}
+
+	// endregion
+}
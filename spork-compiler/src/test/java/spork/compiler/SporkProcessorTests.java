@@ -0,0 +1,222 @@
+package spork.compiler;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import spork.internal.GeneratedBinder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SporkProcessorTests {
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File sourceDirectory;
+	private File outputDirectory;
+
+	private static final class RecordingCollector implements GeneratedBinder.Collector {
+		private final List<String> entries = new ArrayList<>();
+
+		@Override
+		public void addType(Class<? extends Annotation> annotationClass) {
+			entries.add("type:" + annotationClass.getSimpleName());
+		}
+
+		@Override
+		public void addField(Field field, Class<? extends Annotation> annotationClass) {
+			entries.add("field:" + field.getName() + ":" + annotationClass.getSimpleName());
+		}
+
+		@Override
+		public void addMethod(Method method, Class<? extends Annotation> annotationClass) {
+			entries.add("method:" + method.getName() + ":" + annotationClass.getSimpleName());
+		}
+	}
+
+	@Before
+	public void setup() throws IOException {
+		sourceDirectory = temporaryFolder.newFolder("src");
+		outputDirectory = temporaryFolder.newFolder("out");
+
+		// Minimal versions of the spork-android annotations, so this module doesn't depend on Android
+		writeSource("spork/android/BindLayout.java", "package spork.android;\n"
+				+ "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+				+ "public @interface BindLayout { int value(); }\n");
+		writeSource("spork/android/BindView.java", "package spork.android;\n"
+				+ "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+				+ "public @interface BindView { int value() default 0; }\n");
+		writeSource("spork/android/BindClick.java", "package spork.android;\n"
+				+ "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+				+ "public @interface BindClick { int value() default 0; }\n");
+	}
+
+	@Test
+	public void generateBinder() throws Exception {
+		writeSource("test/Target.java", "package test;\n"
+				+ "@spork.android.BindLayout(1)\n"
+				+ "public class Target {\n"
+				+ "	@javax.inject.Inject private String first;\n"
+				+ "	@spork.android.BindView private Object second;\n"
+				+ "	@javax.inject.Inject static String third;\n"
+				+ "	@spork.android.BindClick private void onClick(Object view) {}\n"
+				+ "	@javax.inject.Inject void onInject(int value, String[] values) {}\n"
+				+ "}\n");
+
+		compile();
+
+		assertThat(collect("test.Target"), is(Arrays.asList(
+				"type:BindLayout",
+				"field:first:Inject",
+				"field:second:BindView",
+				"field:third:Inject",
+				"method:onClick:BindClick",
+				"method:onInject:Inject")));
+	}
+
+	@Test
+	public void generateBinderForNestedClass() throws Exception {
+		writeSource("test/Outer.java", "package test;\n"
+				+ "public class Outer {\n"
+				+ "	private static class Inner {\n"
+				+ "		@javax.inject.Inject private String value;\n"
+				+ "	}\n"
+				+ "}\n");
+
+		compile();
+
+		assertThat(collect("test.Outer$Inner"), is(Collections.singletonList("field:value:Inject")));
+		assertThat(new File(outputDirectory, "test/Outer_SporkBinder.class").exists(), is(false));
+	}
+
+	@Test
+	public void coveredAnnotations() throws Exception {
+		writeSource("test/Target.java", "package test;\n"
+				+ "public class Target {\n"
+				+ "	@javax.inject.Inject private String value;\n"
+				+ "}\n");
+
+		compile();
+
+		GeneratedBinder binder = loadBinder("test.Target");
+		assertThat(binder.covers(javax.inject.Inject.class), is(true));
+		assertThat(binder.covers(Deprecated.class), is(false));
+	}
+
+	@Test
+	public void inaccessibleParameterTypeSkipsGeneration() throws Exception {
+		writeSource("test/Target.java", "package test;\n"
+				+ "public class Target {\n"
+				+ "	private static class Hidden {}\n"
+				+ "	@javax.inject.Inject void onInject(Hidden hidden) {}\n"
+				+ "}\n");
+
+		compile();
+
+		assertThat(new File(outputDirectory, "test/Target_SporkBinder.class").exists(), is(false));
+	}
+
+	@Test
+	public void writeIndex() throws Exception {
+		writeSource("test/Target.java", "package test;\n"
+				+ "@spork.android.BindLayout(1)\n"
+				+ "public class Target {\n"
+				+ "	@javax.inject.Inject @spork.android.BindView private Object value;\n"
+				+ "	@spork.android.BindClick private void onClick() {}\n"
+				+ "	private static class Hidden {}\n"
+				+ "	static class Inner {\n"
+				+ "		@javax.inject.Inject void onInject(Hidden hidden) {}\n"
+				+ "	}\n"
+				+ "}\n");
+		writeSource("test/Plain.java", "package test;\n"
+				+ "public class Plain {\n"
+				+ "	private Object value;\n"
+				+ "}\n");
+
+		compile();
+
+		File indexFile = new File(outputDirectory, BindingIndexWriter.RESOURCE_NAME);
+		List<String> lines = Files.readAllLines(indexFile.toPath(), StandardCharsets.UTF_8);
+		assertThat(lines, is(Arrays.asList(
+				"# Generated by spork-compiler. Do not modify!",
+				"test.Target binder type field:value method:onClick",
+				"test.Target$Inner method:onInject")));
+	}
+
+	private void writeSource(String path, String source) throws IOException {
+		File file = new File(sourceDirectory, path);
+		assertThat(file.getParentFile().mkdirs() || file.getParentFile().isDirectory(), is(true));
+		Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void compile() throws IOException {
+		List<File> sourceFiles = new ArrayList<>();
+		collectSources(sourceDirectory, sourceFiles);
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sourceFiles);
+			List<String> options = Arrays.asList(
+					"-classpath", System.getProperty("java.class.path"),
+					"-d", outputDirectory.getAbsolutePath(),
+					"-s", outputDirectory.getAbsolutePath());
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+			task.setProcessors(Collections.singletonList(new SporkProcessor()));
+
+			assertThat(task.call(), is(true));
+		}
+	}
+
+	private static void collectSources(File directory, List<File> sourceFiles) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+
+		for (File file : files) {
+			if (file.isDirectory()) {
+				collectSources(file, sourceFiles);
+			} else if (file.getName().endsWith(".java")) {
+				sourceFiles.add(file);
+			}
+		}
+	}
+
+	private GeneratedBinder loadBinder(String targetClassName) throws Exception {
+		ClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+		Class<?> binderClass = classLoader.loadClass(targetClassName + GeneratedBinderWriter.CLASS_NAME_SUFFIX);
+		return (GeneratedBinder) binderClass.newInstance();
+	}
+
+	private List<String> collect(String targetClassName) throws Exception {
+		ClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+		Class<?> targetClass = classLoader.loadClass(targetClassName);
+		Class<?> binderClass = classLoader.loadClass(targetClassName + GeneratedBinderWriter.CLASS_NAME_SUFFIX);
+		GeneratedBinder binder = (GeneratedBinder) binderClass.newInstance();
+
+		RecordingCollector collector = new RecordingCollector();
+		binder.collect(targetClass, collector);
+		return collector.entries;
+	}
+}
@@ -8,15 +8,16 @@ import spork.SporkInstance;
 public interface ObjectGraph {
 
 	/**
-	 * A shortcut to Spork.bind(Object, ObjectGraph).
-	 * This binds all known annotations for the shared SporkInstance instance including spork-inject.
+	 * A shortcut to Spork.bind(Object, SporkInject.INJECT_ONLY, ObjectGraph).
+	 * This only binds the @Inject annotations for the shared SporkInstance instance.
+	 * Use Spork.bind(Object, ObjectGraph) to bind all known annotations (e.g. views) and inject at once.
 	 * @param object the object to bind
 	 */
 	void inject(Object object);
 
 	/**
-	 * A shortcut to spork.getBinder().bind(Object, ObjectGraph)
-	 * This binds all known annotations for the given SporkInstance instance including spork-inject.
+	 * A shortcut to spork.bind(Object, SporkInject.INJECT_ONLY, ObjectGraph)
+	 * This only binds the @Inject annotations for the given SporkInstance instance.
 	 * @param object the object to bind
 	 */
 	void inject(Object object, SporkInstance sporkInstance);
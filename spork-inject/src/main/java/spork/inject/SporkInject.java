@@ -1,20 +1,43 @@
 package spork.inject;
 
+import javax.inject.Inject;
+
+import spork.BindScope;
 import spork.SporkInstance;
+import spork.extension.BinderFactory;
+import spork.extension.FieldBinder;
+import spork.extension.MethodBinder;
 import spork.inject.internal.InjectFieldBinder;
 import spork.inject.internal.InjectMethodBinder;
 import spork.SporkExtension;
 
 /**
- * This class is automatically instantiated and initialized by the static Spork class.
+ * This class is automatically instantiated and initialized by the static Spork class,
+ * because it is listed in META-INF/services/spork.SporkExtension.
  *
  * If you create your own SporkInstance, you need to register an extension manually.
  */
 public final class SporkInject implements SporkExtension {
+	/**
+	 * The scope that only includes @Inject bindings.
+	 * {@link ObjectGraph#inject(Object)} binds with this scope.
+	 */
+	public static final BindScope INJECT_ONLY = BindScope.of(Inject.class);
 
 	@Override
 	public void initialize(SporkInstance spork) {
-		spork.register(new InjectFieldBinder());
-		spork.register(new InjectMethodBinder());
+		// The binders are created when the first class with an @Inject annotation is bound
+		spork.registerFieldBinder(Inject.class, new BinderFactory<FieldBinder<Inject>>() {
+			@Override
+			public FieldBinder<Inject> create() {
+				return new InjectFieldBinder();
+			}
+		});
+		spork.registerMethodBinder(Inject.class, new BinderFactory<MethodBinder<Inject>>() {
+			@Override
+			public MethodBinder<Inject> create() {
+				return new InjectMethodBinder();
+			}
+		});
 	}
 }
@@ -1,6 +1,7 @@
 package spork.inject.internal;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 
 import javax.inject.Inject;
@@ -8,92 +9,149 @@ import javax.inject.Provider;
 
 import spork.exceptions.BindFailed;
 import spork.exceptions.ExceptionMessageBuilder;
-import spork.extension.FieldBinder;
+import spork.extension.AbstractPreparableFieldBinder;
+import spork.extension.Accessors;
+import spork.extension.BindContext;
+import spork.extension.Binding;
+import spork.extension.FieldAccessor;
+import spork.extension.ThreadSafeBinder;
+import spork.extension.UnbindableBinding;
 import spork.inject.Lazy;
 import spork.inject.internal.providers.ProviderLazy;
-import spork.inject.internal.reflection.Classes;
 import spork.inject.internal.reflection.InjectSignature;
+import spork.inject.internal.reflection.InjectSignatures;
 
 /**
  * The default FieldBinder that binds field annotated with the Inject annotation.
  */
-public final class InjectFieldBinder implements FieldBinder<Inject> {
-
-	@Override
-	public Class<Inject> getAnnotationClass() {
-		return Inject.class;
+public final class InjectFieldBinder extends AbstractPreparableFieldBinder<Inject> implements ThreadSafeBinder {
+	/**
+	 * The ways in which a field can receive an instance.
+	 */
+	private enum FieldKind {
+		INSTANCE,
+		PROVIDER,
+		LAZY
 	}
 
-	@Override
-	public void bind(Object instance, Inject annotation, Field field, Object... parameters) throws BindFailed {
-		ObjectGraphImpl objectGraph = Classes.findFirstInstanceOfType(ObjectGraphImpl.class, parameters);
-		if (objectGraph == null) {
-			String message = new ExceptionMessageBuilder("No ObjectGraph specified in instance arguments of bind()")
-					.annotation(Inject.class)
-					.suggest("call Spork.bind(target, objectGraph")
-					.bindingInto(field)
-					.build();
-
-			throw new BindFailed(message);
+	private static final class InjectFieldBinding implements UnbindableBinding {
+		private final Field field;
+		private final FieldAccessor fieldAccessor;
+		private final FieldKind fieldKind;
+		private final InjectSignature injectSignature;
+
+		InjectFieldBinding(Field field, FieldKind fieldKind, InjectSignature injectSignature) {
+			this.field = field;
+			this.fieldAccessor = Accessors.forField(field);
+			this.fieldKind = fieldKind;
+			this.injectSignature = injectSignature;
 		}
 
-		Class<?> fieldType = field.getType();
-		boolean fieldIsLazy = (fieldType == Lazy.class);
-		boolean fieldIsProvider = (fieldType == Provider.class);
-
-		// Determine the true type of the instance (so not Provider.class)
-		Class<?> targetType = fieldIsProvider || fieldIsLazy
-				? (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0]
-				: fieldType;
-
-		InjectSignature injectSignature = objectGraph.getReflectionCache().getInjectSignature(field, targetType);
-		Provider<?> provider;
+		@Override
+		public void bind(Object instance, BindContext bindContext) throws BindFailed {
+			ObjectGraphImpl objectGraph = bindContext.find(ObjectGraphImpl.class);
+			if (objectGraph == null) {
+				String message = new ExceptionMessageBuilder("No ObjectGraph specified in instance arguments of bind()")
+						.annotation(Inject.class)
+						.suggest("call Spork.bind(target, objectGraph")
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message);
+			}
+
+			Provider<?> provider;
+
+			try {
+				provider = objectGraph.findProvider(injectSignature);
+			} catch (ObjectGraphException caught) {
+				String message = new ExceptionMessageBuilder("Failed to resolve provider for " + injectSignature.toString())
+						.annotation(Inject.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
+
+			if (provider == null) {
+				String message = new ExceptionMessageBuilder("None of the modules provides an instance for " + injectSignature.toString())
+						.annotation(Inject.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message);
+			}
+
+			// Set the right instance on the field
+			if (fieldKind == FieldKind.PROVIDER) {
+				setFieldValue(instance, provider);
+			} else if (fieldKind == FieldKind.LAZY) {
+				ProviderLazy<?> lazyWrapper = new ProviderLazy<>(provider);
+				setFieldValue(instance, lazyWrapper);
+			} else {
+				setFieldValue(instance, provider.get());
+			}
+		}
 
-		try {
-			provider = objectGraph.findProvider(injectSignature);
-		} catch (ObjectGraphException caught) {
-			String message = new ExceptionMessageBuilder("Failed to resolve provider for " + injectSignature.toString())
-					.annotation(Inject.class)
-					.bindingInto(field)
-					.build();
+		@Override
+		public void unbind(Object instance, BindContext bindContext) throws BindFailed {
+			// Release the instance, Lazy or Provider, so that a pooled instance doesn't keep its dependencies alive.
+			// Static fields are shared by all instances, so they are left untouched.
+			if (field.getType().isPrimitive() || Modifier.isStatic(field.getModifiers())) {
+				return;
+			}
+
+			try {
+				fieldAccessor.set(instance, null);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
+						.annotation(Inject.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
+		}
 
-			throw new BindFailed(message, caught);
+		private void setFieldValue(Object instance, Object fieldValue) throws BindFailed {
+			try {
+				fieldAccessor.set(instance, fieldValue);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
+						.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
+						.annotation(Inject.class)
+						.bindingInto(field)
+						.build();
+
+				throw new BindFailed(message, caught);
+			}
 		}
+	}
 
-		if (provider == null) {
-			String message = new ExceptionMessageBuilder("None of the modules provides an instance for " + injectSignature.toString())
-					.annotation(Inject.class)
-					.bindingInto(field)
-					.build();
+	@Override
+	public Class<Inject> getAnnotationClass() {
+		return Inject.class;
+	}
 
-			throw new BindFailed(message);
-		}
+	@Override
+	public Binding prepare(Inject annotation, Field field) {
+		Class<?> fieldType = field.getType();
+		FieldKind fieldKind;
 
-		// Set the right instance on the field
-		if (fieldIsProvider) {
-			setFieldValue(field, instance, provider);
-		} else if (fieldIsLazy) {
-			ProviderLazy<?> lazyWrapper = new ProviderLazy<>(provider);
-			setFieldValue(field, instance, lazyWrapper);
+		if (fieldType == Provider.class) {
+			fieldKind = FieldKind.PROVIDER;
+		} else if (fieldType == Lazy.class) {
+			fieldKind = FieldKind.LAZY;
 		} else {
-			setFieldValue(field, instance, provider.get());
+			fieldKind = FieldKind.INSTANCE;
 		}
-	}
 
-	private void setFieldValue(Field field, Object instance, Object fieldValue) throws BindFailed {
-		try {
-			field.setAccessible(true);
-			field.set(instance, fieldValue);
-		} catch (IllegalAccessException caught) {
-			String message = new ExceptionMessageBuilder("Failed to access " + field.toString())
-					.suggest("There might be a concurrency problem or you are trying to access a final static Field.")
-					.annotation(Inject.class)
-					.bindingInto(field)
-					.build();
-
-			throw new BindFailed(message, caught);
-		} finally {
-			field.setAccessible(false);
-		}
+		// Determine the true type of the instance (so not Provider.class)
+		Class<?> targetType = fieldKind != FieldKind.INSTANCE
+				? (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0]
+				: fieldType;
+
+		InjectSignature injectSignature = InjectSignatures.create(field, targetType);
+		return new InjectFieldBinding(field, fieldKind, injectSignature);
 	}
 }
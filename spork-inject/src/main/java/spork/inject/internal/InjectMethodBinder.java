@@ -3,15 +3,73 @@ package spork.inject.internal;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 import spork.exceptions.BindFailed;
 import spork.exceptions.ExceptionMessageBuilder;
 import spork.exceptions.UnexpectedException;
-import spork.extension.MethodBinder;
-import spork.inject.internal.reflection.Classes;
+import spork.extension.AbstractPreparableMethodBinder;
+import spork.extension.Accessors;
+import spork.extension.BindContext;
+import spork.extension.Binding;
+import spork.extension.MethodAccessor;
+import spork.extension.ThreadSafeBinder;
+import spork.inject.internal.reflection.InjectSignature;
+import spork.inject.internal.reflection.InjectSignatures;
 
-public final class InjectMethodBinder implements MethodBinder<Inject> {
+public final class InjectMethodBinder extends AbstractPreparableMethodBinder<Inject> implements ThreadSafeBinder {
+	private static final class InjectMethodBinding implements Binding {
+		private final Method method;
+		private final MethodAccessor methodAccessor;
+		private final Class<?>[] parameterTypes;
+		@Nullable private final InjectSignature[] injectSignatures;
+
+		InjectMethodBinding(Method method, Class<?>[] parameterTypes, @Nullable InjectSignature[] injectSignatures) {
+			this.method = method;
+			this.methodAccessor = Accessors.forMethod(method);
+			this.parameterTypes = parameterTypes;
+			this.injectSignatures = injectSignatures;
+		}
+
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			ObjectGraphImpl objectGraph = bindContext.find(ObjectGraphImpl.class);
+			if (objectGraph == null) {
+				String message = new ExceptionMessageBuilder("No ObjectGraph specified in instance arguments of bind()")
+						.annotation(Inject.class)
+						.suggest("call Spork.bind(target, objectGraph")
+						.bindingInto(method)
+						.build();
+
+				throw new BindFailed(message);
+			}
+
+			try {
+				Object[] invocationParameters = objectGraph.getInjectableMethodParameters(parameterTypes, injectSignatures);
+				methodAccessor.invoke(object, invocationParameters);
+			} catch (IllegalAccessException caught) {
+				String message = new ExceptionMessageBuilder("Failed to access a Method that was previously made accessible. ")
+						.suggest("There might be a concurrency issue.")
+						.annotation(Inject.class)
+						.bindingInto(method)
+						.build();
+				throw new UnexpectedException(message, caught);
+			} catch (ObjectGraphException caught) {
+				String message = new ExceptionMessageBuilder("Failed to resolve object in ObjectGraph")
+						.annotation(Inject.class)
+						.bindingInto(method)
+						.build();
+				throw new BindFailed(message, caught);
+			} catch (InvocationTargetException caught) {
+				String message = new ExceptionMessageBuilder("Failed to invoke injection method")
+						.annotation(Inject.class)
+						.bindingInto(method)
+						.build();
+				throw new BindFailed(message, caught);
+			}
+		}
+	}
 
 	@Override
 	public Class<Inject> getAnnotationClass() {
@@ -19,43 +77,7 @@ public final class InjectMethodBinder implements MethodBinder<Inject> {
 	}
 
 	@Override
-	public void bind(Object object, Inject annotation, Method method, Object... parameters) throws BindFailed {
-		ObjectGraphImpl objectGraph = Classes.findFirstInstanceOfType(ObjectGraphImpl.class, parameters);
-		if (objectGraph == null) {
-			String message = new ExceptionMessageBuilder("No ObjectGraph specified in instance arguments of bind()")
-					.annotation(Inject.class)
-					.suggest("call Spork.bind(target, objectGraph")
-					.bindingInto(method)
-					.build();
-
-			throw new BindFailed(message);
-		}
-
-		try {
-			method.setAccessible(true);
-			Object[] invocationParameters = objectGraph.getInjectableMethodParameters(method);
-			method.invoke(object, invocationParameters);
-		} catch (IllegalAccessException caught) {
-			String message = new ExceptionMessageBuilder("Failed to access a Method that was previously made accessible. ")
-					.suggest("There might be a concurrency issue.")
-					.annotation(Inject.class)
-					.bindingInto(method)
-					.build();
-			throw new UnexpectedException(message, caught);
-		} catch (ObjectGraphException caught) {
-			String message = new ExceptionMessageBuilder("Failed to resolve object in ObjectGraph")
-					.annotation(Inject.class)
-					.bindingInto(method)
-					.build();
-			throw new BindFailed(message, caught);
-		} catch (InvocationTargetException caught) {
-			String message = new ExceptionMessageBuilder("Failed to invoke injection method")
-					.annotation(Inject.class)
-					.bindingInto(method)
-					.build();
-			throw new BindFailed(message, caught);
-		} finally {
-			method.setAccessible(false);
-		}
+	public Binding prepare(Inject annotation, Method method) {
+		return new InjectMethodBinding(method, method.getParameterTypes(), InjectSignatures.create(method));
 	}
 }
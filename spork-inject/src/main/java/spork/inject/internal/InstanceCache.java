@@ -5,6 +5,8 @@ import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import spork.extension.TraceRecorder;
+import spork.extension.Tracing;
 import spork.inject.internal.reflection.InjectSignature;
 
 public final class InstanceCache {
@@ -27,7 +29,7 @@ public final class InstanceCache {
 			if (map.containsKey(signature)) {
 				return map.get(signature);
 			} else {
-				Object instance = factory.create();
+				Object instance = create(signature, factory);
 				map.put(signature, instance);
 				return instance;
 			}
@@ -36,6 +38,22 @@ public final class InstanceCache {
 		}
 	}
 
+	private static Object create(InjectSignature signature, Factory factory) throws ObjectGraphException {
+		TraceRecorder traceRecorder = Tracing.getTraceRecorder();
+
+		if (traceRecorder == null) {
+			return factory.create();
+		}
+
+		long startNanos = System.nanoTime();
+
+		try {
+			return factory.create();
+		} finally {
+			traceRecorder.record(Tracing.CATEGORY_INSTANCE, signature, startNanos, System.nanoTime() - startNanos);
+		}
+	}
+
 	public interface Factory {
 		Object create() throws ObjectGraphException;
 	}
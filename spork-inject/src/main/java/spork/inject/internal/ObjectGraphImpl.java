@@ -12,6 +12,7 @@ import spork.Spork;
 import spork.SporkInstance;
 import spork.exceptions.ExceptionMessageBuilder;
 import spork.inject.ObjectGraph;
+import spork.inject.SporkInject;
 import spork.inject.internal.providers.CachedNodeProvider;
 import spork.inject.internal.providers.NodeProvider;
 import spork.inject.internal.reflection.InjectSignature;
@@ -93,12 +94,12 @@ public final class ObjectGraphImpl implements ObjectGraph {
 
 	@Override
 	public void inject(Object object) {
-		Spork.bind(object, this);
+		Spork.bind(object, SporkInject.INJECT_ONLY, this);
 	}
 
 	@Override
 	public void inject(Object object, SporkInstance spork) {
-		spork.bind(object, this);
+		spork.bind(object, SporkInject.INJECT_ONLY, this);
 	}
 
 	ReflectionCache getReflectionCache() {
@@ -114,7 +115,19 @@ public final class ObjectGraphImpl implements ObjectGraph {
 
 		// The following never returns null as there is guaranteed at least 1 method parameter
 		InjectSignature[] injectSignatures = getReflectionCache().getInjectSignatures(method);
-		if (injectSignatures == null) {
+		return getInjectableMethodParameters(parameterTypes, injectSignatures);
+	}
+
+	/**
+	 * Resolve the method arguments for previously determined parameter types and InjectSignature instances.
+	 *
+	 * @param parameterTypes the method parameter types
+	 * @param injectSignatures the InjectSignature instances of the method parameters
+	 * @return the method arguments or null when the method has no parameters
+	 */
+	@Nullable
+	Object[] getInjectableMethodParameters(Class<?>[] parameterTypes, @Nullable InjectSignature[] injectSignatures) throws ObjectGraphException {
+		if (parameterTypes.length == 0 || injectSignatures == null) {
 			return null;
 		}
 
@@ -9,6 +9,8 @@ import javax.inject.Inject;
 import javax.inject.Scope;
 
 import spork.exceptions.ExceptionMessageBuilder;
+import spork.extension.TraceRecorder;
+import spork.extension.Tracing;
 import spork.inject.internal.lang.Annotations;
 import spork.inject.internal.reflection.InjectSignature;
 
@@ -38,6 +40,22 @@ public final class ObjectGraphNode {
 	}
 
 	public Object resolve(Object... arguments) throws ObjectGraphException {
+		TraceRecorder traceRecorder = Tracing.getTraceRecorder();
+
+		if (traceRecorder == null) {
+			return invoke(arguments);
+		}
+
+		long startNanos = System.nanoTime();
+
+		try {
+			return invoke(arguments);
+		} finally {
+			traceRecorder.record(Tracing.CATEGORY_PROVIDES, method, startNanos, System.nanoTime() - startNanos);
+		}
+	}
+
+	private Object invoke(Object... arguments) throws ObjectGraphException {
 		try {
 			return method.invoke(parent, arguments);
 		} catch (IllegalAccessException e) {
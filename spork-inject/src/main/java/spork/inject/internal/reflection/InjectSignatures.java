@@ -0,0 +1,71 @@
+package spork.inject.internal.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+
+import javax.annotation.Nullable;
+import javax.inject.Provider;
+import javax.inject.Qualifier;
+
+import spork.inject.internal.lang.Annotations;
+import spork.inject.internal.lang.Nullability;
+
+/**
+ * Creates InjectSignature instances without caching them.
+ * This is meant for callers that keep the signatures themselves (e.g. prepared bindings),
+ * because a long-lived cache keyed by Field or Method would keep their classes loaded.
+ */
+public final class InjectSignatures {
+
+	private InjectSignatures() {
+	}
+
+	/**
+	 * @param field the target field
+	 * @param targetType the real target type (not a {@link Provider})
+	 * @return an InjectSignature
+	 */
+	public static InjectSignature create(Field field, Class<?> targetType) {
+		Annotation qualifierAnnotation = Annotations.findAnnotationAnnotatedWith(Qualifier.class, field);
+		Nullability nullability = Nullability.create(field);
+		String qualifier = qualifierAnnotation != null
+				? QualifierCache.createQualifier(qualifierAnnotation)
+				: null;
+		return new InjectSignature(targetType, nullability, qualifier);
+	}
+
+	/**
+	 * @param method the method to analyze
+	 * @return an array of 1 or more InjectSignature instances or null (never an empty array!)
+	 */
+	@Nullable
+	public static InjectSignature[] create(Method method) {
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		if (parameterTypes.length == 0) {
+			return null;
+		}
+
+		Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+		InjectSignature[] injectSignatures = new InjectSignature[parameterTypes.length];
+
+		for (int i = 0; i < parameterTypes.length; ++i) {
+			Annotation[] annotations = parameterAnnotations[i];
+			Nullability nullability = Nullability.create(annotations);
+			Class<?> targetType = (parameterTypes[i] == Provider.class)
+					? (Class<?>) ((ParameterizedType) method.getGenericParameterTypes()[i]).getActualTypeArguments()[0]
+					: parameterTypes[i];
+
+			Annotation qualifierAnnotation = Annotations.findAnnotationAnnotatedWith(Qualifier.class, annotations);
+			String qualifier = qualifierAnnotation != null
+					? QualifierCache.createQualifier(qualifierAnnotation)
+					: null;
+
+			injectSignatures[i] = new InjectSignature(targetType, nullability, qualifier);
+		}
+
+		return injectSignatures;
+	}
+}
@@ -51,6 +51,29 @@ public final class QualifierCache {
 	 * @return the qualifier String
 	 */
 	String getQualifier(Method valueMethod, Annotation annotation) {
+		return createQualifier(valueMethod, annotation);
+	}
+
+	/**
+	 * Create the qualifier String of an annotation without caching its value() Method,
+	 * so that the annotation type (and its ClassLoader) is not retained.
+	 *
+	 * @param annotation the Qualifier annotation
+	 * @return the String representing this annotation Qualifier
+	 */
+	public static String createQualifier(Annotation annotation) {
+		Method method;
+
+		try {
+			method = annotation.annotationType().getMethod("value");
+		} catch (NoSuchMethodException e) {
+			return annotation.annotationType().getName();
+		}
+
+		return createQualifier(method, annotation);
+	}
+
+	private static String createQualifier(Method valueMethod, Annotation annotation) {
 		try {
 			valueMethod.setAccessible(true);
 			Object value = valueMethod.invoke(annotation);
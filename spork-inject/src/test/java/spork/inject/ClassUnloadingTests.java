@@ -0,0 +1,112 @@
+package spork.inject;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import spork.SporkInstance;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests that the inject binders don't keep the classes they bind (and their ClassLoader) alive.
+ */
+public class ClassUnloadingTests {
+
+	public static class PluginTarget {
+		@Inject
+		@Named("value")
+		Integer value;
+
+		@Inject
+		void inject(@Named("value") Integer value) {
+		}
+	}
+
+	@Test
+	public void pluginClassLoaderIsReleased() throws Exception {
+		SporkInstance spork = new SporkInstance();
+		spork.useWeakCache();
+		new SporkInject().initialize(spork);
+
+		WeakReference<ClassLoader> classLoaderReference = prewarmPluginClass(spork);
+
+		for (int i = 0; i < 10 && classLoaderReference.get() != null; ++i) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertThat(classLoaderReference.get(), is(nullValue()));
+	}
+
+	private static WeakReference<ClassLoader> prewarmPluginClass(SporkInstance spork) throws Exception {
+		PluginClassLoader classLoader = new PluginClassLoader(PluginTarget.class.getName());
+		Class<?> pluginClass = classLoader.loadClass(PluginTarget.class.getName());
+
+		assertThat(pluginClass == PluginTarget.class, is(false));
+		spork.prewarm(pluginClass);
+
+		return new WeakReference<ClassLoader>(classLoader);
+	}
+
+	/**
+	 * Loads one class itself and delegates all other classes to the test's ClassLoader.
+	 */
+	private static final class PluginClassLoader extends ClassLoader {
+		private final String pluginClassName;
+
+		PluginClassLoader(String pluginClassName) {
+			super(ClassUnloadingTests.class.getClassLoader());
+			this.pluginClassName = pluginClassName;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.equals(pluginClassName)) {
+				return super.loadClass(name, resolve);
+			}
+
+			synchronized (this) {
+				Class<?> loadedClass = findLoadedClass(name);
+
+				if (loadedClass == null) {
+					byte[] bytes = readClassFile(name);
+					loadedClass = defineClass(name, bytes, 0, bytes.length);
+				}
+
+				return loadedClass;
+			}
+		}
+
+		private byte[] readClassFile(String className) throws ClassNotFoundException {
+			InputStream inputStream = getParent().getResourceAsStream(className.replace('.', '/') + ".class");
+
+			if (inputStream == null) {
+				throw new ClassNotFoundException(className);
+			}
+
+			try {
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+				byte[] buffer = new byte[4096];
+				int length;
+
+				while ((length = inputStream.read(buffer)) != -1) {
+					outputStream.write(buffer, 0, length);
+				}
+
+				inputStream.close();
+				return outputStream.toByteArray();
+			} catch (IOException caught) {
+				throw new ClassNotFoundException(className, caught);
+			}
+		}
+	}
+}
@@ -4,7 +4,10 @@ import org.junit.Test;
 
 import javax.inject.Inject;
 
+import spork.Spork;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -62,4 +65,26 @@ public class InjectFieldTests {
 		assertThat(parent.getProtectedValue(), is(1));
 		assertThat(parent.getPrivateValue(), is(1));
 	}
+
+	/**
+	 * Test that unbinding releases the injected instance fields, but keeps static fields.
+	 */
+	@Test
+	public void unbindTests() {
+		// given
+		Parent parent = new Parent();
+		ObjectGraphs.builder()
+				.module(new Module())
+				.build()
+				.inject(parent);
+
+		// when
+		Spork.unbind(parent);
+
+		// then
+		assertThat(Parent.staticValue, is(1));
+		assertThat(parent.publicValue, is(nullValue()));
+		assertThat(parent.getProtectedValue(), is(nullValue()));
+		assertThat(parent.getPrivateValue(), is(nullValue()));
+	}
 }
@@ -5,12 +5,19 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+
 import javax.inject.Inject;
 
 import spork.Spork;
+import spork.SporkInstance;
 import spork.exceptions.SporkRuntimeException;
+import spork.extension.FieldBinder;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class InjectTests {
@@ -41,6 +48,27 @@ public class InjectTests {
 		@Inject String extensionString;
 	}
 
+	@Retention(RetentionPolicy.RUNTIME)
+	private @interface OtherAnnotation {
+	}
+
+	private static class MixedTarget {
+		@Inject String string;
+		@OtherAnnotation Object other;
+	}
+
+	private static class OtherFieldBinder implements FieldBinder<OtherAnnotation> {
+		@Override
+		public void bind(Object object, OtherAnnotation annotation, Field field, Object... parameters) {
+			((MixedTarget) object).other = "bound";
+		}
+
+		@Override
+		public Class<OtherAnnotation> getAnnotationClass() {
+			return OtherAnnotation.class;
+		}
+	}
+
 	@Before
 	public void setup() {
 		graph = ObjectGraphs.builder()
@@ -49,6 +77,23 @@ public class InjectTests {
 				.build();
 	}
 
+	@Test
+	public void injectOnlyBindsInjectAnnotations() {
+		SporkInstance spork = new SporkInstance();
+		new SporkInject().initialize(spork);
+		spork.register(new OtherFieldBinder());
+		MixedTarget target = new MixedTarget();
+
+		graph.inject(target, spork);
+
+		assertThat(target.string, is("test"));
+		assertThat(target.other, is(nullValue()));
+
+		spork.bind(target, graph);
+
+		assertThat(target.other, is((Object) "bound"));
+	}
+
 	@Test
 	public void injectByObjectGraph() {
 		// normal case with a class-bound and interface-bound field
@@ -1,5 +1,6 @@
 package spork.inject.internal;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
@@ -7,11 +8,16 @@ import org.mockito.InOrder;
 import java.util.HashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
+import spork.extension.TraceRecorder;
+import spork.extension.Tracing;
 import spork.inject.internal.lang.Nullability;
 import spork.inject.internal.reflection.InjectSignature;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -33,6 +39,15 @@ public class InstanceCacheTests {
 		factory = mock(InstanceCache.Factory.class);
 	}
 
+	private TraceRecorder traceRecorder;
+
+	@After
+	public void tearDown() {
+		if (traceRecorder != null) {
+			Tracing.removeTraceRecorder(traceRecorder);
+		}
+	}
+
 	@Test
 	public void construction() {
 		assertThat(map.isEmpty(), is(true));
@@ -86,6 +101,19 @@ public class InstanceCacheTests {
 		assertThat(map.isEmpty(), is(true));
 	}
 
+	@Test
+	public void tracing() throws ObjectGraphException {
+		traceRecorder = mock(TraceRecorder.class);
+		Tracing.addTraceRecorder(traceRecorder);
+		InjectSignature injectSignature = anyInjectSignature();
+
+		instanceCache.getOrCreate(injectSignature, factory);
+		instanceCache.getOrCreate(injectSignature, factory);
+
+		verify(traceRecorder).record(eq(Tracing.CATEGORY_INSTANCE), same(injectSignature), anyLong(), anyLong());
+		verifyNoMoreInteractions(traceRecorder);
+	}
+
 	private InjectSignature anyInjectSignature() {
 		return new InjectSignature(getClass(), Nullability.NONNULL, null);
 	}
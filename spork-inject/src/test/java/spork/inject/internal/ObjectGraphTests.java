@@ -6,6 +6,7 @@ import spork.SporkInstance;
 import spork.inject.ObjectGraph;
 import spork.inject.ObjectGraphs;
 import spork.inject.Provides;
+import spork.inject.SporkInject;
 
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -28,6 +29,6 @@ public class ObjectGraphTests {
 
 		Object injectable = new Object();
 		graph.inject(injectable, spork);
-		verify(spork).bind(injectable, graph);
+		verify(spork).bind(injectable, SporkInject.INJECT_ONLY, graph);
 	}
 }
@@ -0,0 +1,72 @@
+package spork;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Limits a bind to the bindings of specific annotations.
+ * For example: spork-inject binds with a scope of @Inject only, so that injecting an object
+ * doesn't bind its views too.
+ *
+ * Bind plans are cached per scope, so scopes should be created once (e.g. as constants).
+ *
+ * @see SporkInstance#bind(Object, BindScope, Object)
+ */
+public final class BindScope {
+	/**
+	 * The scope that includes the bindings of all annotations.
+	 */
+	public static final BindScope ALL = new BindScope(null);
+
+	// null means all annotations
+	@Nullable private final Set<Class<? extends Annotation>> annotationClasses;
+
+	private BindScope(@Nullable Set<Class<? extends Annotation>> annotationClasses) {
+		this.annotationClasses = annotationClasses;
+	}
+
+	/**
+	 * @param annotationClasses the annotations to bind
+	 * @return a scope that only includes the bindings of the given annotations
+	 */
+	@SafeVarargs
+	public static BindScope of(Class<? extends Annotation>... annotationClasses) {
+		Set<Class<? extends Annotation>> annotationClassSet = new HashSet<>(Arrays.asList(annotationClasses));
+		return new BindScope(Collections.unmodifiableSet(annotationClassSet));
+	}
+
+	/**
+	 * @param annotationClass the annotation of a binding
+	 * @return true when the bindings for the given annotation are bound within this scope
+	 */
+	public boolean includes(Class<? extends Annotation> annotationClass) {
+		return annotationClasses == null || annotationClasses.contains(annotationClass);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		} else if (!(object instanceof BindScope)) {
+			return false;
+		}
+
+		BindScope other = (BindScope) object;
+		return annotationClasses == null ? other.annotationClasses == null : annotationClasses.equals(other.annotationClasses);
+	}
+
+	@Override
+	public int hashCode() {
+		return annotationClasses == null ? 0 : annotationClasses.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return annotationClasses == null ? "BindScope(all)" : "BindScope" + annotationClasses;
+	}
+}
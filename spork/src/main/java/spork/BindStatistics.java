@@ -0,0 +1,178 @@
+package spork;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import spork.extension.BindListener;
+
+/**
+ * A BindListener that aggregates the durations of binds, bindings and plan creation in memory.
+ *
+ * @see SporkInstance#getStatistics()
+ */
+public final class BindStatistics implements BindListener {
+	private final ConcurrentMap<Class<?>, Timing> classTimings = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Class<?>, Timing> binderTimings = new ConcurrentHashMap<>();
+	private final Timing planBuildTiming = new Timing();
+	private final AtomicLong planCacheHits = new AtomicLong();
+	private final AtomicLong bindFailures = new AtomicLong();
+	private final AtomicLong planEvictions = new AtomicLong();
+	private final AtomicLong memberScans = new AtomicLong();
+
+	/**
+	 * The count, cumulative duration and maximum duration of a measured operation.
+	 */
+	public static final class Timing {
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void add(long durationNanos) {
+			count.incrementAndGet();
+			totalNanos.addAndGet(durationNanos);
+
+			long currentMaxNanos = maxNanos.get();
+
+			while (durationNanos > currentMaxNanos && !maxNanos.compareAndSet(currentMaxNanos, durationNanos)) {
+				currentMaxNanos = maxNanos.get();
+			}
+		}
+
+		public long getCount() {
+			return count.get();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.get();
+		}
+
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+	}
+
+	// region BindListener
+
+	@Override
+	public void onBindStarted(Object object) {
+	}
+
+	@Override
+	public void onBindFinished(Object object, long durationNanos) {
+		getTiming(classTimings, object.getClass()).add(durationNanos);
+	}
+
+	@Override
+	public void onBindFailed(Object object, Exception failure, long durationNanos) {
+		bindFailures.incrementAndGet();
+	}
+
+	@Override
+	public void onBindingFinished(Object object, Object binder, AnnotatedElement member, long durationNanos) {
+		getTiming(binderTimings, binder.getClass()).add(durationNanos);
+	}
+
+	@Override
+	public void onBindingFailed(Object object, Object binder, AnnotatedElement member, Exception failure, long durationNanos) {
+	}
+
+	@Override
+	public void onPlanCacheHit(Class<?> type) {
+		planCacheHits.incrementAndGet();
+	}
+
+	@Override
+	public void onPlanCreated(Class<?> type, int bindingCount, long durationNanos) {
+		planBuildTiming.add(durationNanos);
+	}
+
+	@Override
+	public void onMemberScan(Class<?> type) {
+		memberScans.incrementAndGet();
+	}
+
+	@Override
+	public void onPlanEvicted(@Nullable Class<?> type) {
+		planEvictions.incrementAndGet();
+	}
+
+	private static Timing getTiming(ConcurrentMap<Class<?>, Timing> timings, Class<?> type) {
+		Timing timing = timings.get(type);
+
+		if (timing == null) {
+			Timing newTiming = new Timing();
+			timing = timings.putIfAbsent(type, newTiming);
+
+			if (timing == null) {
+				timing = newTiming;
+			}
+		}
+
+		return timing;
+	}
+
+	// endregion
+
+	/**
+	 * @return the timings of successful binds by the class of the bound object
+	 */
+	public Map<Class<?>, Timing> getClassTimings() {
+		return Collections.unmodifiableMap(classTimings);
+	}
+
+	/**
+	 * @return the binding timings by binder class
+	 */
+	public Map<Class<?>, Timing> getBinderTimings() {
+		return Collections.unmodifiableMap(binderTimings);
+	}
+
+	/**
+	 * @return the timing of building bind plans (one for each cache miss)
+	 */
+	public Timing getPlanBuildTiming() {
+		return planBuildTiming;
+	}
+
+	/**
+	 * @return the amount of bind plans that were found in the cache
+	 */
+	public long getPlanCacheHits() {
+		return planCacheHits.get();
+	}
+
+	/**
+	 * @return the amount of bind plans that were built because they were not cached
+	 */
+	public long getPlanCacheMisses() {
+		return planBuildTiming.getCount();
+	}
+
+	/**
+	 * @return the amount of bind plans that were removed from a weak or bounded cache
+	 * @see SporkInstance#useWeakCache(int)
+	 */
+	public long getPlanEvictionCount() {
+		return planEvictions.get();
+	}
+
+	/**
+	 * @return the amount of objects that failed to bind
+	 */
+	public long getBindFailureCount() {
+		return bindFailures.get();
+	}
+
+	/**
+	 * @return the amount of classes of which the bind actions were created from their declared members
+	 */
+	public long getMemberScanCount() {
+		return memberScans.get();
+	}
+}
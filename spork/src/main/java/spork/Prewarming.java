@@ -0,0 +1,80 @@
+package spork;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+
+import spork.exceptions.SporkRuntimeException;
+
+/**
+ * A handle to the background prewarming of classes that was started by
+ * {@link SporkInstance#prewarm(java.util.Collection, java.util.concurrent.Executor)}.
+ */
+public final class Prewarming {
+	private final CountDownLatch latch;
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	Prewarming(int classCount) {
+		latch = new CountDownLatch(classCount);
+	}
+
+	/**
+	 * Record the first failure. The class must still be reported with {@link #onFinished()}.
+	 */
+	void onFailed(Throwable caught) {
+		failure.compareAndSet(null, caught);
+	}
+
+	/**
+	 * Called once per class, whether it was prewarmed or not.
+	 */
+	void onFinished() {
+		latch.countDown();
+	}
+
+	/**
+	 * @return true when all classes were prewarmed or failed to prewarm
+	 */
+	public boolean isDone() {
+		return latch.getCount() == 0;
+	}
+
+	/**
+	 * Wait until all classes are prewarmed.
+	 *
+	 * @throws InterruptedException when the current thread is interrupted while waiting
+	 * @throws SporkRuntimeException when prewarming failed for one of the classes
+	 */
+	public void await() throws InterruptedException {
+		latch.await();
+		throwFailure();
+	}
+
+	/**
+	 * Wait until all classes are prewarmed or until the timeout expires.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @param unit the unit of the timeout
+	 * @return true when all classes were prewarmed and false when the timeout expired
+	 * @throws InterruptedException when the current thread is interrupted while waiting
+	 * @throws SporkRuntimeException when prewarming failed for one of the classes
+	 */
+	public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+		if (latch.await(timeout, unit)) {
+			throwFailure();
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	private void throwFailure() {
+		@Nullable Throwable caught = failure.get();
+
+		if (caught != null) {
+			throw new SporkRuntimeException("Failed to prewarm classes", caught);
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package spork;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import spork.extension.BindListenerAdapter;
+import spork.extension.TraceRecorder;
+import spork.extension.Tracing;
+
+/**
+ * Detects binds and plan creation that take longer than a threshold, similar to Android's StrictMode.
+ *
+ * A stricter threshold can be configured for a designated UI thread
+ * (e.g. {@code Looper.getMainLooper().getThread()} on Android).
+ * Violations are reported to a {@link Callback} on the thread that did the binding,
+ * with the slowest binding and the slowest provider method (e.g. an @Provides method of spork-inject)
+ * of the bind. A Callback can throw (e.g. an AssertionError) to fail tests.
+ *
+ * @see SporkInstance#enableSlowBindPolicy(SlowBindPolicy)
+ */
+public final class SlowBindPolicy extends BindListenerAdapter implements TraceRecorder {
+	private final Callback callback;
+	private final long bindThresholdNanos;
+	private final long planThresholdNanos;
+	@Nullable private final Thread uiThread;
+	private final long uiThreadBindThresholdNanos;
+	private final long uiThreadPlanThresholdNanos;
+	private final ThreadLocal<BindStack> bindStacks = new ThreadLocal<BindStack>() {
+		@Override
+		protected BindStack initialValue() {
+			return new BindStack();
+		}
+	};
+
+	private SlowBindPolicy(Builder builder) {
+		this.callback = builder.callback;
+		this.bindThresholdNanos = builder.bindThresholdNanos;
+		this.planThresholdNanos = builder.planThresholdNanos;
+		this.uiThread = builder.uiThread;
+		this.uiThreadBindThresholdNanos = builder.uiThreadBindThresholdNanos != null ? builder.uiThreadBindThresholdNanos : builder.bindThresholdNanos;
+		this.uiThreadPlanThresholdNanos = builder.uiThreadPlanThresholdNanos != null ? builder.uiThreadPlanThresholdNanos : builder.planThresholdNanos;
+	}
+
+	// region Callback and Violation
+
+	/**
+	 * Receives the violations of a SlowBindPolicy.
+	 */
+	public interface Callback {
+		void onViolation(Violation violation);
+	}
+
+	/**
+	 * The kind of work that was too slow.
+	 */
+	public enum Kind {
+		/**
+		 * A single bind() call, including the creation of its bind plan.
+		 */
+		BIND,
+		/**
+		 * The creation of a bind plan.
+		 */
+		PLAN
+	}
+
+	/**
+	 * Describes a bind or plan creation that exceeded its threshold.
+	 */
+	public static final class Violation {
+		private final Kind kind;
+		private final Class<?> type;
+		private final long durationNanos;
+		private final long thresholdNanos;
+		private final boolean uiThread;
+		@Nullable private final AnnotatedElement slowestMember;
+		private final long slowestMemberNanos;
+		@Nullable private final Object slowestProvider;
+		private final long slowestProviderNanos;
+
+		Violation(Kind kind, Class<?> type, long durationNanos, long thresholdNanos, boolean uiThread,
+				@Nullable AnnotatedElement slowestMember, long slowestMemberNanos,
+				@Nullable Object slowestProvider, long slowestProviderNanos) {
+			this.kind = kind;
+			this.type = type;
+			this.durationNanos = durationNanos;
+			this.thresholdNanos = thresholdNanos;
+			this.uiThread = uiThread;
+			this.slowestMember = slowestMember;
+			this.slowestMemberNanos = slowestMemberNanos;
+			this.slowestProvider = slowestProvider;
+			this.slowestProviderNanos = slowestProviderNanos;
+		}
+
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * @return the class of the bound object or the class of which the plan was created
+		 */
+		public Class<?> getType() {
+			return type;
+		}
+
+		public long getDurationNanos() {
+			return durationNanos;
+		}
+
+		public long getThresholdNanos() {
+			return thresholdNanos;
+		}
+
+		/**
+		 * @return true when the work was done on the designated UI thread
+		 */
+		public boolean isUiThread() {
+			return uiThread;
+		}
+
+		/**
+		 * @return the annotated Field, Method or Class of the slowest binding or null when there were no bindings
+		 */
+		@Nullable
+		public AnnotatedElement getSlowestMember() {
+			return slowestMember;
+		}
+
+		public long getSlowestMemberNanos() {
+			return slowestMemberNanos;
+		}
+
+		/**
+		 * @return the slowest provider method (e.g. an @Provides method) or null when no providers were traced
+		 */
+		@Nullable
+		public Object getSlowestProvider() {
+			return slowestProvider;
+		}
+
+		public long getSlowestProviderNanos() {
+			return slowestProviderNanos;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder()
+					.append(kind == Kind.BIND ? "bind of " : "plan creation of ")
+					.append(type.getName())
+					.append(" took ")
+					.append(TimeUnit.NANOSECONDS.toMicros(durationNanos))
+					.append("us (threshold ")
+					.append(TimeUnit.NANOSECONDS.toMicros(thresholdNanos))
+					.append("us")
+					.append(uiThread ? " on the UI thread)" : ")");
+
+			if (slowestMember != null) {
+				builder.append(", slowest binding: ")
+						.append(slowestMember)
+						.append(" (")
+						.append(TimeUnit.NANOSECONDS.toMicros(slowestMemberNanos))
+						.append("us)");
+			}
+
+			if (slowestProvider != null) {
+				builder.append(", slowest provider: ")
+						.append(slowestProvider)
+						.append(" (")
+						.append(TimeUnit.NANOSECONDS.toMicros(slowestProviderNanos))
+						.append("us)");
+			}
+
+			return builder.toString();
+		}
+	}
+
+	// endregion
+
+	// region Builder
+
+	public static final class Builder {
+		private final Callback callback;
+		private long bindThresholdNanos = Long.MAX_VALUE;
+		private long planThresholdNanos = Long.MAX_VALUE;
+		@Nullable private Thread uiThread;
+		@Nullable private Long uiThreadBindThresholdNanos;
+		@Nullable private Long uiThreadPlanThresholdNanos;
+
+		/**
+		 * @param callback receives the violations
+		 */
+		public Builder(Callback callback) {
+			this.callback = callback;
+		}
+
+		/**
+		 * @param threshold the maximum duration of a bind() call (unlimited by default)
+		 */
+		public Builder bindThreshold(long threshold, TimeUnit unit) {
+			bindThresholdNanos = unit.toNanos(threshold);
+			return this;
+		}
+
+		/**
+		 * @param threshold the maximum duration of creating a bind plan (unlimited by default)
+		 */
+		public Builder planThreshold(long threshold, TimeUnit unit) {
+			planThresholdNanos = unit.toNanos(threshold);
+			return this;
+		}
+
+		/**
+		 * @param uiThread the thread for which the UI thread thresholds apply
+		 */
+		public Builder uiThread(Thread uiThread) {
+			this.uiThread = uiThread;
+			return this;
+		}
+
+		/**
+		 * @param threshold the maximum duration of a bind() call on the UI thread (the bind threshold by default)
+		 */
+		public Builder uiThreadBindThreshold(long threshold, TimeUnit unit) {
+			uiThreadBindThresholdNanos = unit.toNanos(threshold);
+			return this;
+		}
+
+		/**
+		 * @param threshold the maximum duration of creating a bind plan on the UI thread (the plan threshold by default)
+		 */
+		public Builder uiThreadPlanThreshold(long threshold, TimeUnit unit) {
+			uiThreadPlanThresholdNanos = unit.toNanos(threshold);
+			return this;
+		}
+
+		public SlowBindPolicy build() {
+			return new SlowBindPolicy(this);
+		}
+	}
+
+	// endregion
+
+	// region Detection
+
+	/**
+	 * The slowest binding and provider of a bind() call that is in progress.
+	 */
+	private static final class BindState {
+		@Nullable AnnotatedElement slowestMember;
+		long slowestMemberNanos;
+		@Nullable Object slowestProvider;
+		long slowestProviderNanos;
+
+		void reset() {
+			slowestMember = null;
+			slowestMemberNanos = 0L;
+			slowestProvider = null;
+			slowestProviderNanos = 0L;
+		}
+	}
+
+	/**
+	 * The BindState instances of the nested bind() calls of a thread. They are re-used across binds.
+	 */
+	private static final class BindStack {
+		private final List<BindState> bindStates = new ArrayList<>();
+		private int depth;
+
+		BindState push() {
+			if (depth == bindStates.size()) {
+				bindStates.add(new BindState());
+			}
+
+			BindState bindState = bindStates.get(depth++);
+			bindState.reset();
+			return bindState;
+		}
+
+		@Nullable
+		BindState peek() {
+			return depth > 0 ? bindStates.get(depth - 1) : null;
+		}
+
+		@Nullable
+		BindState pop() {
+			return depth > 0 ? bindStates.get(--depth) : null;
+		}
+	}
+
+	@Override
+	public void onBindStarted(Object object) {
+		bindStacks.get().push();
+	}
+
+	@Override
+	public void onBindFinished(Object object, long durationNanos) {
+		BindState bindState = bindStacks.get().pop();
+		boolean isUiThread = isUiThread();
+		long thresholdNanos = isUiThread ? uiThreadBindThresholdNanos : bindThresholdNanos;
+
+		if (bindState != null && durationNanos > thresholdNanos) {
+			callback.onViolation(new Violation(Kind.BIND, object.getClass(), durationNanos, thresholdNanos, isUiThread,
+					bindState.slowestMember, bindState.slowestMemberNanos,
+					bindState.slowestProvider, bindState.slowestProviderNanos));
+		}
+	}
+
+	@Override
+	public void onBindFailed(Object object, Exception failure, long durationNanos) {
+		bindStacks.get().pop();
+	}
+
+	@Override
+	public void onBindingFinished(Object object, Object binder, AnnotatedElement member, long durationNanos) {
+		BindState bindState = bindStacks.get().peek();
+
+		if (bindState != null && durationNanos > bindState.slowestMemberNanos) {
+			bindState.slowestMember = member;
+			bindState.slowestMemberNanos = durationNanos;
+		}
+	}
+
+	@Override
+	public void onPlanCreated(Class<?> type, int bindingCount, long durationNanos) {
+		boolean isUiThread = isUiThread();
+		long thresholdNanos = isUiThread ? uiThreadPlanThresholdNanos : planThresholdNanos;
+
+		if (durationNanos > thresholdNanos) {
+			callback.onViolation(new Violation(Kind.PLAN, type, durationNanos, thresholdNanos, isUiThread, null, 0L, null, 0L));
+		}
+	}
+
+	@Override
+	public void record(String category, Object subject, long startNanos, long durationNanos) {
+		if (!Tracing.CATEGORY_PROVIDES.equals(category)) {
+			return;
+		}
+
+		// Providers are attributed to the innermost bind() call of the thread
+		BindState bindState = bindStacks.get().peek();
+
+		if (bindState != null && durationNanos > bindState.slowestProviderNanos) {
+			bindState.slowestProvider = subject;
+			bindState.slowestProviderNanos = durationNanos;
+		}
+	}
+
+	private boolean isUiThread() {
+		return uiThread != null && uiThread == Thread.currentThread();
+	}
+
+	// endregion
+}
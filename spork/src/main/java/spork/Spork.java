@@ -1,7 +1,19 @@
 package spork;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+import spork.extension.BindContext;
+import spork.extension.BindListener;
+import spork.extension.BinderFactory;
 import spork.extension.FieldBinder;
 import spork.extension.MethodBinder;
+import spork.extension.Tracing;
 import spork.extension.TypeBinder;
 import spork.internal.SporkExtensionLoader;
 
@@ -11,13 +23,64 @@ import spork.internal.SporkExtensionLoader;
 public final class Spork {
 	private static final SporkInstance INSTANCE = new SporkInstance();
 
+	private static volatile boolean extensionsLoaded;
+
 	private Spork() {
 	}
 
-	static {
-		// Load known extensions (if present)
-		SporkExtensionLoader.load(INSTANCE, "spork.inject.SporkInject");
-		SporkExtensionLoader.load(INSTANCE, "spork.android.SporkAndroid");
+	/**
+	 * @return the shared instance after its extensions were loaded
+	 */
+	private static SporkInstance getInstance() {
+		if (!extensionsLoaded) {
+			loadExtensions();
+		}
+
+		return INSTANCE;
+	}
+
+	/**
+	 * Extensions are loaded when they are first needed (binding, registering or freezing) instead of when
+	 * this class is loaded, so that configuring Spork at startup doesn't scan for and instantiate them.
+	 */
+	private static synchronized void loadExtensions() {
+		if (!extensionsLoaded) {
+			// Discover extensions through META-INF/services. The known extensions are initialized first and in
+			// this order, so the bind order doesn't depend on the classpath. They are also a fallback for when
+			// the service files are not packaged (e.g. because they were stripped by a build tool).
+			SporkExtensionLoader.loadAll(INSTANCE, Spork.class.getClassLoader(), "spork.inject.SporkInject", "spork.android.SporkAndroid");
+			extensionsLoaded = true;
+		}
+	}
+
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * @param object the object to bind
+	 */
+	public static void bind(Object object) {
+		getInstance().bind(object);
+	}
+
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * @param object the object to bind
+	 * @param parameter a parameter
+	 */
+	public static void bind(Object object, Object parameter) {
+		getInstance().bind(object, parameter);
+	}
+
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * @param object the object to bind
+	 * @param firstParameter a parameter
+	 * @param secondParameter a parameter
+	 */
+	public static void bind(Object object, Object firstParameter, Object secondParameter) {
+		getInstance().bind(object, firstParameter, secondParameter);
 	}
 
 	/**
@@ -27,30 +90,298 @@ public final class Spork {
 	 * @param parameters optional parameters
 	 */
 	public static void bind(Object object, Object... parameters) {
-		INSTANCE.bind(object, parameters);
+		getInstance().bind(object, parameters);
+	}
+
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * @param object the object to bind
+	 * @param bindContext the parameters and attributes
+	 * @see SporkInstance#bind(Object, BindContext)
+	 */
+	public static void bind(Object object, BindContext bindContext) {
+		getInstance().bind(object, bindContext);
+	}
+
+	/**
+	 * Binds the annotations of a specific object that are included in a scope.
+	 *
+	 * @param object the object to bind
+	 * @param bindScope the annotations to bind
+	 */
+	public static void bind(Object object, BindScope bindScope) {
+		getInstance().bind(object, bindScope);
+	}
+
+	/**
+	 * Binds the annotations of a specific object that are included in a scope.
+	 *
+	 * @param object the object to bind
+	 * @param bindScope the annotations to bind
+	 * @param parameter a parameter
+	 */
+	public static void bind(Object object, BindScope bindScope, Object parameter) {
+		getInstance().bind(object, bindScope, parameter);
+	}
+
+	/**
+	 * Binds the annotations of a specific object that are included in a scope.
+	 *
+	 * @param object the object to bind
+	 * @param bindScope the annotations to bind
+	 * @param parameters optional parameters
+	 */
+	public static void bind(Object object, BindScope bindScope, Object... parameters) {
+		getInstance().bind(object, bindScope, parameters);
+	}
+
+	/**
+	 * Binds all annotations for multiple objects with the same parameters.
+	 *
+	 * @see SporkInstance#bindAll(Iterable, Object...)
+	 */
+	public static void bindAll(Iterable<?> objects, Object... parameters) {
+		getInstance().bindAll(objects, parameters);
+	}
+
+	/**
+	 * Binds all annotations for multiple objects with the same parameters, using an Executor for thread-safe bindings.
+	 *
+	 * @see SporkInstance#bindAll(Iterable, Executor, Object...)
+	 */
+	public static void bindAll(Iterable<?> objects, Executor executor, Object... parameters) {
+		getInstance().bindAll(objects, executor, parameters);
+	}
+
+	/**
+	 * Undo the bindings of an object, so that it can be recycled.
+	 *
+	 * @see SporkInstance#unbind(Object)
+	 */
+	public static void unbind(Object object) {
+		getInstance().unbind(object);
+	}
+
+	/**
+	 * Undo the bindings of an object, so that it can be recycled.
+	 *
+	 * @see SporkInstance#unbind(Object, Object...)
+	 */
+	public static void unbind(Object object, Object... parameters) {
+		getInstance().unbind(object, parameters);
+	}
+
+	/**
+	 * Prepare the bindings of the given classes, so that the first bind() of their instances is fast.
+	 *
+	 * @see SporkInstance#prewarm(Class[])
+	 */
+	public static void prewarm(Class<?>... classes) {
+		getInstance().prewarm(classes);
+	}
+
+	/**
+	 * Prepare the bindings of the given classes on the given Executor.
+	 *
+	 * @see SporkInstance#prewarm(Collection, Executor)
+	 */
+	public static Prewarming prewarm(Collection<Class<?>> classes, Executor executor) {
+		return getInstance().prewarm(classes, executor);
+	}
+
+	/**
+	 * Prepare the bindings of all classes in the binding index that spork-compiler generates.
+	 *
+	 * @see SporkInstance#prewarmIndexedClasses()
+	 */
+	public static void prewarmIndexedClasses() {
+		getInstance().prewarmIndexedClasses();
+	}
+
+	/**
+	 * Prepare the bindings of all classes in the binding index on the given Executor.
+	 *
+	 * @see SporkInstance#prewarmIndexedClasses(Executor)
+	 */
+	public static Prewarming prewarmIndexedClasses(Executor executor) {
+		return getInstance().prewarmIndexedClasses(executor);
 	}
 
 	/**
 	 * Register a new FieldBinder.
-	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#register(FieldBinder)
 	 */
 	public static void register(FieldBinder<?> binder) {
-		INSTANCE.register(binder);
+		getInstance().register(binder);
 	}
 
 	/**
 	 * Register a new MethodBinder.
-	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#register(MethodBinder)
 	 */
 	public static void register(MethodBinder<?> binder) {
-		INSTANCE.register(binder);
+		getInstance().register(binder);
 	}
 
 	/**
 	 * Register a new TypeBinder.
-	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#register(TypeBinder)
 	 */
 	public static void register(TypeBinder<?> binder) {
-		INSTANCE.register(binder);
+		getInstance().register(binder);
+	}
+
+	/**
+	 * Register a FieldBinder that is created the first time that a bound class uses its annotation.
+	 *
+	 * @see SporkInstance#registerFieldBinder(Class, BinderFactory)
+	 */
+	public static <A extends Annotation> void registerFieldBinder(Class<A> annotationClass, BinderFactory<? extends FieldBinder<A>> factory) {
+		getInstance().registerFieldBinder(annotationClass, factory);
+	}
+
+	/**
+	 * Register a MethodBinder that is created the first time that a bound class uses its annotation.
+	 *
+	 * @see SporkInstance#registerMethodBinder(Class, BinderFactory)
+	 */
+	public static <A extends Annotation> void registerMethodBinder(Class<A> annotationClass, BinderFactory<? extends MethodBinder<A>> factory) {
+		getInstance().registerMethodBinder(annotationClass, factory);
+	}
+
+	/**
+	 * Register a TypeBinder that is created the first time that a bound class uses its annotation.
+	 *
+	 * @see SporkInstance#registerTypeBinder(Class, BinderFactory)
+	 */
+	public static <A extends Annotation> void registerTypeBinder(Class<A> annotationClass, BinderFactory<? extends TypeBinder<A>> factory) {
+		getInstance().registerTypeBinder(annotationClass, factory);
+	}
+
+	/**
+	 * Snapshot the configuration into an immutable binder.
+	 *
+	 * @see SporkInstance#freeze()
+	 */
+	public static void freeze() {
+		getInstance().freeze();
+	}
+
+	/**
+	 * Set the package prefixes of classes that are never scanned for annotations.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#setHierarchyBoundary(String...)
+	 */
+	public static void setHierarchyBoundary(String... packagePrefixes) {
+		INSTANCE.setHierarchyBoundary(packagePrefixes);
+	}
+
+	/**
+	 * Remember which objects were bound, so that binding an object again only applies volatile bindings.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#trackBoundObjects()
+	 */
+	public static void trackBoundObjects() {
+		INSTANCE.trackBoundObjects();
+	}
+
+	/**
+	 * Cache the bind plans without keeping the bound classes alive, optionally bounded in size.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#useWeakCache(int)
+	 */
+	public static void useWeakCache(int maximumSize) {
+		INSTANCE.useWeakCache(maximumSize);
+	}
+
+	/**
+	 * Only scan the classes in the binding index that spork-compiler generates.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#useBindingIndex()
+	 */
+	public static boolean useBindingIndex() {
+		return INSTANCE.useBindingIndex();
+	}
+
+	/**
+	 * Use a file to cache the annotated members of bound classes across process restarts.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#usePlanCache(File, String)
+	 */
+	public static void usePlanCache(File file, String fingerprint) {
+		INSTANCE.usePlanCache(file, fingerprint);
+	}
+
+	/**
+	 * Write the plan cache file.
+	 *
+	 * @see SporkInstance#savePlanCache()
+	 */
+	public static void savePlanCache() throws IOException {
+		INSTANCE.savePlanCache();
+	}
+
+	/**
+	 * Add a listener for the lifecycle events of binding.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#addBindListener(BindListener)
+	 */
+	public static void addBindListener(BindListener bindListener) {
+		INSTANCE.addBindListener(bindListener);
+	}
+
+	/**
+	 * Aggregate the durations of binds, bindings and plan creation in memory.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#enableStatistics()
+	 */
+	public static BindStatistics enableStatistics() {
+		return INSTANCE.enableStatistics();
+	}
+
+	/**
+	 * Record binds, plan creation and the timed work of extensions in a ring buffer.
+	 * The timeline is added to {@link Tracing} for the lifetime of the process, so it also records
+	 * the timed work of extensions that is done for other SporkInstance objects.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#enableTimeline(int)
+	 */
+	public static Timeline enableTimeline(int capacity) {
+		Timeline timeline = INSTANCE.enableTimeline(capacity);
+		Tracing.addTraceRecorder(timeline);
+		return timeline;
+	}
+
+	/**
+	 * Report binds and plan creation that exceed the thresholds of a policy.
+	 * The policy is added to {@link Tracing} for the lifetime of the process, so that it can report
+	 * the slowest provider methods of extensions (such as spork-inject).
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see SporkInstance#enableSlowBindPolicy(SlowBindPolicy)
+	 */
+	public static void enableSlowBindPolicy(SlowBindPolicy slowBindPolicy) {
+		INSTANCE.enableSlowBindPolicy(slowBindPolicy);
+		Tracing.addTraceRecorder(slowBindPolicy);
+	}
+
+	/**
+	 * @see SporkInstance#getStatistics()
+	 */
+	@Nullable
+	public static BindStatistics getStatistics() {
+		return INSTANCE.getStatistics();
 	}
 }
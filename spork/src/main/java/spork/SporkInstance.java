@@ -1,21 +1,60 @@
 package spork;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
 import javax.annotation.Nullable;
 
+import spork.exceptions.BindAllFailed;
+import spork.exceptions.BindFailed;
 import spork.exceptions.SporkRuntimeException;
+import spork.extension.BindContext;
+import spork.extension.BindContexts;
+import spork.extension.BindListener;
+import spork.extension.BinderFactory;
 import spork.extension.FieldBinder;
 import spork.extension.MethodBinder;
+import spork.extension.ThreadSafeBinder;
+import spork.extension.Tracing;
 import spork.extension.TypeBinder;
+import spork.extension.VolatileBinder;
 import spork.internal.BindActionProvider;
 import spork.internal.Binder;
+import spork.internal.BindingIndex;
+import spork.internal.CachePolicy;
 import spork.internal.Catalog;
+import spork.internal.CompositeBindListener;
+import spork.internal.HierarchyBoundary;
+import spork.internal.PlanCache;
 
 /**
  * Main Spork class that is used to bind objects and register new binders.
+ *
+ * The configuration is set first. The first bind() (or an explicit {@link #freeze()})
+ * then turns it into an immutable binder that can be used from multiple threads.
+ * Binders can be registered at any time.
  */
 public final class SporkInstance {
 	private final Catalog catalog;
-	@Nullable private Binder binder;
+	// Safely published by freeze(), so that binding doesn't lock
+	@Nullable private volatile Binder binder;
+	@Nullable private BindActionProvider bindActionProvider;
+	private List<String> hierarchyBoundaryPackagePrefixes = HierarchyBoundary.DEFAULT_PACKAGE_PREFIXES;
+	@Nullable private BindingIndex bindingIndex;
+	@Nullable private File planCacheFile;
+	@Nullable private String planCacheFingerprint;
+	@Nullable private PlanCache planCache;
+	private final List<BindListener> bindListeners = new ArrayList<>();
+	private boolean trackBoundObjects;
+	private CachePolicy cachePolicy = CachePolicy.STRONG;
 
 	// region Constructors
 
@@ -39,61 +78,632 @@ public final class SporkInstance {
 	 * Binds all annotations for a specific object.
 	 *
 	 * @param object the object to bind
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bind(Object object) {
+		try {
+			getBinder().bind(object);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * @param object the object to bind
+	 * @param parameter a non-null module instance
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bind(Object object, Object parameter) {
+		try {
+			getBinder().bind(object, parameter);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * @param object the object to bind
+	 * @param firstParameter a non-null module instance
+	 * @param secondParameter a non-null module instance
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bind(Object object, Object firstParameter, Object secondParameter) {
+		try {
+			getBinder().bind(object, firstParameter, secondParameter);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * The fixed-arity bind() methods don't allocate an array for the parameters, so they are preferred.
+	 *
+	 * @param object the object to bind
 	 * @param parameters an optional array of non-null module instances
 	 */
 	@SuppressWarnings("PMD.AvoidCatchingGenericException")
 	public void bind(Object object, Object... parameters) {
-		if (binder == null) {
-			BindActionProvider bindActionProvider = new BindActionProvider(catalog);
-			binder = new Binder(bindActionProvider);
+		try {
+			getBinder().bind(object, parameters);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
 		}
+	}
 
+	/**
+	 * Binds all annotations for a specific object.
+	 *
+	 * The attributes of the context (e.g. a resolved root View) belong to the bound object,
+	 * so they are cleared after each bind() call. The context can then be re-used
+	 * to bind other objects with the same parameters.
+	 *
+	 * @param object the object to bind
+	 * @param bindContext the parameters and attributes, created with {@link BindContexts#create(Object...)}
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bind(Object object, BindContext bindContext) {
 		try {
-			binder.bind(object, parameters);
+			getBinder().bind(object, bindContext);
 		} catch (Exception caught) {
 			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
 			throw new SporkRuntimeException(caught);
 		}
 	}
 
+	/**
+	 * Binds the annotations of a specific object that are included in a scope.
+	 *
+	 * @param object the object to bind
+	 * @param bindScope the annotations to bind
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bind(Object object, BindScope bindScope) {
+		try {
+			getBinder().bind(object, bindScope);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	/**
+	 * Binds the annotations of a specific object that are included in a scope.
+	 *
+	 * @param object the object to bind
+	 * @param bindScope the annotations to bind
+	 * @param parameter a non-null module instance
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bind(Object object, BindScope bindScope, Object parameter) {
+		try {
+			getBinder().bind(object, bindScope, parameter);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	/**
+	 * Binds the annotations of a specific object that are included in a scope.
+	 *
+	 * @param object the object to bind
+	 * @param bindScope the annotations to bind
+	 * @param parameters an optional array of non-null module instances
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bind(Object object, BindScope bindScope, Object... parameters) {
+		try {
+			getBinder().bind(object, bindScope, parameters);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	/**
+	 * Binds all annotations for multiple objects with the same parameters.
+	 * The bind plan of each class is looked up once and all objects are bound, even when some fail.
+	 *
+	 * @param objects the objects to bind
+	 * @param parameters an optional array of non-null module instances
+	 * @throws BindAllFailed when one or more objects failed to bind
+	 */
+	public void bindAll(Iterable<?> objects, Object... parameters) {
+		getBinder().bindAll(objects, null, parameters);
+	}
+
+	/**
+	 * Binds all annotations for multiple objects with the same parameters.
+	 * Objects of which all binders are a {@link ThreadSafeBinder} are bound on the Executor
+	 * (e.g. a ForkJoinPool), in no particular order. All other objects are bound on the calling thread.
+	 * This method returns when all objects are bound, even when some fail.
+	 *
+	 * @param objects the objects to bind
+	 * @param executor the Executor for objects with thread-safe bindings
+	 * @param parameters an optional array of non-null module instances
+	 * @throws BindAllFailed when one or more objects failed to bind
+	 */
+	public void bindAll(Iterable<?> objects, Executor executor, Object... parameters) {
+		getBinder().bindAll(objects, executor, parameters);
+	}
+
+	/**
+	 * Undo the bindings of an object, so that it can be recycled (e.g. from an object pool).
+	 * Only bindings that implement {@link spork.extension.UnbindableBinding} are undone: they clear bound fields,
+	 * detach listeners and release references. When bound objects are tracked, the next bind() binds the object fully.
+	 *
+	 * @param object the object to unbind
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void unbind(Object object) {
+		try {
+			getBinder().unbind(object);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	/**
+	 * Undo the bindings of an object, so that it can be recycled (e.g. from an object pool).
+	 *
+	 * @param object the object to unbind
+	 * @param parameters an optional array of non-null module instances
+	 * @see #unbind(Object)
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void unbind(Object object, Object... parameters) {
+		try {
+			getBinder().unbind(object, parameters);
+		} catch (Exception caught) {
+			// wrap into RuntimeException to clean up the stacktrace and for easy use of this method
+			throw new SporkRuntimeException(caught);
+		}
+	}
+
+	private Binder getBinder() {
+		Binder binder = this.binder;
+		return binder != null ? binder : createBinder();
+	}
+
+	private synchronized Binder createBinder() {
+		if (binder == null) {
+			HierarchyBoundary hierarchyBoundary = new HierarchyBoundary(hierarchyBoundaryPackagePrefixes);
+			if (planCacheFile != null && planCacheFingerprint != null) {
+				planCache = PlanCache.load(planCacheFile, planCacheFingerprint, catalog);
+			}
+
+			BindListener bindListener = CompositeBindListener.create(bindListeners);
+			bindActionProvider = new BindActionProvider(catalog, hierarchyBoundary, bindingIndex, planCache, bindListener, cachePolicy);
+			binder = new Binder(bindActionProvider, bindListener, trackBoundObjects);
+		}
+
+		return binder;
+	}
+
+	/**
+	 * Snapshot the configuration into an immutable binder.
+	 * Afterwards, the configuration can't be changed. Binders can still be registered.
+	 *
+	 * This is called implicitly by the first bind() or prewarm(). Calling it explicitly
+	 * (e.g. at the end of Application.onCreate()) makes configuration changes that happen too late
+	 * fail early and moves the creation of the binder to a known point in time.
+	 * After freezing, concurrent binds from multiple threads don't lock.
+	 * Calling this method multiple times has no effect.
+	 */
+	public void freeze() {
+		getBinder();
+	}
+
+	/**
+	 * @return true when {@link #freeze()} or the first bind() was called
+	 */
+	public boolean isFrozen() {
+		return binder != null;
+	}
+
+	// endregion
+
+	// region Prewarm methods
+
+	/**
+	 * Prepare the bindings of the given classes, so that the first bind() of their instances is fast.
+	 * All binders must be registered before this method is called.
+	 *
+	 * @param classes the classes to prewarm
+	 */
+	public void prewarm(Class<?>... classes) {
+		Binder binder = getBinder();
+
+		for (Class<?> type : classes) {
+			try {
+				binder.prepare(type);
+			} catch (BindFailed caught) {
+				throw new SporkRuntimeException(caught);
+			}
+		}
+	}
+
+	/**
+	 * Prepare the bindings of the given classes on the given Executor, so that the first bind()
+	 * of their instances is fast. Each class is prepared in a separate task, so an Executor
+	 * with multiple threads prepares classes in parallel.
+	 * Classes that the Executor rejects are prepared on the calling thread.
+	 * All binders must be registered before this method is called.
+	 *
+	 * @param classes the classes to prewarm
+	 * @param executor the Executor that runs the prewarm tasks
+	 * @return a handle to await the completion of the prewarming
+	 */
+	public Prewarming prewarm(Collection<Class<?>> classes, Executor executor) {
+		final Binder binder = getBinder();
+		final Prewarming prewarming = new Prewarming(classes.size());
+
+		for (final Class<?> type : classes) {
+			Runnable task = new Runnable() {
+				@Override
+				@SuppressWarnings("PMD.AvoidCatchingThrowable")
+				public void run() {
+					try {
+						binder.prepare(type);
+					} catch (Throwable caught) {
+						// Errors (e.g. NoClassDefFoundError from reflection) are reported as well
+						prewarming.onFailed(caught);
+					} finally {
+						prewarming.onFinished();
+					}
+				}
+			};
+
+			try {
+				executor.execute(task);
+			} catch (RejectedExecutionException caught) {
+				// Prewarm on the calling thread, so that the returned handle still completes
+				task.run();
+			}
+		}
+
+		return prewarming;
+	}
+
+	/**
+	 * Prepare the bindings of all classes in the binding index that spork-compiler generates.
+	 * All binders must be registered before this method is called.
+	 */
+	public void prewarmIndexedClasses() {
+		List<Class<?>> classes = getIndexedClasses();
+		prewarm(classes.toArray(new Class<?>[classes.size()]));
+	}
+
+	/**
+	 * Prepare the bindings of all classes in the binding index that spork-compiler generates
+	 * on the given Executor.
+	 * All binders must be registered before this method is called.
+	 *
+	 * @param executor the Executor that runs the prewarm tasks
+	 * @return a handle to await the completion of the prewarming
+	 */
+	public Prewarming prewarmIndexedClasses(Executor executor) {
+		return prewarm(getIndexedClasses(), executor);
+	}
+
+	private List<Class<?>> getIndexedClasses() {
+		ClassLoader classLoader = SporkInstance.class.getClassLoader();
+		BindingIndex index = bindingIndex != null ? bindingIndex : BindingIndex.load(classLoader);
+
+		if (index == null) {
+			return Collections.emptyList();
+		}
+
+		List<Class<?>> classes = new ArrayList<>(index.getClassNames().size());
+
+		for (String className : index.getClassNames()) {
+			try {
+				classes.add(Class.forName(className, false, classLoader));
+			} catch (ClassNotFoundException caught) {
+				// The index might list classes that were removed by code shrinking
+			}
+		}
+
+		return classes;
+	}
+
 	// endregion
 
 	// region Binder registration methods
 
 	/**
 	 * Register a new FieldBinder.
+	 *
+	 * Binders can be registered at any time (e.g. by a feature module that is loaded later).
+	 * Registering after the first bind() only removes the cached plans of classes that contain
+	 * the annotation of the binder: other plans stay warm. Binds that are in progress finish
+	 * with the binders they started with. Objects that were bound before are not bound again.
+	 */
+	public synchronized void register(FieldBinder<?> fieldBinder) {
+		if (bindActionProvider != null) {
+			bindActionProvider.register(fieldBinder);
+		} else {
+			catalog.add(fieldBinder);
+		}
+	}
+
+	/**
+	 * Register a new MethodBinder.
+	 *
+	 * @see #register(FieldBinder)
+	 */
+	public synchronized void register(MethodBinder<?> methodBinder) {
+		if (bindActionProvider != null) {
+			bindActionProvider.register(methodBinder);
+		} else {
+			catalog.add(methodBinder);
+		}
+	}
+
+	/**
+	 * Register a new TypeBinder.
+	 *
+	 * @see #register(FieldBinder)
+	 */
+	public synchronized void register(TypeBinder<?> typeBinder) {
+		if (bindActionProvider != null) {
+			bindActionProvider.register(typeBinder);
+		} else {
+			catalog.add(typeBinder);
+		}
+	}
+
+	/**
+	 * Register a FieldBinder that is created the first time that a bound class uses its annotation.
+	 * This keeps the startup work of extensions proportional to the annotations that are used.
+	 *
+	 * @param annotationClass the annotation class of the binder
+	 * @param factory creates the binder (at most once)
+	 * @see #register(FieldBinder)
+	 */
+	public synchronized <A extends Annotation> void registerFieldBinder(Class<A> annotationClass, BinderFactory<? extends FieldBinder<A>> factory) {
+		if (bindActionProvider != null) {
+			bindActionProvider.registerFieldBinder(annotationClass, factory);
+		} else {
+			catalog.addFieldBinder(annotationClass, factory);
+		}
+	}
+
+	/**
+	 * Register a MethodBinder that is created the first time that a bound class uses its annotation.
+	 *
+	 * @see #registerFieldBinder(Class, BinderFactory)
+	 */
+	public synchronized <A extends Annotation> void registerMethodBinder(Class<A> annotationClass, BinderFactory<? extends MethodBinder<A>> factory) {
+		if (bindActionProvider != null) {
+			bindActionProvider.registerMethodBinder(annotationClass, factory);
+		} else {
+			catalog.addMethodBinder(annotationClass, factory);
+		}
+	}
+
+	/**
+	 * Register a TypeBinder that is created the first time that a bound class uses its annotation.
+	 *
+	 * @see #registerFieldBinder(Class, BinderFactory)
+	 */
+	public synchronized <A extends Annotation> void registerTypeBinder(Class<A> annotationClass, BinderFactory<? extends TypeBinder<A>> factory) {
+		if (bindActionProvider != null) {
+			bindActionProvider.registerTypeBinder(annotationClass, factory);
+		} else {
+			catalog.addTypeBinder(annotationClass, factory);
+		}
+	}
+
+	// endregion
+
+	// region Configuration methods
+
+	/**
+	 * Set the package prefixes of classes that are never scanned for annotations.
+	 * Scanning the class hierarchy of a bound object stops at the first class in one of these packages.
+	 * The default prefixes are {@link HierarchyBoundary#DEFAULT_PACKAGE_PREFIXES}.
 	 * Must be called before the first bind() is called.
+	 *
+	 * @param packagePrefixes package prefixes such as "android."
 	 */
-	public void register(FieldBinder<?> fieldBinder) {
+	public synchronized void setHierarchyBoundary(String... packagePrefixes) {
 		if (binder != null) {
-			throw new IllegalStateException("Binders must be registered before the first bind() is called");
+			throw new IllegalStateException("The hierarchy boundary must be set before the first bind() is called");
 		}
 
-		catalog.add(fieldBinder);
+		hierarchyBoundaryPackagePrefixes = Collections.unmodifiableList(Arrays.asList(packagePrefixes.clone()));
 	}
 
 	/**
-	 * Register a new MethodBinder.
+	 * Remember which objects were bound, so that binding an object again (e.g. a retained Fragment
+	 * or a re-used View) only applies the bindings of {@link VolatileBinder} instances.
+	 * Objects are tracked per {@link BindScope}, by identity and through weak references.
 	 * Must be called before the first bind() is called.
 	 */
-	public void register(MethodBinder<?> methodBinder) {
+	public synchronized void trackBoundObjects() {
 		if (binder != null) {
-			throw new IllegalStateException("Binders must be registered before the first bind() is called");
+			throw new IllegalStateException("Bound objects must be tracked before the first bind() is called");
 		}
 
-		catalog.add(methodBinder);
+		trackBoundObjects = true;
 	}
 
 	/**
-	 * Register a new TypeBinder.
+	 * Cache the bind plans without keeping the bound classes (and their ClassLoader) alive,
+	 * for long-running processes that bind many short-lived classes (e.g. plugins).
+	 *
+	 * Classes are weakly referenced. Because a plan references the fields and methods of its class,
+	 * the plans of classes from other ClassLoaders than Spork's are attached to their class,
+	 * so they live as long as the class (on Android before API 34 they are softly referenced instead).
+	 * When a maximum size is set, the least recently used classes are evicted.
+	 * Evictions are reported to {@link BindListener#onPlanEvicted(Class)}.
 	 * Must be called before the first bind() is called.
+	 *
+	 * @param maximumSize the maximum amount of classes to cache or 0 for no maximum
+	 */
+	public synchronized void useWeakCache(int maximumSize) {
+		if (binder != null) {
+			throw new IllegalStateException("The weak cache must be enabled before the first bind() is called");
+		}
+
+		cachePolicy = CachePolicy.weak(maximumSize);
+	}
+
+	/**
+	 * Cache the bind plans without keeping the bound classes (and their ClassLoader) alive.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @see #useWeakCache(int)
+	 */
+	public void useWeakCache() {
+		useWeakCache(0);
+	}
+
+	/**
+	 * Load the binding index that spork-compiler generates and only scan the classes in it for annotations.
+	 *
+	 * Only use this when all bound classes are compiled with spork-compiler and when no binders
+	 * for other annotations are registered: classes that are not in the index are not bound.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @return true when a binding index was found and false when all classes are still scanned
+	 */
+	public synchronized boolean useBindingIndex() {
+		if (binder != null) {
+			throw new IllegalStateException("The binding index must be loaded before the first bind() is called");
+		}
+
+		bindingIndex = BindingIndex.load(SporkInstance.class.getClassLoader());
+		return bindingIndex != null;
+	}
+
+	/**
+	 * Use a file to cache the annotated members of bound classes across process restarts.
+	 * The file is read during the first bind() and it is written by {@link #savePlanCache()}.
+	 *
+	 * The fingerprint must change whenever the bound classes change (e.g. use the app version and
+	 * its install time). When the fingerprint or the registered binders don't match the file,
+	 * the file is ignored and classes are scanned.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @param file the cache file (it doesn't have to exist)
+	 * @param fingerprint identifies the version of the bound classes
+	 */
+	public synchronized void usePlanCache(File file, String fingerprint) {
+		if (binder != null) {
+			throw new IllegalStateException("The plan cache must be set before the first bind() is called");
+		}
+
+		planCacheFile = file;
+		planCacheFingerprint = fingerprint;
+	}
+
+	/**
+	 * Write the annotated members of all classes that were bound or prewarmed so far to the plan cache file.
+	 * This does I/O, so it should be called on a background thread (e.g. after the first screen is shown).
+	 *
+	 * @throws IOException when the file can't be written
+	 */
+	public synchronized void savePlanCache() throws IOException {
+		if (planCache == null) {
+			throw new IllegalStateException("usePlanCache() must be called and bind() must be called before the plan cache can be saved");
+		}
+
+		planCache.save();
+	}
+
+	/**
+	 * Add a listener for the lifecycle events of binding (e.g. for tracing or profiling).
+	 * Listeners are called in the order in which they are added.
+	 * Without listeners, binding costs a single null check extra.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @param bindListener the listener to add
 	 */
-	public void register(TypeBinder<?> typeBinder) {
+	public synchronized void addBindListener(BindListener bindListener) {
 		if (binder != null) {
-			throw new IllegalStateException("Binders must be registered before the first bind() is called");
+			throw new IllegalStateException("Bind listeners must be added before the first bind() is called");
 		}
 
-		catalog.add(typeBinder);
+		bindListeners.add(bindListener);
+	}
+
+	/**
+	 * Aggregate the durations of binds, bindings and plan creation in memory.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @return the statistics
+	 * @see #getStatistics()
+	 */
+	public synchronized BindStatistics enableStatistics() {
+		BindStatistics statistics = getStatistics();
+
+		if (statistics == null) {
+			statistics = new BindStatistics();
+			addBindListener(statistics);
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Record the binds and plan creation of this instance in a {@link Timeline}.
+	 * The timed work of extensions (such as spork-inject) is only recorded when the timeline
+	 * is also added to {@link Tracing#addTraceRecorder(spork.extension.TraceRecorder)}, as {@link Spork#enableTimeline(int)} does.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @param capacity the maximum amount of events to keep (older events are overwritten)
+	 * @return the timeline
+	 */
+	public Timeline enableTimeline(int capacity) {
+		Timeline timeline = new Timeline(capacity);
+		addBindListener(timeline);
+		return timeline;
+	}
+
+	/**
+	 * Report the binds and plan creation of this instance that exceed the thresholds of a policy.
+	 * The slowest provider methods of extensions (such as spork-inject) are only reported when the policy
+	 * is also added to {@link Tracing#addTraceRecorder(spork.extension.TraceRecorder)}, as {@link Spork#enableSlowBindPolicy(SlowBindPolicy)} does.
+	 * Must be called before the first bind() is called.
+	 *
+	 * @param slowBindPolicy the policy
+	 */
+	public void enableSlowBindPolicy(SlowBindPolicy slowBindPolicy) {
+		addBindListener(slowBindPolicy);
+	}
+
+	/**
+	 * @return the statistics when {@link #enableStatistics()} was called or null otherwise
+	 */
+	@Nullable
+	public synchronized BindStatistics getStatistics() {
+		for (BindListener bindListener : bindListeners) {
+			if (bindListener instanceof BindStatistics) {
+				return (BindStatistics) bindListener;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the package prefixes of classes that are never scanned for annotations
+	 */
+	public List<String> getHierarchyBoundary() {
+		return hierarchyBoundaryPackagePrefixes;
 	}
 
 	// endregion
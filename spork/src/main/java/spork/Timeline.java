@@ -0,0 +1,244 @@
+package spork;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.AnnotatedElement;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+
+import spork.extension.BindListener;
+import spork.extension.TraceRecorder;
+
+/**
+ * Records binds, plan creation and the timed work of extensions (e.g. @Provides methods and singleton creation
+ * of spork-inject) into a preallocated ring buffer. When the buffer is full, the oldest events are overwritten.
+ *
+ * Recording doesn't lock or allocate: an event is written into the slots of its index, which are claimed
+ * and published with a per-slot sequence number, so a dump never mixes the fields of different events.
+ * Subjects are stored as they are and only named when the events are dumped, so the timeline keeps
+ * at most one subject per slot alive.
+ * The events can be written in the Chrome trace_event format, which can be opened with chrome://tracing or Perfetto.
+ *
+ * @see SporkInstance#enableTimeline(int)
+ */
+public final class Timeline implements BindListener, TraceRecorder {
+	public static final String CATEGORY_BIND = "bind";
+	public static final String CATEGORY_BIND_FAILED = "bind-failed";
+	public static final String CATEGORY_PLAN = "plan";
+
+	/**
+	 * The sequence of a slot that is being written. Otherwise a sequence is 0 for an empty slot
+	 * or the index of the event in the slot plus 1.
+	 */
+	private static final long WRITING = -1L;
+
+	private final int capacity;
+	private final AtomicLong nextIndex = new AtomicLong();
+	private final AtomicLongArray sequences;
+	private final AtomicReferenceArray<String> categories;
+	private final AtomicReferenceArray<Object> subjects;
+	private final AtomicLongArray startNanos;
+	private final AtomicLongArray durationNanos;
+	private final AtomicLongArray threadIds;
+
+	/**
+	 * @param capacity the maximum amount of events to keep
+	 */
+	public Timeline(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("The capacity must be greater than 0");
+		}
+
+		this.capacity = capacity;
+		this.sequences = new AtomicLongArray(capacity);
+		this.categories = new AtomicReferenceArray<>(capacity);
+		this.subjects = new AtomicReferenceArray<>(capacity);
+		this.startNanos = new AtomicLongArray(capacity);
+		this.durationNanos = new AtomicLongArray(capacity);
+		this.threadIds = new AtomicLongArray(capacity);
+	}
+
+	// region Recording
+
+	/**
+	 * An event is dropped when another thread is still writing the same slot, which only happens
+	 * when more events are recorded concurrently than the capacity holds.
+	 */
+	@Override
+	public void record(String category, Object subject, long startNanos, long durationNanos) {
+		long index = nextIndex.getAndIncrement();
+		int slot = (int) (index % capacity);
+		long sequence = sequences.get(slot);
+
+		// Don't replace a newer event and don't write a slot that another thread is writing
+		if (sequence == WRITING || sequence > index || !sequences.compareAndSet(slot, sequence, WRITING)) {
+			return;
+		}
+
+		categories.lazySet(slot, category);
+		subjects.lazySet(slot, subject);
+		this.startNanos.lazySet(slot, startNanos);
+		this.durationNanos.lazySet(slot, durationNanos);
+		threadIds.lazySet(slot, Thread.currentThread().getId());
+		sequences.set(slot, index + 1);
+	}
+
+	@Override
+	public void onBindStarted(Object object) {
+	}
+
+	@Override
+	public void onBindFinished(Object object, long durationNanos) {
+		record(CATEGORY_BIND, object.getClass(), System.nanoTime() - durationNanos, durationNanos);
+	}
+
+	@Override
+	public void onBindFailed(Object object, Exception failure, long durationNanos) {
+		record(CATEGORY_BIND_FAILED, object.getClass(), System.nanoTime() - durationNanos, durationNanos);
+	}
+
+	@Override
+	public void onBindingFinished(Object object, Object binder, AnnotatedElement member, long durationNanos) {
+	}
+
+	@Override
+	public void onBindingFailed(Object object, Object binder, AnnotatedElement member, Exception failure, long durationNanos) {
+	}
+
+	@Override
+	public void onPlanCacheHit(Class<?> type) {
+	}
+
+	@Override
+	public void onPlanCreated(Class<?> type, int bindingCount, long durationNanos) {
+		record(CATEGORY_PLAN, type, System.nanoTime() - durationNanos, durationNanos);
+	}
+
+	@Override
+	public void onMemberScan(Class<?> type) {
+	}
+
+	@Override
+	public void onPlanEvicted(@Nullable Class<?> type) {
+	}
+
+	// endregion
+
+	/**
+	 * @return the amount of events that are currently held
+	 */
+	public int size() {
+		return (int) Math.min(nextIndex.get(), capacity);
+	}
+
+	/**
+	 * Write all held events as Chrome trace_event JSON, from oldest to newest.
+	 * Events that are recorded while dumping are skipped or replace older events, so this should be called
+	 * after the traced work is done (e.g. after startup).
+	 * The stream is flushed but not closed.
+	 *
+	 * @param outputStream the stream to write to
+	 * @throws IOException when writing fails
+	 */
+	public void dump(OutputStream outputStream) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, "UTF-8"));
+		long endIndex = nextIndex.get();
+		long startIndex = Math.max(0L, endIndex - capacity);
+
+		writer.write("{\"traceEvents\":[");
+		boolean isFirst = true;
+
+		for (long index = startIndex; index < endIndex; ++index) {
+			int slot = (int) (index % capacity);
+
+			// The slot is not written yet or it was overwritten by a newer event
+			if (sequences.get(slot) != index + 1) {
+				continue;
+			}
+
+			String category = categories.get(slot);
+			Object subject = subjects.get(slot);
+			long eventStartNanos = startNanos.get(slot);
+			long eventDurationNanos = durationNanos.get(slot);
+			long threadId = threadIds.get(slot);
+
+			// The slot was overwritten while it was read
+			if (sequences.get(slot) != index + 1) {
+				continue;
+			}
+
+			if (!isFirst) {
+				writer.write(',');
+			}
+
+			isFirst = false;
+			writer.write("\n{\"name\":");
+			writeString(writer, getName(subject));
+			writer.write(",\"cat\":");
+			writeString(writer, category);
+			writer.write(",\"ph\":\"X\",\"ts\":");
+			writeMicros(writer, eventStartNanos);
+			writer.write(",\"dur\":");
+			writeMicros(writer, eventDurationNanos);
+			writer.write(",\"pid\":1,\"tid\":");
+			writer.write(Long.toString(threadId));
+			writer.write('}');
+		}
+
+		writer.write("\n],\"displayTimeUnit\":\"ns\"}\n");
+		writer.flush();
+	}
+
+	private static String getName(Object subject) {
+		if (subject instanceof Class) {
+			return ((Class<?>) subject).getName();
+		} else {
+			return String.valueOf(subject);
+		}
+	}
+
+	/**
+	 * Write nanoseconds as microseconds with 3 decimals, because trace_event timestamps are in microseconds.
+	 */
+	private static void writeMicros(Writer writer, long nanos) throws IOException {
+		if (nanos < 0) {
+			writer.write('-');
+			nanos = -nanos;
+		}
+
+		String fraction = Long.toString(nanos % 1000L);
+		writer.write(Long.toString(nanos / 1000L));
+		writer.write('.');
+
+		for (int i = fraction.length(); i < 3; ++i) {
+			writer.write('0');
+		}
+
+		writer.write(fraction);
+	}
+
+	private static void writeString(Writer writer, String text) throws IOException {
+		writer.write('"');
+
+		for (int i = 0; i < text.length(); ++i) {
+			char character = text.charAt(i);
+
+			if (character == '"' || character == '\\') {
+				writer.write('\\');
+				writer.write(character);
+			} else if (character < 0x20) {
+				writer.write(String.format("\\u%04x", (int) character));
+			} else {
+				writer.write(character);
+			}
+		}
+
+		writer.write('"');
+	}
+}
@@ -0,0 +1,28 @@
+package spork.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown by SporkInstance.bindAll() when one or more objects failed to bind.
+ * All other objects are bound.
+ */
+public class BindAllFailed extends SporkRuntimeException {
+	private final List<Exception> failures;
+
+	/**
+	 * @param failures the failures of all objects that failed to bind (at least one)
+	 * @param objectCount the amount of objects that were bound
+	 */
+	public BindAllFailed(List<Exception> failures, int objectCount) {
+		super("Failed to bind " + failures.size() + " of " + objectCount + " objects", failures.get(0));
+		this.failures = Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * @return the failures of all objects that failed to bind
+	 */
+	public List<Exception> getFailures() {
+		return failures;
+	}
+}
@@ -10,7 +10,7 @@ public class SporkRuntimeException extends RuntimeException {
 		super(parent.getMessage(), parent);
 	}
 
-	public SporkRuntimeException(String message, Exception parent) {
+	public SporkRuntimeException(String message, Throwable parent) {
 		super(message, parent);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package spork.extension;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A base class for {@link PreparableFieldBinder} implementations, so that they only implement prepare().
+ *
+ * Spork only calls prepare(): {@link #bind(Object, Annotation, Field, Object...)} is only used
+ * when the binder is called directly, so it prepares a Binding for every call.
+ */
+public abstract class AbstractPreparableFieldBinder<T extends Annotation> implements PreparableFieldBinder<T> {
+	@Override
+	public void bind(Object object, T annotation, Field field, Object... parameters) throws BindFailed {
+		prepare(annotation, field).bind(object, BindContexts.create(parameters));
+	}
+}
@@ -0,0 +1,19 @@
+package spork.extension;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A base class for {@link PreparableMethodBinder} implementations, so that they only implement prepare().
+ *
+ * Spork only calls prepare(): {@link #bind(Object, Annotation, Method, Object...)} is only used
+ * when the binder is called directly, so it prepares a Binding for every call.
+ */
+public abstract class AbstractPreparableMethodBinder<T extends Annotation> implements PreparableMethodBinder<T> {
+	@Override
+	public void bind(Object object, T annotation, Method method, Object... parameters) throws BindFailed {
+		prepare(annotation, method).bind(object, BindContexts.create(parameters));
+	}
+}
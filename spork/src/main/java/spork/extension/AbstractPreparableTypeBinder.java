@@ -0,0 +1,18 @@
+package spork.extension;
+
+import java.lang.annotation.Annotation;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A base class for {@link PreparableTypeBinder} implementations, so that they only implement prepare().
+ *
+ * Spork only calls prepare(): {@link #bind(Object, Annotation, Class, Object...)} is only used
+ * when the binder is called directly, so it prepares a Binding for every call.
+ */
+public abstract class AbstractPreparableTypeBinder<T extends Annotation> implements PreparableTypeBinder<T> {
+	@Override
+	public void bind(Object object, T annotation, Class<?> annotatedType, Object... parameters) throws BindFailed {
+		prepare(annotation, annotatedType).bind(object, BindContexts.create(parameters));
+	}
+}
@@ -0,0 +1,90 @@
+package spork.extension;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates {@link FieldAccessor} and {@link MethodAccessor} instances.
+ *
+ * The accessed member is made accessible once, when the accessor is created.
+ * This avoids the security check of setAccessible() on every access and the race between
+ * threads that toggle the accessibility of the same member.
+ */
+public final class Accessors {
+
+	private Accessors() {
+	}
+
+	/**
+	 * @param field the field to access
+	 * @return a FieldAccessor for the given field
+	 */
+	public static FieldAccessor forField(Field field) {
+		makeAccessible(field);
+		return new ReflectionFieldAccessor(field);
+	}
+
+	/**
+	 * @param method the method to invoke
+	 * @return a MethodAccessor for the given method
+	 */
+	public static MethodAccessor forMethod(Method method) {
+		makeAccessible(method);
+		return new ReflectionMethodAccessor(method);
+	}
+
+	private static void makeAccessible(AccessibleObject accessibleObject) {
+		try {
+			accessibleObject.setAccessible(true);
+		} catch (SecurityException ignored) {
+			// The accessor reports an IllegalAccessException when the member is accessed
+		}
+	}
+
+	private static final class ReflectionFieldAccessor implements FieldAccessor {
+		private final Field field;
+
+		ReflectionFieldAccessor(Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public void set(@Nullable Object object, @Nullable Object value) throws IllegalAccessException {
+			field.set(object, value);
+		}
+
+		@Override
+		@Nullable
+		public Object get(@Nullable Object object) throws IllegalAccessException {
+			return field.get(object);
+		}
+
+		@Override
+		public Field getField() {
+			return field;
+		}
+	}
+
+	private static final class ReflectionMethodAccessor implements MethodAccessor {
+		private final Method method;
+
+		ReflectionMethodAccessor(Method method) {
+			this.method = method;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(@Nullable Object object, Object... arguments) throws IllegalAccessException, InvocationTargetException {
+			return method.invoke(object, arguments);
+		}
+
+		@Override
+		public Method getMethod() {
+			return method;
+		}
+	}
+}
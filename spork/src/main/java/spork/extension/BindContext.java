@@ -0,0 +1,91 @@
+package spork.extension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the parameters of a single bind() call.
+ *
+ * A BindContext also holds attributes: values that are shared by all bindings of a single bind() call.
+ * Bindings can use these to resolve an expensive value (e.g. a root View) only once per bind() call.
+ *
+ * A BindContext is only valid during the bind() call that it was passed to:
+ * Spork re-uses BindContext instances, so bindings must not keep a reference to it.
+ */
+public interface BindContext {
+	/**
+	 * Identifies an attribute of a BindContext.
+	 * Keys are compared by identity, so they should be stored in a static field.
+	 *
+	 * @param <T> the type of the attribute value
+	 */
+	final class Key<T> {
+		private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+		private final String name;
+		private final int index;
+
+		/**
+		 * @param name the name of the attribute (used for debugging)
+		 */
+		public Key(String name) {
+			this.name = name;
+			this.index = NEXT_INDEX.getAndIncrement();
+		}
+
+		/**
+		 * @return a unique number for this key, so that BindContext implementations can store attributes in an array
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return the amount of keys that were created so far
+		 */
+		public static int getCount() {
+			return NEXT_INDEX.get();
+		}
+
+		@Override
+		public String toString() {
+			return "BindContext.Key(" + name + ")";
+		}
+	}
+
+	/**
+	 * Find a parameter by its type.
+	 * Repeated lookups for the same type are resolved in constant time.
+	 *
+	 * @param type the type of the parameter
+	 * @param <T> the type of the parameter
+	 * @return the first parameter that is an instance of the given type or null when there is none
+	 */
+	@Nullable
+	<T> T find(Class<T> type);
+
+	/**
+	 * This method might allocate a new array, so {@link #find(Class)} is preferred.
+	 *
+	 * @return all parameters of the bind() call
+	 */
+	Object[] getParameters();
+
+	/**
+	 * @param key the attribute key
+	 * @param <T> the type of the attribute value
+	 * @return the attribute value or null when it wasn't set during the current bind() call
+	 */
+	@Nullable
+	<T> T getAttribute(Key<T> key);
+
+	/**
+	 * Set an attribute value for the remainder of the current bind() call.
+	 *
+	 * @param key the attribute key
+	 * @param value the attribute value
+	 * @param <T> the type of the attribute value
+	 */
+	<T> void setAttribute(Key<T> key, @Nullable T value);
+}
@@ -0,0 +1,24 @@
+package spork.extension;
+
+import spork.internal.BindContextImpl;
+
+/**
+ * Creates {@link BindContext} instances for callers of SporkInstance.bind(Object, BindContext)
+ * and for binders that are called directly instead of through Spork.
+ */
+public final class BindContexts {
+
+	private BindContexts() {
+	}
+
+	/**
+	 * A BindContext can be passed to multiple bind() calls on the same thread.
+	 * Its parameters are shared by all of these calls, but its attributes are cleared after each call.
+	 *
+	 * @param parameters the parameters (e.g. an ObjectGraph for the spork-inject module)
+	 * @return a new BindContext with the given parameters
+	 */
+	public static BindContext create(Object... parameters) {
+		return new BindContextImpl(parameters);
+	}
+}
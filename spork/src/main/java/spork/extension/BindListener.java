@@ -0,0 +1,98 @@
+package spork.extension;
+
+import java.lang.reflect.AnnotatedElement;
+
+import javax.annotation.Nullable;
+
+/**
+ * Receives the lifecycle events of binding, for tracing and profiling.
+ *
+ * Methods are called on the binding thread, possibly by multiple threads at the same time,
+ * so implementations must be thread-safe and fast. Without any listener, binding costs a single
+ * null check extra.
+ *
+ * @see BindListenerAdapter
+ * @see spork.SporkInstance#addBindListener(BindListener)
+ */
+public interface BindListener {
+	/**
+	 * Called before an object is bound.
+	 *
+	 * @param object the object to bind
+	 */
+	void onBindStarted(Object object);
+
+	/**
+	 * Called after an object was bound.
+	 *
+	 * @param object the bound object
+	 * @param durationNanos the duration of the bind() call, including the creation of its bind plan
+	 */
+	void onBindFinished(Object object, long durationNanos);
+
+	/**
+	 * Called when binding an object failed.
+	 *
+	 * @param object the object that failed to bind
+	 * @param failure the cause
+	 * @param durationNanos the duration until the failure
+	 */
+	void onBindFailed(Object object, Exception failure, long durationNanos);
+
+	/**
+	 * Called after a single binding was applied to an object.
+	 *
+	 * @param object the bound object
+	 * @param binder the FieldBinder, MethodBinder or TypeBinder that created the binding
+	 * @param member the annotated Field, Method or Class
+	 * @param durationNanos the duration of the binding
+	 */
+	void onBindingFinished(Object object, Object binder, AnnotatedElement member, long durationNanos);
+
+	/**
+	 * Called when a single binding failed.
+	 * {@link #onBindFailed(Object, Exception, long)} is called afterwards.
+	 *
+	 * @param object the object that failed to bind
+	 * @param binder the FieldBinder, MethodBinder or TypeBinder that created the binding
+	 * @param member the annotated Field, Method or Class
+	 * @param failure the cause
+	 * @param durationNanos the duration until the failure
+	 */
+	void onBindingFailed(Object object, Object binder, AnnotatedElement member, Exception failure, long durationNanos);
+
+	/**
+	 * Called when the bind plan of a class was found in the cache.
+	 *
+	 * @param type the class to bind
+	 */
+	void onPlanCacheHit(Class<?> type);
+
+	/**
+	 * Called when the bind plan of a class was created because it was not cached.
+	 * This is also called for the superclasses of which the plan was not cached yet.
+	 *
+	 * @param type the class to bind
+	 * @param bindingCount the amount of bindings in the plan (including superclass bindings)
+	 * @param durationNanos the duration of creating the plan (including the plans of its superclasses)
+	 */
+	void onPlanCreated(Class<?> type, int bindingCount, long durationNanos);
+
+	/**
+	 * Called when the bind actions of a class are created from its declared members
+	 * (instead of from a plan cache file or generated code).
+	 * The reflective metadata of the members is shared by all SporkInstance objects,
+	 * so the class itself might have been scanned before.
+	 *
+	 * @param type the scanned class
+	 */
+	void onMemberScan(Class<?> type);
+
+	/**
+	 * Called when the bind plan of a class was removed from a weak or bounded cache.
+	 *
+	 * @param type the class of which the plan was removed or null when the class was garbage collected
+	 * @see spork.SporkInstance#useWeakCache(int)
+	 */
+	void onPlanEvicted(@Nullable Class<?> type);
+}
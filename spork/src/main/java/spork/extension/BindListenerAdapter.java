@@ -0,0 +1,48 @@
+package spork.extension;
+
+import java.lang.reflect.AnnotatedElement;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link BindListener} that ignores all events.
+ * Subclasses override the events they are interested in.
+ */
+public abstract class BindListenerAdapter implements BindListener {
+
+	@Override
+	public void onBindStarted(Object object) {
+	}
+
+	@Override
+	public void onBindFinished(Object object, long durationNanos) {
+	}
+
+	@Override
+	public void onBindFailed(Object object, Exception failure, long durationNanos) {
+	}
+
+	@Override
+	public void onBindingFinished(Object object, Object binder, AnnotatedElement member, long durationNanos) {
+	}
+
+	@Override
+	public void onBindingFailed(Object object, Object binder, AnnotatedElement member, Exception failure, long durationNanos) {
+	}
+
+	@Override
+	public void onPlanCacheHit(Class<?> type) {
+	}
+
+	@Override
+	public void onPlanCreated(Class<?> type, int bindingCount, long durationNanos) {
+	}
+
+	@Override
+	public void onMemberScan(Class<?> type) {
+	}
+
+	@Override
+	public void onPlanEvicted(@Nullable Class<?> type) {
+	}
+}
@@ -0,0 +1,16 @@
+package spork.extension;
+
+/**
+ * Creates a binder the first time that a bound class uses its annotation,
+ * so that registering a binder doesn't instantiate it (nor its dependencies).
+ *
+ * @param <B> the binder type
+ */
+public interface BinderFactory<B> {
+	/**
+	 * Called at most once, while a bind plan is created.
+	 *
+	 * @return a new binder
+	 */
+	B create();
+}
@@ -0,0 +1,19 @@
+package spork.extension;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A Binding binds a single prepared field/method/type annotation of an object instance.
+ *
+ * Bindings are created once by a {@link PreparableFieldBinder}, {@link PreparableMethodBinder}
+ * or {@link PreparableTypeBinder} and are then used for every bind of the annotated class.
+ */
+public interface Binding {
+	/**
+	 * Bind the object.
+	 *
+	 * @param object     the annotated instance
+	 * @param bindContext the parameters of the bind() call
+	 */
+	void bind(Object object, BindContext bindContext) throws BindFailed;
+}
@@ -0,0 +1,32 @@
+package spork.extension;
+
+import java.lang.reflect.Field;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads and writes the value of a single Field without checking its accessibility on each access.
+ *
+ * Create instances with {@link Accessors#forField(Field)} when preparing a {@link Binding}.
+ */
+public interface FieldAccessor {
+	/**
+	 * @param object the object that holds the field or null for static fields
+	 * @param value  the new field value
+	 * @throws IllegalAccessException when the field is final or could not be made accessible
+	 */
+	void set(@Nullable Object object, @Nullable Object value) throws IllegalAccessException;
+
+	/**
+	 * @param object the object that holds the field or null for static fields
+	 * @return the field value
+	 * @throws IllegalAccessException when the field could not be made accessible
+	 */
+	@Nullable
+	Object get(@Nullable Object object) throws IllegalAccessException;
+
+	/**
+	 * @return the accessed Field
+	 */
+	Field getField();
+}
@@ -0,0 +1,28 @@
+package spork.extension;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import javax.annotation.Nullable;
+
+/**
+ * Invokes a single Method without checking its accessibility on each invocation.
+ *
+ * Create instances with {@link Accessors#forMethod(Method)} when preparing a {@link Binding}.
+ */
+public interface MethodAccessor {
+	/**
+	 * @param object    the object to invoke the method on or null for static methods
+	 * @param arguments the method arguments
+	 * @return the return value of the method
+	 * @throws IllegalAccessException    when the method could not be made accessible
+	 * @throws InvocationTargetException when the method threw an exception
+	 */
+	@Nullable
+	Object invoke(@Nullable Object object, Object... arguments) throws IllegalAccessException, InvocationTargetException;
+
+	/**
+	 * @return the invoked Method
+	 */
+	Method getMethod();
+}
@@ -0,0 +1,26 @@
+package spork.extension;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A FieldBinder that prepares a {@link Binding} for each annotated Field.
+ *
+ * Spork calls {@link #prepare(Annotation, Field)} once per annotated Field when it first binds
+ * the declaring class. The returned Binding is used for all subsequent binds, so all work that
+ * does not depend on the bound instance (validation, reading annotation values, etc.)
+ * should be done in prepare().
+ */
+public interface PreparableFieldBinder<T extends Annotation> extends FieldBinder<T> {
+	/**
+	 * Prepare the binding of an annotated Field.
+	 *
+	 * @param annotation the annotation
+	 * @param field      the field that was annotated
+	 * @return the Binding that is used to bind instances
+	 * @throws BindFailed when the annotated Field is invalid
+	 */
+	Binding prepare(T annotation, Field field) throws BindFailed;
+}
@@ -0,0 +1,24 @@
+package spork.extension;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A MethodBinder that prepares a {@link Binding} for each annotated Method.
+ *
+ * Spork calls {@link #prepare(Annotation, Method)} once per annotated Method when it first binds
+ * the declaring class. The returned Binding is used for all subsequent binds.
+ */
+public interface PreparableMethodBinder<T extends Annotation> extends MethodBinder<T> {
+	/**
+	 * Prepare the binding of an annotated Method.
+	 *
+	 * @param annotation the annotation
+	 * @param method     the method that was annotated
+	 * @return the Binding that is used to bind instances
+	 * @throws BindFailed when the annotated Method is invalid
+	 */
+	Binding prepare(T annotation, Method method) throws BindFailed;
+}
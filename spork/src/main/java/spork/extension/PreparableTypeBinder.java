@@ -0,0 +1,23 @@
+package spork.extension;
+
+import java.lang.annotation.Annotation;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A TypeBinder that prepares a {@link Binding} for each annotated class.
+ *
+ * Spork calls {@link #prepare(Annotation, Class)} once per annotated class when it first binds
+ * that class. The returned Binding is used for all subsequent binds.
+ */
+public interface PreparableTypeBinder<T extends Annotation> extends TypeBinder<T> {
+	/**
+	 * Prepare the binding of an annotated class.
+	 *
+	 * @param annotation    the annotation
+	 * @param annotatedType the class level where this annotation was found
+	 * @return the Binding that is used to bind instances
+	 * @throws BindFailed when the annotated class is invalid
+	 */
+	Binding prepare(T annotation, Class<?> annotatedType) throws BindFailed;
+}
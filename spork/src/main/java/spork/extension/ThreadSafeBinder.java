@@ -0,0 +1,11 @@
+package spork.extension;
+
+/**
+ * Marks a FieldBinder, MethodBinder or TypeBinder of which the bindings can bind different objects
+ * on multiple threads at the same time.
+ *
+ * {@link spork.SporkInstance#bindAll(Iterable, java.util.concurrent.Executor, Object...)} binds an object
+ * on the Executor when all of its bindings come from thread-safe binders.
+ */
+public interface ThreadSafeBinder {
+}
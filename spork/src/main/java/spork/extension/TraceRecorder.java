@@ -0,0 +1,21 @@
+package spork.extension;
+
+/**
+ * Records timed events, such as binds and injections, for tracing.
+ *
+ * Methods are called on the thread that did the work, possibly by multiple threads at the same time,
+ * so implementations must be thread-safe and fast.
+ *
+ * @see Tracing
+ */
+public interface TraceRecorder {
+	/**
+	 * Record an event that has completed.
+	 *
+	 * @param category the kind of event (e.g. "bind" or "provides")
+	 * @param subject the class, method or signature that the event is about (recorders should only name it when they output their events, because naming a Method is expensive)
+	 * @param startNanos the start time as provided by {@link System#nanoTime()}
+	 * @param durationNanos the duration of the event
+	 */
+	void record(String category, Object subject, long startNanos, long durationNanos);
+}
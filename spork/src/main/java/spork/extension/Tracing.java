@@ -0,0 +1,91 @@
+package spork.extension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the process-wide {@link TraceRecorder} instances that extensions report their timed work to.
+ *
+ * Extensions should only measure time when a recorder is set:
+ * <pre>
+ * TraceRecorder traceRecorder = Tracing.getTraceRecorder();
+ * long startNanos = traceRecorder != null ? System.nanoTime() : 0L;
+ * // do work
+ * if (traceRecorder != null) {
+ *     traceRecorder.record(Tracing.CATEGORY_PROVIDES, subject, startNanos, System.nanoTime() - startNanos);
+ * }
+ * </pre>
+ */
+public final class Tracing {
+	/**
+	 * The category for invocations of provider methods (e.g. @Provides methods of spork-inject).
+	 */
+	public static final String CATEGORY_PROVIDES = "provides";
+
+	/**
+	 * The category for the creation of scoped instances (e.g. singletons of spork-inject).
+	 */
+	public static final String CATEGORY_INSTANCE = "instance";
+
+	private static final List<TraceRecorder> traceRecorders = new ArrayList<>();
+	@Nullable private static volatile TraceRecorder traceRecorder;
+
+	private Tracing() {
+	}
+
+	/**
+	 * @return the recorder that forwards to all added recorders or null when tracing is disabled
+	 */
+	@Nullable
+	public static TraceRecorder getTraceRecorder() {
+		return traceRecorder;
+	}
+
+	/**
+	 * @param traceRecorder the recorder to add
+	 */
+	public static void addTraceRecorder(TraceRecorder traceRecorder) {
+		synchronized (traceRecorders) {
+			traceRecorders.add(traceRecorder);
+			Tracing.traceRecorder = combine(traceRecorders);
+		}
+	}
+
+	/**
+	 * @param traceRecorder the recorder to remove
+	 */
+	public static void removeTraceRecorder(TraceRecorder traceRecorder) {
+		synchronized (traceRecorders) {
+			traceRecorders.remove(traceRecorder);
+			Tracing.traceRecorder = combine(traceRecorders);
+		}
+	}
+
+	@Nullable
+	private static TraceRecorder combine(List<TraceRecorder> traceRecorders) {
+		if (traceRecorders.isEmpty()) {
+			return null;
+		} else if (traceRecorders.size() == 1) {
+			return traceRecorders.get(0);
+		} else {
+			return new CompositeTraceRecorder(traceRecorders.toArray(new TraceRecorder[traceRecorders.size()]));
+		}
+	}
+
+	private static final class CompositeTraceRecorder implements TraceRecorder {
+		private final TraceRecorder[] traceRecorders;
+
+		CompositeTraceRecorder(TraceRecorder[] traceRecorders) {
+			this.traceRecorders = traceRecorders;
+		}
+
+		@Override
+		public void record(String category, Object subject, long startNanos, long durationNanos) {
+			for (TraceRecorder traceRecorder : traceRecorders) {
+				traceRecorder.record(category, subject, startNanos, durationNanos);
+			}
+		}
+	}
+}
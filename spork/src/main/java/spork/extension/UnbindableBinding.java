@@ -0,0 +1,20 @@
+package spork.extension;
+
+import spork.exceptions.BindFailed;
+
+/**
+ * A {@link Binding} that can undo its binding, so that a bound object can be recycled
+ * (e.g. a pooled list item View or presenter).
+ *
+ * Unbinding should release everything that the binding attached to the object,
+ * such as field references and listeners, without allocating.
+ */
+public interface UnbindableBinding extends Binding {
+	/**
+	 * Undo the binding of the object.
+	 *
+	 * @param object      the annotated instance
+	 * @param bindContext the parameters of the unbind() call
+	 */
+	void unbind(Object object, BindContext bindContext) throws BindFailed;
+}
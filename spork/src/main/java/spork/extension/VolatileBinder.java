@@ -0,0 +1,11 @@
+package spork.extension;
+
+/**
+ * Marks a FieldBinder, MethodBinder or TypeBinder of which the bindings must be applied on every bind(),
+ * even when the object was bound before.
+ *
+ * When {@link spork.SporkInstance#trackBoundObjects()} is enabled, binding an object again
+ * only applies the bindings of volatile binders.
+ */
+public interface VolatileBinder {
+}
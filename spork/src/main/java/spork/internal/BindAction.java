@@ -1,6 +1,10 @@
 package spork.internal;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+
 import spork.exceptions.BindFailed;
+import spork.extension.BindContext;
 
 /**
  * An implementation of a binding action that binds an object instance for 1 specific field/method/type.
@@ -10,7 +14,45 @@ interface BindAction {
 	 * Bind the object.
 	 *
 	 * @param object the instance to bind annotations for
-	 * @param parameters optional parameters(e.g. an ObjectGraph for the spork-inject module)
+	 * @param bindContext the parameters (e.g. an ObjectGraph for the spork-inject module)
+	 */
+	void bind(Object object, BindContext bindContext) throws BindFailed;
+
+	/**
+	 * Undo the binding of the object. This does nothing when the action is not unbindable.
+	 *
+	 * @param object the instance to unbind annotations for
+	 * @param bindContext the parameters
+	 */
+	void unbind(Object object, BindContext bindContext) throws BindFailed;
+
+	/**
+	 * @return true when the binding of this action is an {@link spork.extension.UnbindableBinding}
+	 */
+	boolean isUnbindable();
+
+	/**
+	 * @return true when the binder of this action is a {@link spork.extension.ThreadSafeBinder}
+	 */
+	boolean isThreadSafe();
+
+	/**
+	 * @return true when the binder of this action is a {@link spork.extension.VolatileBinder}
+	 */
+	boolean isVolatile();
+
+	/**
+	 * @return the FieldBinder, MethodBinder or TypeBinder of this action
+	 */
+	Object getBinder();
+
+	/**
+	 * @return the annotated Field, Method or Class of this action
+	 */
+	AnnotatedElement getMember();
+
+	/**
+	 * @return the annotation that this action binds
 	 */
-	void bind(Object object, Object... parameters) throws BindFailed;
+	Class<? extends Annotation> getAnnotationClass();
 }
@@ -1,44 +1,82 @@
 package spork.internal;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import spork.exceptions.BindFailed;
+
+/**
+ * Caches the {@link BindAction} list for each class.
+ *
+ * Retrieving a cached list is lock-free. When a list is not cached yet, only the threads that request
+ * the same class are blocked while the {@link Factory} creates the list, so the factory is called
+ * at most once per class (unless it throws, in which case the next call retries the creation).
+ */
 public final class BindActionCache {
-	private final Map<Class<?>, List<BindAction>> map;
-	private final Lock mapLock;
+	private final ClassCache<List<BindAction>> cache;
+	private final ConcurrentMap<Class<?>, Object> creationLocks = new ConcurrentHashMap<>();
+
+	public BindActionCache(ClassCache<List<BindAction>> cache) {
+		this.cache = cache;
+	}
 
-	public BindActionCache(Map<Class<?>, List<BindAction>> map, Lock mapLock) {
-		this.map = map;
-		this.mapLock = mapLock;
+	public BindActionCache(ConcurrentMap<Class<?>, List<BindAction>> map) {
+		this(new ConcurrentClassCache<>(map));
 	}
 
-	@SuppressWarnings("PMD.UseConcurrentHashMap")
 	public BindActionCache() {
-		this(new HashMap<Class<?>, List<BindAction>>(), new ReentrantLock());
+		this(new ConcurrentClassCache<List<BindAction>>());
 	}
 
-	public List<BindAction> getOrCreate(Class<?> type, Factory factory) {
-		mapLock.lock();
+	public List<BindAction> getOrCreate(Class<?> type, Factory factory) throws BindFailed {
+		List<BindAction> binderList = cache.get(type);
 
-		try {
-			List<BindAction> binderList = map.get(type);
+		if (binderList != null) {
+			return binderList;
+		} else {
+			return create(type, factory);
+		}
+	}
 
-			// If no cache exists, create cache
-			if (binderList == null) {
-				binderList = factory.create(type);
-				map.put(type, binderList);
-			}
+	/**
+	 * Remove the cached list of a class, so that it is created again when it is requested.
+	 */
+	public void remove(Class<?> type) {
+		cache.remove(type);
+	}
 
-			return binderList;
-		} finally {
-			mapLock.unlock();
+	/**
+	 * @return a snapshot of the classes that have a cached list
+	 */
+	public List<Class<?>> getTypes() {
+		return cache.getTypes();
+	}
+
+	private List<BindAction> create(Class<?> type, Factory factory) throws BindFailed {
+		Object newLock = new Object();
+		Object existingLock = creationLocks.putIfAbsent(type, newLock);
+		Object lock = existingLock != null ? existingLock : newLock;
+
+		synchronized (lock) {
+			try {
+				// Another thread might have created the list while this thread was waiting for the lock
+				List<BindAction> binderList = cache.get(type);
+
+				if (binderList == null) {
+					binderList = factory.create(type);
+					cache.putIfAbsent(type, binderList);
+				}
+
+				return binderList;
+			} finally {
+				// The list is stored before the lock is removed, so threads that create a new lock will find it
+				creationLocks.remove(type, lock);
+			}
 		}
 	}
 
 	public interface Factory {
-		List<BindAction> create(Class<?> type);
+		List<BindAction> create(Class<?> type) throws BindFailed;
 	}
 }
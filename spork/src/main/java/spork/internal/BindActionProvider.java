@@ -4,46 +4,388 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import javax.annotation.Nullable;
+
+import spork.BindScope;
 import spork.exceptions.BindFailed;
+import spork.extension.BindContext;
+import spork.extension.BindListener;
+import spork.extension.BinderFactory;
+import spork.extension.Binding;
 import spork.extension.FieldBinder;
 import spork.extension.MethodBinder;
+import spork.extension.PreparableFieldBinder;
+import spork.extension.PreparableMethodBinder;
+import spork.extension.PreparableTypeBinder;
 import spork.extension.TypeBinder;
 
 /**
  * Holds the {@link BindAction} instances for all known types.
  *
- * Calling the register() methods updates the cache.
+ * Calling the register() methods updates the cache: only the plans and actions of classes that
+ * contain the annotation of the new binder are removed, so they are created again on their next bind.
+ * Plans are immutable, so binds that are in progress finish with the plan they started with.
+ * Cached plans are read without locking. Creating a plan and registering a binder exclude each other,
+ * so a plan is never cached for an outdated version of the {@link Catalog}.
  */
 public final class BindActionProvider {
-	@SuppressWarnings("PMD.UseConcurrentHashMap") // we need to synchronize on combined get & put
-	private final BindActionCache bindActionCache = new BindActionCache();
+	private final BindActionCache bindActionCache;
+	private final ClassCache<BindPlan> bindPlanCache;
+	private final ConcurrentMap<BindScope, ClassCache<BindPlan>> scopedBindPlanCaches = new ConcurrentHashMap<>();
+	private final CachePolicy cachePolicy;
 	private final Catalog catalog;
+	private final HierarchyBoundary hierarchyBoundary;
+	@Nullable private final BindingIndex bindingIndex;
+	@Nullable private final PlanCache planCache;
+	@Nullable private final BindListener bindListener;
 	private final BindActionCache.Factory factory;
+	private final ReadWriteLock catalogLock = new ReentrantReadWriteLock();
+	// The PlanCache entries refer to the binders of this Catalog version
+	private final int planCacheVersion;
 
-	public BindActionProvider(Catalog catalog, BindActionCache.Factory factory) {
+	public BindActionProvider(Catalog catalog, HierarchyBoundary hierarchyBoundary, BindActionCache.Factory factory) {
 		this.catalog = catalog;
+		this.hierarchyBoundary = hierarchyBoundary;
+		this.bindingIndex = null;
+		this.planCache = null;
+		this.bindListener = null;
+		this.cachePolicy = CachePolicy.STRONG;
+		this.bindActionCache = new BindActionCache();
+		this.bindPlanCache = cachePolicy.createCache(null);
 		this.factory = factory;
+		this.planCacheVersion = catalog.getIndex().getVersion();
 	}
 
-	public BindActionProvider(Catalog catalog) {
+	/**
+	 * @param catalog the registered binders
+	 * @param hierarchyBoundary determines which classes are never scanned
+	 * @param bindingIndex when set, classes that are not in the index are not scanned
+	 * @param planCache when set, the annotated members of cached classes are looked up instead of scanned
+	 * @param bindListener when set, it receives the plan cache hits, plan creations, member scans and plan evictions
+	 * @param cachePolicy determines whether the plans and actions per class are cached weakly
+	 */
+	public BindActionProvider(
+			Catalog catalog,
+			HierarchyBoundary hierarchyBoundary,
+			@Nullable BindingIndex bindingIndex,
+			@Nullable PlanCache planCache,
+			@Nullable final BindListener bindListener,
+			CachePolicy cachePolicy) {
 		this.catalog = catalog;
+		this.hierarchyBoundary = hierarchyBoundary;
+		this.bindingIndex = bindingIndex;
+		this.planCache = planCache;
+		this.bindListener = bindListener;
+		this.cachePolicy = cachePolicy;
+		this.bindActionCache = new BindActionCache(cachePolicy.<List<BindAction>>createCache(null));
+		this.bindPlanCache = cachePolicy.createCache(bindListener == null ? null : new WeakClassCache.EvictionListener() {
+			@Override
+			public void onEvicted(@Nullable Class<?> type) {
+				bindListener.onPlanEvicted(type);
+			}
+		});
 		this.factory = new BindActionCache.Factory() {
 			@Override
-			public List<BindAction> create(Class<?> type) {
+			public List<BindAction> create(Class<?> type) throws BindFailed {
 				return createBindActions(type);
 			}
 		};
+		this.planCacheVersion = catalog.getIndex().getVersion();
+	}
+
+	public BindActionProvider(
+			Catalog catalog,
+			HierarchyBoundary hierarchyBoundary,
+			@Nullable BindingIndex bindingIndex,
+			@Nullable PlanCache planCache,
+			@Nullable BindListener bindListener) {
+		this(catalog, hierarchyBoundary, bindingIndex, planCache, bindListener, CachePolicy.STRONG);
+	}
+
+	public BindActionProvider(Catalog catalog, HierarchyBoundary hierarchyBoundary, @Nullable BindingIndex bindingIndex, @Nullable PlanCache planCache) {
+		this(catalog, hierarchyBoundary, bindingIndex, planCache, null, CachePolicy.STRONG);
+	}
+
+	public BindActionProvider(Catalog catalog, HierarchyBoundary hierarchyBoundary, @Nullable BindingIndex bindingIndex) {
+		this(catalog, hierarchyBoundary, bindingIndex, null, null, CachePolicy.STRONG);
+	}
+
+	public BindActionProvider(Catalog catalog, HierarchyBoundary hierarchyBoundary) {
+		this(catalog, hierarchyBoundary, null, null, null, CachePolicy.STRONG);
+	}
+
+	public BindActionProvider(Catalog catalog) {
+		this(catalog, new HierarchyBoundary());
 	}
 
 	/**
 	 * Gets the {@link BindAction} instances for the specified type.
 	 */
-	List<BindAction> getBindActions(Class<?> type) {
+	List<BindAction> getBindActions(Class<?> type) throws BindFailed {
 		return bindActionCache.getOrCreate(type, factory);
 	}
 
+	/**
+	 * Gets the {@link BindPlan} for the specified type, which includes the actions of all its superclasses
+	 * up to the {@link HierarchyBoundary}.
+	 */
+	BindPlan getBindPlan(Class<?> type) throws BindFailed {
+		BindPlan bindPlan = bindPlanCache.get(type);
+
+		if (bindPlan == null) {
+			long startNanos = bindListener != null ? System.nanoTime() : 0L;
+			boolean isCreated;
+			catalogLock.readLock().lock();
+
+			try {
+				// Creating a plan is idempotent because it only combines cached BindAction lists:
+				// when multiple threads create the same plan concurrently, the first one is kept.
+				BindPlan newBindPlan = createBindPlan(type);
+				bindPlan = bindPlanCache.putIfAbsent(type, newBindPlan);
+				isCreated = bindPlan == null;
+
+				if (isCreated) {
+					bindPlan = newBindPlan;
+				}
+			} finally {
+				catalogLock.readLock().unlock();
+			}
+
+			if (bindListener != null) {
+				reportPlanLookup(bindListener, type, bindPlan, isCreated, startNanos);
+			}
+		} else if (bindListener != null) {
+			bindListener.onPlanCacheHit(type);
+		}
+
+		return bindPlan;
+	}
+
+	/**
+	 * Gets the {@link BindPlan} for the specified type with only the actions that are included in a scope.
+	 * The scoped plans are derived from the full plan and cached per scope.
+	 */
+	BindPlan getBindPlan(Class<?> type, BindScope bindScope) throws BindFailed {
+		if (bindScope == BindScope.ALL) {
+			return getBindPlan(type);
+		}
+
+		ClassCache<BindPlan> scopedBindPlanCache = getScopedBindPlanCache(bindScope);
+		BindPlan bindPlan = scopedBindPlanCache.get(type);
+
+		if (bindPlan == null) {
+			long startNanos = bindListener != null ? System.nanoTime() : 0L;
+			boolean isCreated;
+			catalogLock.readLock().lock();
+
+			try {
+				// A cached full plan is not reported as a separate lookup, a missing one is created (and reported)
+				BindPlan fullBindPlan = bindPlanCache.get(type);
+				BindPlan newBindPlan = (fullBindPlan != null ? fullBindPlan : getBindPlan(type)).filter(bindScope);
+				bindPlan = scopedBindPlanCache.putIfAbsent(type, newBindPlan);
+				isCreated = bindPlan == null;
+
+				if (isCreated) {
+					bindPlan = newBindPlan;
+				}
+			} finally {
+				catalogLock.readLock().unlock();
+			}
+
+			if (bindListener != null) {
+				reportPlanLookup(bindListener, type, bindPlan, isCreated, startNanos);
+			}
+		} else if (bindListener != null) {
+			bindListener.onPlanCacheHit(type);
+		}
+
+		return bindPlan;
+	}
+
+	/**
+	 * Report a plan that was not found in the cache. A thread that lost the race to create the plan
+	 * got the plan of another thread from the cache, so it reports a cache hit instead of a second creation.
+	 */
+	private static void reportPlanLookup(BindListener bindListener, Class<?> type, BindPlan bindPlan, boolean isCreated, long startNanos) {
+		if (isCreated) {
+			bindListener.onPlanCreated(type, bindPlan.size(), System.nanoTime() - startNanos);
+		} else {
+			bindListener.onPlanCacheHit(type);
+		}
+	}
+
+	private ClassCache<BindPlan> getScopedBindPlanCache(BindScope bindScope) {
+		ClassCache<BindPlan> scopedBindPlanCache = scopedBindPlanCaches.get(bindScope);
+
+		if (scopedBindPlanCache == null) {
+			ClassCache<BindPlan> newScopedBindPlanCache = cachePolicy.createCache(null);
+			scopedBindPlanCache = scopedBindPlanCaches.putIfAbsent(bindScope, newScopedBindPlanCache);
+
+			if (scopedBindPlanCache == null) {
+				scopedBindPlanCache = newScopedBindPlanCache;
+			}
+		}
+
+		return scopedBindPlanCache;
+	}
+
+	// region Registration
+
+	/**
+	 * Register a FieldBinder and remove the cached plans and actions that its annotation affects.
+	 */
+	public void register(FieldBinder<?> fieldBinder) {
+		catalogLock.writeLock().lock();
+
+		try {
+			catalog.add(fieldBinder);
+			invalidate(fieldBinder.getAnnotationClass());
+		} finally {
+			catalogLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Register a MethodBinder and remove the cached plans and actions that its annotation affects.
+	 */
+	public void register(MethodBinder<?> methodBinder) {
+		catalogLock.writeLock().lock();
+
+		try {
+			catalog.add(methodBinder);
+			invalidate(methodBinder.getAnnotationClass());
+		} finally {
+			catalogLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Register a TypeBinder and remove the cached plans and actions that its annotation affects.
+	 */
+	public void register(TypeBinder<?> typeBinder) {
+		catalogLock.writeLock().lock();
+
+		try {
+			catalog.add(typeBinder);
+			invalidate(typeBinder.getAnnotationClass());
+		} finally {
+			catalogLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Register a lazily created FieldBinder and remove the cached plans and actions that its annotation affects.
+	 */
+	public void registerFieldBinder(Class<? extends Annotation> annotationClass, BinderFactory<? extends FieldBinder<?>> factory) {
+		catalogLock.writeLock().lock();
+
+		try {
+			catalog.addFieldBinder(annotationClass, factory);
+			invalidate(annotationClass);
+		} finally {
+			catalogLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Register a lazily created MethodBinder and remove the cached plans and actions that its annotation affects.
+	 */
+	public void registerMethodBinder(Class<? extends Annotation> annotationClass, BinderFactory<? extends MethodBinder<?>> factory) {
+		catalogLock.writeLock().lock();
+
+		try {
+			catalog.addMethodBinder(annotationClass, factory);
+			invalidate(annotationClass);
+		} finally {
+			catalogLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Register a lazily created TypeBinder and remove the cached plans and actions that its annotation affects.
+	 */
+	public void registerTypeBinder(Class<? extends Annotation> annotationClass, BinderFactory<? extends TypeBinder<?>> factory) {
+		catalogLock.writeLock().lock();
+
+		try {
+			catalog.addTypeBinder(annotationClass, factory);
+			invalidate(annotationClass);
+		} finally {
+			catalogLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Remove the cached actions of the classes that contain the annotation and the cached plans
+	 * of the classes that have such a class in their hierarchy.
+	 * The annotations of the cached classes are looked up in their {@link ClassMetadata}.
+	 */
+	private void invalidate(Class<? extends Annotation> annotationClass) {
+		for (Class<?> type : bindActionCache.getTypes()) {
+			if (ClassMetadata.get(type).hasAnnotation(annotationClass)) {
+				bindActionCache.remove(type);
+			}
+		}
+
+		for (Class<?> type : bindPlanCache.getTypes()) {
+			if (isInHierarchy(type, annotationClass)) {
+				bindPlanCache.remove(type);
+			}
+		}
+
+		for (Map.Entry<BindScope, ClassCache<BindPlan>> entry : scopedBindPlanCaches.entrySet()) {
+			if (entry.getKey().includes(annotationClass)) {
+				ClassCache<BindPlan> scopedBindPlanCache = entry.getValue();
+
+				for (Class<?> type : scopedBindPlanCache.getTypes()) {
+					if (isInHierarchy(type, annotationClass)) {
+						scopedBindPlanCache.remove(type);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return true when the type or one of its superclasses up to the {@link HierarchyBoundary} contains the annotation
+	 */
+	private boolean isInHierarchy(Class<?> type, Class<? extends Annotation> annotationClass) {
+		for (Class<?> current = type; current != null && !hierarchyBoundary.isBoundary(current); current = current.getSuperclass()) {
+			if (ClassMetadata.get(current).hasAnnotation(annotationClass)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	// endregion
+
+	private BindPlan createBindPlan(Class<?> type) throws BindFailed {
+		if (hierarchyBoundary.isBoundary(type)) {
+			return BindPlan.EMPTY;
+		}
+
+		Class<?> superclass = type.getSuperclass();
+		BindPlan superclassPlan = (superclass == null || hierarchyBoundary.isBoundary(superclass))
+				? BindPlan.EMPTY
+				: getBindPlan(superclass);
+		// Classes without Spork annotations are not in the index: their superclasses might still have bindings
+		List<BindAction> bindActions = (bindingIndex != null && !bindingIndex.contains(type))
+				? Collections.<BindAction>emptyList()
+				: getBindActions(type);
+		return BindPlan.create(bindActions, superclassPlan);
+	}
+
 	// region Creating BindAction instances
 
 	/**
@@ -51,22 +393,152 @@ public final class BindActionProvider {
 	 * Each Type/Field/Method annotation that is found in the type declaration
 	 * will result in a corresponding BindAction instance.
 	 *
+	 * The {@link PlanCache} is used when it holds the given type. Otherwise a {@link GeneratedBinder}
+	 * is used when spork-compiler generated one for the given type.
+	 * Otherwise all declared members are scanned through reflection.
+	 *
 	 * @param classObject the class to create a cache for
 	 * @return the list of cached binders
 	 */
-	private List<BindAction> createBindActions(Class<?> classObject) {
+	private List<BindAction> createBindActions(Class<?> classObject) throws BindFailed {
+		List<BindAction> bindActions = createPersistedBindActions(classObject);
+
+		if (bindActions == null) {
+			bindActions = createGeneratedBindActions(classObject);
+		}
+
+		if (bindActions == null) {
+			bindActions = createReflectedBindActions(classObject);
+		}
+
+		return bindActions;
+	}
+
+	/**
+	 * Create a list of all BindAction instances for the given type by using the {@link PlanCache}.
+	 * Only the cached members are looked up, so the declared members of the type are not scanned.
+	 *
+	 * @param classObject the class to create a cache for
+	 * @return the list of cached binders or null when the type is not cached or when the cache is outdated
+	 */
+	@Nullable
+	private List<BindAction> createPersistedBindActions(Class<?> classObject) throws BindFailed {
+		// The entries don't include the binders that were registered after the PlanCache was loaded
+		if (planCache == null || catalog.getIndex().getVersion() != planCacheVersion) {
+			return null;
+		}
+
+		PlanCache.Entry[] entries = planCache.get(classObject);
+
+		if (entries == null) {
+			return null;
+		}
+
+		ArrayList<BindAction> bindActions = new ArrayList<>(entries.length);
+
+		try {
+			for (PlanCache.Entry entry : entries) {
+				BindAction bindAction = createPersistedBindAction(classObject, entry);
+
+				if (bindAction == null) {
+					return null;
+				}
+
+				bindActions.add(bindAction);
+			}
+		} catch (NoSuchFieldException | NoSuchMethodException | ClassNotFoundException | IndexOutOfBoundsException caught) {
+			// The cache is outdated: fall back to scanning
+			return null;
+		}
+
+		return bindActions;
+	}
+
+	@Nullable
+	private BindAction createPersistedBindAction(Class<?> classObject, PlanCache.Entry entry)
+			throws BindFailed, NoSuchFieldException, NoSuchMethodException, ClassNotFoundException {
+		Catalog.Index index = catalog.getIndex();
+
+		if (entry.kind == PlanCache.KIND_TYPE) {
+			TypeBinder<?> typeBinder = index.getTypeBinder(entry.binderPosition);
+			Annotation annotation = classObject.getAnnotation(typeBinder.getAnnotationClass());
+			return annotation != null ? createBindAction(classObject, typeBinder, annotation) : null;
+		} else if (entry.kind == PlanCache.KIND_FIELD) {
+			FieldBinder<?> fieldBinder = index.getFieldBinder(entry.binderPosition);
+			Field field = classObject.getDeclaredField(entry.memberName);
+			Annotation annotation = field.getAnnotation(fieldBinder.getAnnotationClass());
+			return annotation != null ? createBindAction(field, fieldBinder, annotation) : null;
+		} else if (entry.kind == PlanCache.KIND_METHOD) {
+			MethodBinder<?> methodBinder = index.getMethodBinder(entry.binderPosition);
+			Class<?>[] parameterTypes = new Class<?>[entry.parameterTypeNames.length];
+
+			for (int i = 0; i < parameterTypes.length; ++i) {
+				parameterTypes[i] = PlanCache.getParameterType(entry.parameterTypeNames[i], classObject.getClassLoader());
+			}
+
+			Method method = classObject.getDeclaredMethod(entry.memberName, parameterTypes);
+			Annotation annotation = method.getAnnotation(methodBinder.getAnnotationClass());
+			return annotation != null ? createBindAction(method, methodBinder, annotation) : null;
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Create a list of all BindAction instances for the given type by using its {@link GeneratedBinder}.
+	 *
+	 * @param classObject the class to create a cache for
+	 * @return the list of cached binders or null when no usable GeneratedBinder exists
+	 */
+	@Nullable
+	private List<BindAction> createGeneratedBindActions(Class<?> classObject) throws BindFailed {
+		GeneratedBinder generatedBinder = GeneratedBinders.find(classObject);
+
+		if (generatedBinder == null || !isCoveredBy(generatedBinder)) {
+			return null;
+		}
+
+		GeneratedMembers members = new GeneratedMembers();
+
+		try {
+			generatedBinder.collect(classObject, members);
+		} catch (NoSuchFieldException | NoSuchMethodException caught) {
+			// The generated binder is outdated: fall back to reflection
+			return null;
+		}
+
 		ArrayList<BindAction> bindActions = new ArrayList<>();
+		Catalog.Index index = catalog.getIndex();
 
-		for (TypeBinder<?> typeBinder : catalog.getTypeBinders()) {
-			createBindActions(classObject, typeBinder, bindActions);
+		// Binders are only requested (and created when they are lazy) for annotations that are present
+		for (int position = 0; position < index.getTypeBinderCount(); ++position) {
+			Class<? extends Annotation> annotationClass = index.getTypeAnnotationClass(position);
+			if (members.hasTypeAnnotation(annotationClass)) {
+				Annotation annotation = classObject.getAnnotation(annotationClass);
+				if (annotation != null) {
+					bindActions.add(createBindAction(classObject, index.getTypeBinder(position), annotation));
+				}
+			}
 		}
 
-		for (FieldBinder<?> fieldBinder : catalog.getFieldBinders()) {
-			createBindActions(classObject, fieldBinder, bindActions);
+		for (int position = 0; position < index.getFieldBinderCount(); ++position) {
+			Class<? extends Annotation> annotationClass = index.getFieldAnnotationClass(position);
+			for (Field field : members.getFields(annotationClass)) {
+				Annotation annotation = field.getAnnotation(annotationClass);
+				if (annotation != null) {
+					bindActions.add(createBindAction(field, index.getFieldBinder(position), annotation));
+				}
+			}
 		}
 
-		for (MethodBinder<?> methodBinder : catalog.getMethodBinders()) {
-			createBindActions(classObject, methodBinder, bindActions);
+		for (int position = 0; position < index.getMethodBinderCount(); ++position) {
+			Class<? extends Annotation> annotationClass = index.getMethodAnnotationClass(position);
+			for (Method method : members.getMethods(annotationClass)) {
+				Annotation annotation = method.getAnnotation(annotationClass);
+				if (annotation != null) {
+					bindActions.add(createBindAction(method, index.getMethodBinder(position), annotation));
+				}
+			}
 		}
 
 		bindActions.trimToSize();
@@ -75,85 +547,262 @@ public final class BindActionProvider {
 	}
 
 	/**
-	 * Update the cache with this binder
+	 * @return true when the GeneratedBinder reports all annotations that have a registered binder
+	 */
+	private boolean isCoveredBy(GeneratedBinder generatedBinder) {
+		Catalog.Index index = catalog.getIndex();
+
+		for (int position = 0; position < index.getTypeBinderCount(); ++position) {
+			if (!generatedBinder.covers(index.getTypeAnnotationClass(position))) {
+				return false;
+			}
+		}
+
+		for (int position = 0; position < index.getFieldBinderCount(); ++position) {
+			if (!generatedBinder.covers(index.getFieldAnnotationClass(position))) {
+				return false;
+			}
+		}
+
+		for (int position = 0; position < index.getMethodBinderCount(); ++position) {
+			if (!generatedBinder.covers(index.getMethodAnnotationClass(position))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Create a list of all BindAction instances for the given type by using its {@link ClassMetadata}.
 	 *
-	 * @param annotatedType    the parent type that holds the annotated Field
-	 * @param fieldBinder      the field binder to cache annotated fields for
-	 * @param bindActions          the list of cached Binders to add new cached Binders to
-	 * @param <AnnotationType> the annotation to search for in the annotated type
+	 * The annotations of the type and of each declared field and method are read once per process,
+	 * so only matching them with the binders of this instance is repeated for each SporkInstance.
+	 * The {@link Catalog} index is used to find the binders for each annotation.
+	 * The resulting actions are ordered by binder type (type, field, method), then by binder registration
+	 * order and then by member declaration order. The annotated members are recorded in the {@link PlanCache}.
+	 *
+	 * @param classObject the class to create a cache for
+	 * @return the list of cached binders
 	 */
-	private <AnnotationType extends Annotation> void createBindActions(
-			Class<?> annotatedType,
-			final FieldBinder<AnnotationType> fieldBinder,
-			List<BindAction> bindActions) {
+	private List<BindAction> createReflectedBindActions(Class<?> classObject) throws BindFailed {
+		if (bindListener != null) {
+			bindListener.onMemberScan(classObject);
+		}
 
-		for (final Field field : annotatedType.getDeclaredFields()) {
-			final AnnotationType annotation = field.getAnnotation(fieldBinder.getAnnotationClass());
+		ArrayList<BindAction> bindActions = new ArrayList<>();
+		List<PlanCache.Entry> entries = new ArrayList<>();
+		List<PositionedBindAction> positionedBindActions = new ArrayList<>();
+		Catalog.Index index = catalog.getIndex();
+		ClassMetadata classMetadata = ClassMetadata.get(classObject);
 
-			if (annotation == null) {
-				continue;
+		for (Annotation annotation : classMetadata.getTypeAnnotations()) {
+			int[] positions = index.getTypeBinderPositions(annotation.annotationType());
+			if (positions != null) {
+				for (int position : positions) {
+					TypeBinder<?> typeBinder = index.getTypeBinder(position);
+					BindAction bindAction = createBindAction(classObject, typeBinder, annotation);
+					positionedBindActions.add(new PositionedBindAction(position, bindAction, PlanCache.Entry.forType(position)));
+				}
 			}
+		}
+
+		addInPositionOrder(positionedBindActions, bindActions, entries);
+
+		Field[] fields = classMetadata.getFields();
+
+		for (int fieldIndex = 0; fieldIndex < fields.length; ++fieldIndex) {
+			Field field = fields[fieldIndex];
+
+			for (Annotation annotation : classMetadata.getFieldAnnotations(fieldIndex)) {
+				int[] positions = index.getFieldBinderPositions(annotation.annotationType());
+				if (positions != null) {
+					for (int position : positions) {
+						FieldBinder<?> fieldBinder = index.getFieldBinder(position);
+						BindAction bindAction = createBindAction(field, fieldBinder, annotation);
+						positionedBindActions.add(new PositionedBindAction(position, bindAction, PlanCache.Entry.forField(position, field.getName())));
+					}
+				}
+			}
+		}
 
-			bindActions.add(new BindAction() {
-				@Override
-				public void bind(Object object, Object... parameters) throws BindFailed {
-					fieldBinder.bind(object, annotation, field, parameters);
+		addInPositionOrder(positionedBindActions, bindActions, entries);
+
+		Method[] methods = classMetadata.getMethods();
+
+		for (int methodIndex = 0; methodIndex < methods.length; ++methodIndex) {
+			Method method = methods[methodIndex];
+
+			for (Annotation annotation : classMetadata.getMethodAnnotations(methodIndex)) {
+				int[] positions = index.getMethodBinderPositions(annotation.annotationType());
+				if (positions != null) {
+					for (int position : positions) {
+						MethodBinder<?> methodBinder = index.getMethodBinder(position);
+						BindAction bindAction = createBindAction(method, methodBinder, annotation);
+						PlanCache.Entry entry = PlanCache.Entry.forMethod(position, method.getName(), method.getParameterTypes());
+						positionedBindActions.add(new PositionedBindAction(position, bindAction, entry));
+					}
 				}
-			});
+			}
+		}
+
+		addInPositionOrder(positionedBindActions, bindActions, entries);
+
+		bindActions.trimToSize();
+
+		if (planCache != null) {
+			planCache.record(classObject, entries.toArray(new PlanCache.Entry[entries.size()]));
 		}
+
+		return bindActions;
 	}
 
 	/**
-	 * Update the cache with this binder
+	 * Sort the actions by the position of their binder in the Catalog and move them to the result list.
+	 * The sort is stable, so actions of the same binder keep their member declaration order.
 	 *
-	 * @param annotatedType    the parent type that holds the annotated Method
-	 * @param methodBinder     the method binder to cache annotated methods for
-	 * @param bindActions          the list of cached Binders to add new cached Binders to
-	 * @param <AnnotationType> the annotation to search for in the annotated type
+	 * @param positionedBindActions the actions to sort (this list is cleared afterwards)
+	 * @param bindActions the list to add the sorted actions to
+	 * @param entries the list to add the PlanCache entries of the sorted actions to
 	 */
-	private <AnnotationType extends Annotation> void createBindActions(
-			Class<?> annotatedType,
-			final MethodBinder<AnnotationType> methodBinder,
-			List<BindAction> bindActions) {
+	private static void addInPositionOrder(List<PositionedBindAction> positionedBindActions, List<BindAction> bindActions, List<PlanCache.Entry> entries) {
+		Collections.sort(positionedBindActions, PositionedBindAction.POSITION_ORDER);
+
+		for (PositionedBindAction positionedBindAction : positionedBindActions) {
+			bindActions.add(positionedBindAction.bindAction);
+			entries.add(positionedBindAction.entry);
+		}
 
-		for (final Method method : annotatedType.getDeclaredMethods()) {
-			final AnnotationType annotation = method.getAnnotation(methodBinder.getAnnotationClass());
+		positionedBindActions.clear();
+	}
 
-			if (annotation == null) {
-				continue;
+	/**
+	 * A BindAction with the position of its binder in the Catalog and the PlanCache entry of its member.
+	 */
+	private static final class PositionedBindAction {
+		static final Comparator<PositionedBindAction> POSITION_ORDER = new Comparator<PositionedBindAction>() {
+			@Override
+			public int compare(PositionedBindAction first, PositionedBindAction second) {
+				return first.position < second.position ? -1 : (first.position == second.position ? 0 : 1);
 			}
+		};
 
-			bindActions.add(new BindAction() {
-				@Override
-				public void bind(Object object, Object... parameters) throws BindFailed {
-					methodBinder.bind(object, annotation, method, parameters);
-				}
-			});
+		final int position;
+		final BindAction bindAction;
+		final PlanCache.Entry entry;
+
+		PositionedBindAction(int position, BindAction bindAction, PlanCache.Entry entry) {
+			this.position = position;
+			this.bindAction = bindAction;
+			this.entry = entry;
 		}
 	}
 
 	/**
-	 * Update the cache with this binder
+	 * Create a BindAction for an annotated field.
+	 * The binding is prepared right away when the binder is a {@link PreparableFieldBinder}.
 	 *
-	 * @param annotatedType    the parent type that holds the annotation
-	 * @param typeBinder       the type binder to cache annotated types for
-	 * @param bindActions          the list of cached Binders to add new cached Binders to
-	 * @param <AnnotationType> the annotation to search for in the annotated type
-	 */
-	private <AnnotationType extends Annotation> void createBindActions(
-			final Class<?> annotatedType,
-			final TypeBinder<AnnotationType> typeBinder,
-			List<BindAction> bindActions) {
-
-		final AnnotationType annotation = annotatedType.getAnnotation(typeBinder.getAnnotationClass());
-
-		if (annotation != null) {
-			bindActions.add(new BindAction() {
-				@Override
-				public void bind(Object object, Object... parameters) throws BindFailed {
-					typeBinder.bind(object, annotation, annotatedType, parameters);
-				}
-			});
+	 * @param field       the annotated field
+	 * @param fieldBinder the field binder for the annotation
+	 * @param annotation  the annotation instance, which must be of the binder's annotation type
+	 */
+	@SuppressWarnings("unchecked")
+	private static BindAction createBindAction(Field field, FieldBinder<?> fieldBinder, Annotation annotation) throws BindFailed {
+		Binding binding = fieldBinder instanceof PreparableFieldBinder
+				? ((PreparableFieldBinder<Annotation>) fieldBinder).prepare(annotation, field)
+				: new FieldBinderBinding((FieldBinder<Annotation>) fieldBinder, annotation, field);
+		return new PreparedBindAction(binding, fieldBinder, field, annotation.annotationType());
+	}
+
+	/**
+	 * Create a BindAction for an annotated method.
+	 * The binding is prepared right away when the binder is a {@link PreparableMethodBinder}.
+	 *
+	 * @param method       the annotated method
+	 * @param methodBinder the method binder for the annotation
+	 * @param annotation   the annotation instance, which must be of the binder's annotation type
+	 */
+	@SuppressWarnings("unchecked")
+	private static BindAction createBindAction(Method method, MethodBinder<?> methodBinder, Annotation annotation) throws BindFailed {
+		Binding binding = methodBinder instanceof PreparableMethodBinder
+				? ((PreparableMethodBinder<Annotation>) methodBinder).prepare(annotation, method)
+				: new MethodBinderBinding((MethodBinder<Annotation>) methodBinder, annotation, method);
+		return new PreparedBindAction(binding, methodBinder, method, annotation.annotationType());
+	}
+
+	/**
+	 * Create a BindAction for an annotated type.
+	 * The binding is prepared right away when the binder is a {@link PreparableTypeBinder}.
+	 *
+	 * @param annotatedType the annotated type
+	 * @param typeBinder    the type binder for the annotation
+	 * @param annotation    the annotation instance, which must be of the binder's annotation type
+	 */
+	@SuppressWarnings("unchecked")
+	private static BindAction createBindAction(Class<?> annotatedType, TypeBinder<?> typeBinder, Annotation annotation) throws BindFailed {
+		Binding binding = typeBinder instanceof PreparableTypeBinder
+				? ((PreparableTypeBinder<Annotation>) typeBinder).prepare(annotation, annotatedType)
+				: new TypeBinderBinding((TypeBinder<Annotation>) typeBinder, annotation, annotatedType);
+		return new PreparedBindAction(binding, typeBinder, annotatedType, annotation.annotationType());
+	}
+
+	/**
+	 * A Binding that calls a FieldBinder that can't prepare its bindings.
+	 */
+	private static final class FieldBinderBinding implements Binding {
+		private final FieldBinder<Annotation> fieldBinder;
+		private final Annotation annotation;
+		private final Field field;
+
+		FieldBinderBinding(FieldBinder<Annotation> fieldBinder, Annotation annotation, Field field) {
+			this.fieldBinder = fieldBinder;
+			this.annotation = annotation;
+			this.field = field;
+		}
+
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			fieldBinder.bind(object, annotation, field, bindContext.getParameters());
+		}
+	}
+
+	/**
+	 * A Binding that calls a MethodBinder that can't prepare its bindings.
+	 */
+	private static final class MethodBinderBinding implements Binding {
+		private final MethodBinder<Annotation> methodBinder;
+		private final Annotation annotation;
+		private final Method method;
+
+		MethodBinderBinding(MethodBinder<Annotation> methodBinder, Annotation annotation, Method method) {
+			this.methodBinder = methodBinder;
+			this.annotation = annotation;
+			this.method = method;
+		}
+
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			methodBinder.bind(object, annotation, method, bindContext.getParameters());
+		}
+	}
+
+	/**
+	 * A Binding that calls a TypeBinder that can't prepare its bindings.
+	 */
+	private static final class TypeBinderBinding implements Binding {
+		private final TypeBinder<Annotation> typeBinder;
+		private final Annotation annotation;
+		private final Class<?> annotatedType;
+
+		TypeBinderBinding(TypeBinder<Annotation> typeBinder, Annotation annotation, Class<?> annotatedType) {
+			this.typeBinder = typeBinder;
+			this.annotation = annotation;
+			this.annotatedType = annotatedType;
+		}
+
+		@Override
+		public void bind(Object object, BindContext bindContext) throws BindFailed {
+			typeBinder.bind(object, annotation, annotatedType, bindContext.getParameters());
 		}
 	}
 
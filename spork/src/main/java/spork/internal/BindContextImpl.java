@@ -0,0 +1,193 @@
+package spork.internal;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import spork.extension.BindContext;
+
+/**
+ * The default {@link BindContext} implementation.
+ *
+ * Parameter lookups by type are memoized in a small identity hash table, so repeated
+ * lookups (e.g. once per injected field) don't scan the parameters.
+ *
+ * Attributes are stored in an array that is indexed by {@link Key#getIndex()}.
+ *
+ * Instances can be re-used through {@link BindContextPool}.
+ */
+public final class BindContextImpl implements BindContext {
+	private static final Object[] NO_PARAMETERS = new Object[0];
+	private static final int LOOKUP_TABLE_SIZE = 8; // must be a power of 2
+	private static final int LOOKUP_TABLE_MASK = LOOKUP_TABLE_SIZE - 1;
+
+	@Nullable private Object firstParameter;
+	@Nullable private Object secondParameter;
+	private int parameterCount;
+	@Nullable private Object[] parameters;
+
+	private final Class<?>[] lookupTypes = new Class<?>[LOOKUP_TABLE_SIZE];
+	private final Object[] lookupResults = new Object[LOOKUP_TABLE_SIZE];
+	private int lookupCount;
+
+	@Nullable private Object[] attributes;
+	private boolean hasAttributes;
+
+	boolean inUse;
+
+	/**
+	 * @param parameters the parameters of the bind() call
+	 */
+	public BindContextImpl(Object... parameters) {
+		set(parameters);
+	}
+
+	// region Parameter assignment
+
+	void set(Object parameter) {
+		firstParameter = parameter;
+		parameters = null;
+		parameterCount = 1;
+	}
+
+	void set(Object firstParameter, Object secondParameter) {
+		this.firstParameter = firstParameter;
+		this.secondParameter = secondParameter;
+		parameters = null;
+		parameterCount = 2;
+	}
+
+	void set(@Nullable Object[] parameters) {
+		// A null varargs array is treated as no parameters
+		this.parameters = parameters != null ? parameters : NO_PARAMETERS;
+		parameterCount = this.parameters.length;
+	}
+
+	/**
+	 * Release all references to parameters, so the context can be re-used.
+	 */
+	void clear() {
+		firstParameter = null;
+		secondParameter = null;
+		parameters = null;
+		parameterCount = 0;
+
+		if (lookupCount > 0) {
+			Arrays.fill(lookupTypes, null);
+			Arrays.fill(lookupResults, null);
+			lookupCount = 0;
+		}
+
+		clearAttributes();
+	}
+
+	/**
+	 * Release all attributes, so the context can be used to bind another object with the same parameters.
+	 */
+	void clearAttributes() {
+		if (hasAttributes) {
+			Arrays.fill(attributes, null);
+			hasAttributes = false;
+		}
+	}
+
+	// endregion
+
+	@Nullable
+	private Object getParameter(int index) {
+		if (parameters != null) {
+			return parameters[index];
+		} else {
+			return index == 0 ? firstParameter : secondParameter;
+		}
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T find(Class<T> type) {
+		int index = System.identityHashCode(type) & LOOKUP_TABLE_MASK;
+
+		for (int probe = 0; probe < LOOKUP_TABLE_SIZE; ++probe) {
+			Class<?> lookupType = lookupTypes[index];
+
+			if (lookupType == type) {
+				return (T) lookupResults[index];
+			} else if (lookupType == null) {
+				Object result = findByScanning(type);
+				lookupTypes[index] = type;
+				lookupResults[index] = result;
+				lookupCount++;
+				return (T) result;
+			}
+
+			index = (index + 1) & LOOKUP_TABLE_MASK;
+		}
+
+		// The lookup table is full
+		return (T) findByScanning(type);
+	}
+
+	@Nullable
+	private Object findByScanning(Class<?> type) {
+		for (int i = 0; i < parameterCount; ++i) {
+			Object parameter = getParameter(i);
+
+			if (type.isInstance(parameter)) {
+				return parameter;
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public Object[] getParameters() {
+		if (parameters == null) {
+			if (parameterCount == 0) {
+				parameters = NO_PARAMETERS;
+			} else if (parameterCount == 1) {
+				parameters = new Object[] { firstParameter };
+			} else {
+				parameters = new Object[] { firstParameter, secondParameter };
+			}
+		}
+
+		return parameters;
+	}
+
+	// region Attributes
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T getAttribute(Key<T> key) {
+		int index = key.getIndex();
+
+		if (attributes == null || index >= attributes.length) {
+			return null;
+		}
+
+		return (T) attributes[index];
+	}
+
+	@Override
+	public <T> void setAttribute(Key<T> key, @Nullable T value) {
+		int index = key.getIndex();
+
+		if (attributes == null || index >= attributes.length) {
+			Object[] newAttributes = new Object[Math.max(index + 1, Key.getCount())];
+
+			if (attributes != null) {
+				System.arraycopy(attributes, 0, newAttributes, 0, attributes.length);
+			}
+
+			attributes = newAttributes;
+		}
+
+		attributes[index] = value;
+		hasAttributes = true;
+	}
+
+	// endregion
+}
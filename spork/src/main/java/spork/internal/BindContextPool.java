@@ -0,0 +1,37 @@
+package spork.internal;
+
+/**
+ * Provides re-usable {@link BindContextImpl} instances: one for each thread.
+ *
+ * When a bind() call happens while another bind() is in progress on the same thread
+ * (e.g. when an injected instance binds itself), a new instance is created.
+ */
+final class BindContextPool {
+	private final ThreadLocal<BindContextImpl> threadBindContext = new ThreadLocal<BindContextImpl>() {
+		@Override
+		protected BindContextImpl initialValue() {
+			return new BindContextImpl();
+		}
+	};
+
+	/**
+	 * The returned context must be passed to {@link #release(BindContextImpl)} after use.
+	 *
+	 * @return a BindContext without parameters
+	 */
+	BindContextImpl obtain() {
+		BindContextImpl bindContext = threadBindContext.get();
+
+		if (bindContext.inUse) {
+			bindContext = new BindContextImpl();
+		}
+
+		bindContext.inUse = true;
+		return bindContext;
+	}
+
+	void release(BindContextImpl bindContext) {
+		bindContext.clear();
+		bindContext.inUse = false;
+	}
+}
@@ -0,0 +1,185 @@
+package spork.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import spork.BindScope;
+import spork.exceptions.BindFailed;
+import spork.extension.BindContext;
+import spork.extension.BindListener;
+
+/**
+ * Holds all {@link BindAction} instances for a concrete class and all of its superclasses.
+ *
+ * The actions of the class itself come first, followed by the actions of its superclasses
+ * (nearest superclass first). The BindAction instances of a superclass are shared by the plans
+ * of all of its subclasses, but each plan holds its own flattened copy of the action array:
+ * binding is then a single loop without walking the hierarchy, at the cost of one array
+ * reference per inherited action. Subclasses without actions of their own share the plan
+ * of their superclass.
+ */
+final class BindPlan {
+	static final BindPlan EMPTY = new BindPlan(new BindAction[0]);
+
+	private final BindAction[] bindActions;
+	private final boolean threadSafe;
+	private final BindPlan volatilePlan;
+	private final BindAction[] unbindActions;
+
+	private BindPlan(BindAction[] bindActions) {
+		this.bindActions = bindActions;
+		this.threadSafe = isThreadSafe(bindActions);
+		this.volatilePlan = createVolatilePlan(bindActions);
+		this.unbindActions = getUnbindActions(bindActions);
+	}
+
+	private BindPlan createVolatilePlan(BindAction[] bindActions) {
+		List<BindAction> volatileActions = new ArrayList<>(0);
+
+		for (BindAction bindAction : bindActions) {
+			if (bindAction.isVolatile()) {
+				volatileActions.add(bindAction);
+			}
+		}
+
+		if (volatileActions.size() == bindActions.length) {
+			return this;
+		} else if (volatileActions.isEmpty()) {
+			return EMPTY;
+		} else {
+			return new BindPlan(volatileActions.toArray(new BindAction[volatileActions.size()]));
+		}
+	}
+
+	/**
+	 * @return the unbindable actions in reverse order, so that superclass bindings are undone last
+	 */
+	private static BindAction[] getUnbindActions(BindAction[] bindActions) {
+		List<BindAction> unbindActions = new ArrayList<>(0);
+
+		for (int i = bindActions.length - 1; i >= 0; --i) {
+			if (bindActions[i].isUnbindable()) {
+				unbindActions.add(bindActions[i]);
+			}
+		}
+
+		return unbindActions.toArray(new BindAction[unbindActions.size()]);
+	}
+
+	private static boolean isThreadSafe(BindAction[] bindActions) {
+		for (BindAction bindAction : bindActions) {
+			if (!bindAction.isThreadSafe()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Create a plan for a class.
+	 *
+	 * @param bindActions the actions for the declared annotations of the class
+	 * @param superclassPlan the plan of the superclass
+	 * @return a new plan or the superclass plan when the class has no actions of its own
+	 */
+	static BindPlan create(List<BindAction> bindActions, BindPlan superclassPlan) {
+		if (bindActions.isEmpty()) {
+			return superclassPlan;
+		}
+
+		BindAction[] superclassActions = superclassPlan.bindActions;
+		BindAction[] planActions = new BindAction[bindActions.size() + superclassActions.length];
+		bindActions.toArray(planActions);
+		System.arraycopy(superclassActions, 0, planActions, bindActions.size(), superclassActions.length);
+		return new BindPlan(planActions);
+	}
+
+	/**
+	 * Create a plan with only the actions of this plan that are included in a scope.
+	 *
+	 * @param bindScope the scope of the actions to keep
+	 * @return this plan when all actions are included or a new plan otherwise
+	 */
+	BindPlan filter(BindScope bindScope) {
+		List<BindAction> scopedActions = new ArrayList<>(bindActions.length);
+
+		for (BindAction bindAction : bindActions) {
+			if (bindScope.includes(bindAction.getAnnotationClass())) {
+				scopedActions.add(bindAction);
+			}
+		}
+
+		if (scopedActions.size() == bindActions.length) {
+			return this;
+		} else if (scopedActions.isEmpty()) {
+			return EMPTY;
+		} else {
+			return new BindPlan(scopedActions.toArray(new BindAction[scopedActions.size()]));
+		}
+	}
+
+	/**
+	 * Bind all annotations of the object.
+	 *
+	 * @param object the instance to bind annotations for
+	 * @param bindContext the parameters
+	 */
+	void bind(Object object, BindContext bindContext) throws BindFailed {
+		for (BindAction bindAction : bindActions) {
+			bindAction.bind(object, bindContext);
+		}
+	}
+
+	/**
+	 * Bind all annotations of the object and report each binding to a listener.
+	 *
+	 * @param object the instance to bind annotations for
+	 * @param bindContext the parameters
+	 * @param bindListener the listener that receives the binding events
+	 */
+	void bind(Object object, BindContext bindContext, BindListener bindListener) throws BindFailed {
+		for (BindAction bindAction : bindActions) {
+			long startNanos = System.nanoTime();
+
+			try {
+				bindAction.bind(object, bindContext);
+			} catch (BindFailed | RuntimeException caught) {
+				bindListener.onBindingFailed(object, bindAction.getBinder(), bindAction.getMember(), caught, System.nanoTime() - startNanos);
+				throw caught;
+			}
+
+			bindListener.onBindingFinished(object, bindAction.getBinder(), bindAction.getMember(), System.nanoTime() - startNanos);
+		}
+	}
+
+	/**
+	 * Undo the unbindable bindings of the object, in reverse order of binding.
+	 *
+	 * @param object the instance to unbind annotations for
+	 * @param bindContext the parameters
+	 */
+	void unbind(Object object, BindContext bindContext) throws BindFailed {
+		for (BindAction unbindAction : unbindActions) {
+			unbindAction.unbind(object, bindContext);
+		}
+	}
+
+	/**
+	 * @return the plan with only the actions of {@link spork.extension.VolatileBinder} instances
+	 */
+	BindPlan getVolatilePlan() {
+		return volatilePlan;
+	}
+
+	/**
+	 * @return true when different objects can be bound with this plan on multiple threads at the same time
+	 */
+	boolean isThreadSafe() {
+		return threadSafe;
+	}
+
+	int size() {
+		return bindActions.length;
+	}
+}
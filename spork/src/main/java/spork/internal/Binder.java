@@ -1,42 +1,444 @@
 package spork.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+import javax.annotation.Nullable;
+
+import spork.BindScope;
+import spork.exceptions.BindAllFailed;
 import spork.exceptions.BindFailed;
+import spork.exceptions.SporkRuntimeException;
+import spork.extension.BindContext;
+import spork.extension.BindListener;
 
 /**
  * The main logic for binding instances.
  *
  * It uses a {@link BindActionProvider} to bind objects.
+ *
+ * The fixed-arity bind() methods re-use a {@link BindContext} per thread, so they don't allocate.
  */
 public final class Binder {
+	/**
+	 * The amount of objects that are bound by a single task of bindAll().
+	 */
+	private static final int BIND_ALL_BATCH_SIZE = 32;
+
 	private final BindActionProvider bindActionProvider;
+	private final BindContextPool bindContextPool = new BindContextPool();
+	@Nullable private final BindListener bindListener;
+	@Nullable private final BoundObjects boundObjects;
 
-	public Binder(BindActionProvider bindActionProvider) {
+	/**
+	 * @param bindActionProvider provides the bind plans
+	 * @param bindListener when set, it receives the bind and binding events
+	 * @param trackBoundObjects when true, binding an object again only applies its volatile bindings
+	 */
+	public Binder(BindActionProvider bindActionProvider, @Nullable BindListener bindListener, boolean trackBoundObjects) {
 		this.bindActionProvider = bindActionProvider;
+		this.bindListener = bindListener;
+		this.boundObjects = trackBoundObjects ? new BoundObjects() : null;
+	}
+
+	public Binder(BindActionProvider bindActionProvider, @Nullable BindListener bindListener) {
+		this(bindActionProvider, bindListener, false);
+	}
+
+	public Binder(BindActionProvider bindActionProvider) {
+		this(bindActionProvider, null, false);
+	}
+
+	public void bind(Object object) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+
+		try {
+			bind(object, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	public void bind(Object object, Object parameter) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+		bindContext.set(parameter);
+
+		try {
+			bind(object, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	public void bind(Object object, Object firstParameter, Object secondParameter) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+		bindContext.set(firstParameter, secondParameter);
+
+		try {
+			bind(object, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
 	}
 
 	public void bind(Object object, Object... parameters) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+		bindContext.set(parameters);
+
+		try {
+			bind(object, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	public void bind(Object object, BindScope bindScope) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+
+		try {
+			bind(object, bindScope, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	public void bind(Object object, BindScope bindScope, Object parameter) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+		bindContext.set(parameter);
+
+		try {
+			bind(object, bindScope, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	public void bind(Object object, BindScope bindScope, Object... parameters) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+		bindContext.set(parameters);
+
+		try {
+			bind(object, bindScope, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	/**
+	 * Build the bind plan for a class, so that the first bind() of its instances is fast.
+	 *
+	 * @param type the class to prepare
+	 * @throws BindFailed when one of the bindings of the class is invalid
+	 */
+	public void prepare(Class<?> type) throws BindFailed {
+		if (type != Object.class) {
+			bindActionProvider.getBindPlan(type);
+		}
+	}
+
+	public void bind(Object object, BindContext bindContext) throws BindFailed {
+		bind(object, BindScope.ALL, bindContext);
+	}
+
+	/**
+	 * Bind the annotations of an object that are included in a scope.
+	 */
+	public void bind(Object object, BindScope bindScope, BindContext bindContext) throws BindFailed {
+		Class<?> objectClass = object.getClass();
+
+		if (objectClass == Object.class) {
+			return;
+		}
+
+		try {
+			if (bindListener == null) {
+				// The plan holds the BindAction instances for all levels of inheritance
+				BindPlan bindPlan = getScopedBindPlan(objectClass, bindScope);
+
+				if (boundObjects == null) {
+					bindPlan.bind(object, bindContext);
+				} else {
+					bindTracked(object, bindScope, bindPlan, bindContext, boundObjects);
+				}
+			} else {
+				bindAndNotify(object, bindScope, null, bindContext, bindListener);
+			}
+		} finally {
+			clearAttributes(bindContext);
+		}
+	}
+
+	public void unbind(Object object) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+
+		try {
+			unbind(object, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	public void unbind(Object object, Object... parameters) throws BindFailed {
+		BindContextImpl bindContext = bindContextPool.obtain();
+		bindContext.set(parameters);
+
+		try {
+			unbind(object, bindContext);
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	/**
+	 * Undo the unbindable bindings of an object with its cached plan, so that the object can be recycled.
+	 * When bound objects are tracked, the object is forgotten, so its next bind() binds all annotations.
+	 */
+	public void unbind(Object object, BindContext bindContext) throws BindFailed {
 		Class<?> objectClass = object.getClass();
 
-		// Go through all levels of inheritance and find the BindAction for each class
-		while (objectClass != Object.class) {
-			List<BindAction> bindActions = bindActionProvider.getBindActions(objectClass);
-			bind(object, bindActions, parameters);
-			objectClass = objectClass.getSuperclass();
+		if (objectClass == Object.class) {
+			return;
+		}
+
+		try {
+			bindActionProvider.getBindPlan(objectClass).unbind(object, bindContext);
+		} finally {
+			clearAttributes(bindContext);
+		}
+
+		if (boundObjects != null) {
+			boundObjects.remove(object);
+		}
+	}
+
+	/**
+	 * Attributes (e.g. a resolved root View) belong to a single object, so a context that the caller
+	 * re-uses for another object must not return them.
+	 */
+	private static void clearAttributes(BindContext bindContext) {
+		if (bindContext instanceof BindContextImpl) {
+			((BindContextImpl) bindContext).clearAttributes();
+		}
+	}
+
+	private BindPlan getScopedBindPlan(Class<?> type, BindScope bindScope) throws BindFailed {
+		return bindScope == BindScope.ALL
+				? bindActionProvider.getBindPlan(type)
+				: bindActionProvider.getBindPlan(type, bindScope);
+	}
+
+	/**
+	 * Bind an object or only its volatile bindings when it was bound before.
+	 */
+	private static void bindTracked(Object object, BindScope bindScope, BindPlan bindPlan, BindContext bindContext, BoundObjects boundObjects) throws BindFailed {
+		if (boundObjects.addIfAbsent(object, bindScope)) {
+			try {
+				bindPlan.bind(object, bindContext);
+			} catch (BindFailed | RuntimeException caught) {
+				boundObjects.remove(object, bindScope);
+				throw caught;
+			}
+		} else {
+			bindPlan.getVolatilePlan().bind(object, bindContext);
 		}
 	}
 
 	/**
-	 * Bind all annotations for an object instance for one specific class at a single level of inheritance.
+	 * Bind an object and report it to a listener.
 	 *
-	 * @param object  the instance to bind annotations for
-	 * @param bindActions a list of BindAction instances to call
-	 * @param parameters optional parameters
+	 * @param bindScope the scope to look up the plan for
+	 * @param bindPlan the plan of the object or null to look it up (which is then part of the reported duration)
 	 */
-	private void bind(Object object, List<BindAction> bindActions, Object... parameters) throws BindFailed {
-		for (BindAction bindAction : bindActions) {
-			bindAction.bind(object, parameters);
+	private void bindAndNotify(
+			Object object,
+			BindScope bindScope,
+			@Nullable BindPlan bindPlan,
+			BindContext bindContext,
+			BindListener bindListener) throws BindFailed {
+		long startNanos = System.nanoTime();
+		bindListener.onBindStarted(object);
+
+		try {
+			BindPlan objectBindPlan = bindPlan != null ? bindPlan : getScopedBindPlan(object.getClass(), bindScope);
+			boolean isAdded = boundObjects != null && boundObjects.addIfAbsent(object, bindScope);
+			boolean isBound = boundObjects != null && !isAdded;
+
+			try {
+				(isBound ? objectBindPlan.getVolatilePlan() : objectBindPlan).bind(object, bindContext, bindListener);
+			} catch (BindFailed | RuntimeException caught) {
+				if (isAdded) {
+					boundObjects.remove(object, bindScope);
+				}
+
+				throw caught;
+			}
+		} catch (BindFailed | RuntimeException caught) {
+			bindListener.onBindFailed(object, caught, System.nanoTime() - startNanos);
+			throw caught;
 		}
+
+		bindListener.onBindFinished(object, System.nanoTime() - startNanos);
 	}
+
+	// region Batch binding
+
+	/**
+	 * Bind all objects with the same parameters.
+	 *
+	 * The bind plan of each class is looked up once. When an Executor is specified, objects
+	 * of which all bindings are thread-safe are bound on the Executor (in no particular order),
+	 * while all other objects are bound on the calling thread.
+	 * Batches that the Executor rejects are bound on the calling thread.
+	 * All objects are bound, even when some fail.
+	 *
+	 * @param objects the objects to bind
+	 * @param executor the Executor for thread-safe bindings or null to bind all objects on the calling thread
+	 * @param parameters the parameters for all objects
+	 * @throws BindAllFailed when one or more objects failed to bind
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void bindAll(Iterable<?> objects, @Nullable Executor executor, Object[] parameters) {
+		Map<Class<?>, BindPlan> bindPlans = new IdentityHashMap<>();
+		List<Object> currentThreadObjects = new ArrayList<>();
+		List<BindPlan> currentThreadPlans = new ArrayList<>();
+		List<Object> executorObjects = new ArrayList<>();
+		List<BindPlan> executorPlans = new ArrayList<>();
+		List<Exception> failures = Collections.synchronizedList(new ArrayList<Exception>());
+		int objectCount = 0;
+
+		for (Object object : objects) {
+			objectCount++;
+
+			try {
+				BindPlan bindPlan = getBindPlan(object.getClass(), bindPlans);
+
+				if (executor != null && bindPlan.isThreadSafe()) {
+					executorObjects.add(object);
+					executorPlans.add(bindPlan);
+				} else {
+					currentThreadObjects.add(object);
+					currentThreadPlans.add(bindPlan);
+				}
+			} catch (Exception caught) {
+				failures.add(caught);
+			}
+		}
+
+		CountDownLatch latch = null;
+
+		if (executor != null && !executorObjects.isEmpty()) {
+			int batchCount = (executorObjects.size() + BIND_ALL_BATCH_SIZE - 1) / BIND_ALL_BATCH_SIZE;
+			latch = new CountDownLatch(batchCount);
+
+			for (int start = 0; start < executorObjects.size(); start += BIND_ALL_BATCH_SIZE) {
+				int end = Math.min(start + BIND_ALL_BATCH_SIZE, executorObjects.size());
+				BindAllTask task = new BindAllTask(executorObjects.subList(start, end), executorPlans.subList(start, end), parameters, failures, latch);
+
+				try {
+					executor.execute(task);
+				} catch (RejectedExecutionException caught) {
+					// The batch is bound on the calling thread, so that all batches are awaited and their failures are reported
+					task.run();
+				}
+			}
+		}
+
+		bind(currentThreadObjects, currentThreadPlans, parameters, failures);
+
+		if (latch != null) {
+			try {
+				latch.await();
+			} catch (InterruptedException caught) {
+				Thread.currentThread().interrupt();
+				throw new SporkRuntimeException("Interrupted while waiting for bindAll() to complete", caught);
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			throw new BindAllFailed(new ArrayList<>(failures), objectCount);
+		}
+	}
+
+	private BindPlan getBindPlan(Class<?> type, Map<Class<?>, BindPlan> bindPlans) throws BindFailed {
+		BindPlan bindPlan = bindPlans.get(type);
+
+		if (bindPlan == null) {
+			bindPlan = type != Object.class ? bindActionProvider.getBindPlan(type) : BindPlan.EMPTY;
+			bindPlans.put(type, bindPlan);
+		}
+
+		return bindPlan;
+	}
+
+	/**
+	 * Bind objects with a single BindContext. Its attributes are cleared between objects.
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	private void bind(List<Object> objects, List<BindPlan> bindPlans, Object[] parameters, List<Exception> failures) {
+		if (objects.isEmpty()) {
+			return;
+		}
+
+		BindContextImpl bindContext = bindContextPool.obtain();
+		bindContext.set(parameters);
+
+		try {
+			for (int i = 0; i < objects.size(); ++i) {
+				try {
+					bind(objects.get(i), bindPlans.get(i), bindContext);
+				} catch (Exception caught) {
+					failures.add(caught);
+				}
+
+				bindContext.clearAttributes();
+			}
+		} finally {
+			bindContextPool.release(bindContext);
+		}
+	}
+
+	private void bind(Object object, BindPlan bindPlan, BindContext bindContext) throws BindFailed {
+		if (bindListener == null) {
+			if (boundObjects == null) {
+				bindPlan.bind(object, bindContext);
+			} else {
+				bindTracked(object, BindScope.ALL, bindPlan, bindContext, boundObjects);
+			}
+		} else {
+			bindAndNotify(object, BindScope.ALL, bindPlan, bindContext, bindListener);
+		}
+	}
+
+	private final class BindAllTask implements Runnable {
+		private final List<Object> objects;
+		private final List<BindPlan> bindPlans;
+		private final Object[] parameters;
+		private final List<Exception> failures;
+		private final CountDownLatch latch;
+
+		BindAllTask(List<Object> objects, List<BindPlan> bindPlans, Object[] parameters, List<Exception> failures, CountDownLatch latch) {
+			this.objects = objects;
+			this.bindPlans = bindPlans;
+			this.parameters = parameters;
+			this.failures = failures;
+			this.latch = latch;
+		}
+
+		@Override
+		public void run() {
+			try {
+				bind(objects, bindPlans, parameters, failures);
+			} finally {
+				latch.countDown();
+			}
+		}
+	}
+
+	// endregion
 }
@@ -0,0 +1,110 @@
+package spork.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import spork.exceptions.UnexpectedException;
+
+/**
+ * The names of all classes that hold Spork annotations, as written by spork-compiler.
+ *
+ * Each line of the index resource holds the binary name of a class, optionally followed by
+ * its annotated members (separated by spaces). Lines that start with '#' are comments.
+ * Classes with a {@link GeneratedBinder} are marked with "binder".
+ */
+public final class BindingIndex {
+	public static final String RESOURCE_NAME = "META-INF/spork.index";
+
+	private static final String GENERATED_BINDER_MARKER = "binder";
+
+	private final Set<String> classNames;
+	private final Set<String> generatedBinderClassNames;
+
+	BindingIndex(Set<String> classNames, Set<String> generatedBinderClassNames) {
+		this.classNames = Collections.unmodifiableSet(classNames);
+		this.generatedBinderClassNames = Collections.unmodifiableSet(generatedBinderClassNames);
+	}
+
+	BindingIndex(Set<String> classNames) {
+		this(classNames, Collections.<String>emptySet());
+	}
+
+	/**
+	 * Load and combine all index resources that are visible to the given ClassLoader.
+	 *
+	 * @param classLoader the ClassLoader to find the index resources with
+	 * @return the BindingIndex or null when no index resource was found
+	 */
+	@Nullable
+	public static BindingIndex load(ClassLoader classLoader) {
+		Set<String> classNames = new LinkedHashSet<>();
+		Set<String> generatedBinderClassNames = new LinkedHashSet<>();
+		boolean found = false;
+
+		try {
+			Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+
+			while (resources.hasMoreElements()) {
+				read(resources.nextElement(), classNames, generatedBinderClassNames);
+				found = true;
+			}
+		} catch (IOException caught) {
+			throw new UnexpectedException("Failed to read " + RESOURCE_NAME, caught);
+		}
+
+		return found ? new BindingIndex(classNames, generatedBinderClassNames) : null;
+	}
+
+	private static void read(URL resource, Set<String> classNames, Set<String> generatedBinderClassNames) throws IOException {
+		try (InputStream inputStream = resource.openStream();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, "UTF-8"))) {
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+
+				if (line.isEmpty() || line.charAt(0) == '#') {
+					continue;
+				}
+
+				String[] parts = line.split(" ");
+				classNames.add(parts[0]);
+
+				if (parts.length > 1 && GENERATED_BINDER_MARKER.equals(parts[1])) {
+					generatedBinderClassNames.add(parts[0]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param type the class to check
+	 * @return true when the class holds Spork annotations
+	 */
+	public boolean contains(Class<?> type) {
+		return classNames.contains(type.getName());
+	}
+
+	/**
+	 * @return the binary names of the indexed classes that have a {@link GeneratedBinder}
+	 */
+	public Set<String> getGeneratedBinderClassNames() {
+		return generatedBinderClassNames;
+	}
+
+	/**
+	 * @return the binary names of all indexed classes
+	 */
+	public Set<String> getClassNames() {
+		return classNames;
+	}
+}
@@ -0,0 +1,164 @@
+package spork.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import spork.BindScope;
+
+/**
+ * Tracks which objects were bound with which {@link BindScope}.
+ *
+ * Objects are compared by identity and are weakly referenced, so tracking doesn't keep them alive
+ * and objects with a custom equals() are not confused with each other.
+ */
+final class BoundObjects {
+	private final Map<IdentityKey, List<BindScope>> boundScopes = new HashMap<>();
+	private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+	private final LookupKey lookupKey = new LookupKey();
+
+	/**
+	 * Track an object with a scope, unless it is tracked with that scope already.
+	 * The check and the update are atomic, so only one of several threads that bind the same object gets true.
+	 *
+	 * @return true when the object was added and the caller should bind it,
+	 * false when it was bound with the given scope or with {@link BindScope#ALL} before
+	 */
+	synchronized boolean addIfAbsent(Object object, BindScope bindScope) {
+		purge();
+
+		List<BindScope> scopes = boundScopes.get(lookupKey.set(object));
+		lookupKey.set(null);
+
+		if (isBound(scopes, bindScope)) {
+			return false;
+		}
+
+		if (scopes == null) {
+			scopes = new ArrayList<>(1);
+			boundScopes.put(new WeakIdentityKey(object, referenceQueue), scopes);
+		}
+
+		scopes.add(bindScope);
+		return true;
+	}
+
+	/**
+	 * Stop tracking one scope of an object, e.g. because binding it failed after {@link #addIfAbsent(Object, BindScope)}.
+	 */
+	synchronized void remove(Object object, BindScope bindScope) {
+		List<BindScope> scopes = boundScopes.get(lookupKey.set(object));
+
+		if (scopes != null) {
+			scopes.remove(bindScope);
+
+			if (scopes.isEmpty()) {
+				boundScopes.remove(lookupKey);
+			}
+		}
+
+		lookupKey.set(null);
+	}
+
+	/**
+	 * Stop tracking an object, so that its next bind() binds all of its annotations again.
+	 */
+	synchronized void remove(Object object) {
+		boundScopes.remove(lookupKey.set(object));
+		lookupKey.set(null);
+	}
+
+	/**
+	 * @return the amount of tracked objects that were not garbage collected yet
+	 */
+	synchronized int size() {
+		purge();
+		return boundScopes.size();
+	}
+
+	private static boolean isBound(@Nullable List<BindScope> scopes, BindScope bindScope) {
+		return scopes != null && (scopes.contains(BindScope.ALL) || scopes.contains(bindScope));
+	}
+
+	private void purge() {
+		Reference<?> reference;
+
+		while ((reference = referenceQueue.poll()) != null) {
+			boundScopes.remove(reference);
+		}
+	}
+
+	// region Identity keys
+
+	/**
+	 * A key that compares its referents by identity.
+	 */
+	private interface IdentityKey {
+		Object getReferent();
+	}
+
+	private static final class WeakIdentityKey extends WeakReference<Object> implements IdentityKey {
+		private final int hashCode;
+
+		WeakIdentityKey(Object referent, ReferenceQueue<Object> referenceQueue) {
+			super(referent, referenceQueue);
+			this.hashCode = System.identityHashCode(referent);
+		}
+
+		@Override
+		public Object getReferent() {
+			return get();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			// A cleared key only equals itself, so it can be removed after its referent was collected
+			if (this == other) {
+				return true;
+			}
+
+			Object referent = get();
+			return referent != null && other instanceof IdentityKey && ((IdentityKey) other).getReferent() == referent;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * A re-usable key for lookups, so that looking up an object doesn't allocate a WeakReference.
+	 */
+	private static final class LookupKey implements IdentityKey {
+		private Object referent;
+
+		LookupKey set(Object referent) {
+			this.referent = referent;
+			return this;
+		}
+
+		@Override
+		public Object getReferent() {
+			return referent;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof IdentityKey && ((IdentityKey) other).getReferent() == referent;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(referent);
+		}
+	}
+
+	// endregion
+}
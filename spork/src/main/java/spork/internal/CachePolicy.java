@@ -0,0 +1,46 @@
+package spork.internal;
+
+import javax.annotation.Nullable;
+
+/**
+ * Determines how the {@link BindActionProvider} caches bind plans and actions per class.
+ */
+public final class CachePolicy {
+	/**
+	 * Keep the cached classes and their plans for the lifetime of the SporkInstance. Lookups are lock-free.
+	 */
+	public static final CachePolicy STRONG = new CachePolicy(false, 0);
+
+	private final boolean weak;
+	private final int maximumSize;
+
+	private CachePolicy(boolean weak, int maximumSize) {
+		this.weak = weak;
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Don't keep the cached classes alive and optionally evict the least recently used classes.
+	 *
+	 * @param maximumSize the maximum amount of cached classes per cache or 0 for no maximum
+	 * @see WeakClassCache
+	 */
+	public static CachePolicy weak(int maximumSize) {
+		if (maximumSize < 0) {
+			throw new IllegalArgumentException("The maximum size must not be negative");
+		}
+
+		return new CachePolicy(true, maximumSize);
+	}
+
+	/**
+	 * @param evictionListener the listener for evictions (only used by weak caches)
+	 */
+	<V> ClassCache<V> createCache(@Nullable WeakClassCache.EvictionListener evictionListener) {
+		if (weak) {
+			return new WeakClassCache<>(maximumSize, evictionListener);
+		} else {
+			return new ConcurrentClassCache<>();
+		}
+	}
+}
@@ -1,51 +1,291 @@
 package spork.internal;
 
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import javax.annotation.Nullable;
+
+import spork.extension.BinderFactory;
 import spork.extension.FieldBinder;
 import spork.extension.MethodBinder;
 import spork.extension.TypeBinder;
 
 /**
  * The Catalog holds a reference to all known field/method/type binder instances.
+ * Binders can also be registered through a {@link BinderFactory}: they are created the first time
+ * a bound class uses their annotation.
+ *
+ * It also provides an {@link Index} of the binders by their annotation type, so a class scan can find
+ * the binders for an annotation without going through all registered binders.
+ * The Index is an immutable snapshot of the Catalog, so it can be read without locking.
+ * Every registration creates a new version of the Catalog: binders are only appended,
+ * so the positions of the binders in an older Index remain valid in newer ones.
  */
 public final class Catalog {
-	private final List<FieldBinder> fieldBinders = new ArrayList<>();
-	private final List<MethodBinder> methodBinders = new ArrayList<>();
-	private final List<TypeBinder> typeBinders = new ArrayList<>();
+	private final List<LazyBinder<FieldBinder<?>>> fieldBinders = new ArrayList<>();
+	private final List<LazyBinder<MethodBinder<?>>> methodBinders = new ArrayList<>();
+	private final List<LazyBinder<TypeBinder<?>>> typeBinders = new ArrayList<>();
+	@Nullable private volatile Index index;
+	private int version;
+
+	public synchronized void add(FieldBinder<?> fieldBinder) {
+		fieldBinders.add(new LazyBinder<FieldBinder<?>>(fieldBinder));
+		onChanged();
+	}
+
+	public synchronized void add(MethodBinder<?> methodBinder) {
+		methodBinders.add(new LazyBinder<MethodBinder<?>>(methodBinder));
+		onChanged();
+	}
+
+	public synchronized void add(TypeBinder<?> typeBinder) {
+		typeBinders.add(new LazyBinder<TypeBinder<?>>(typeBinder));
+		onChanged();
+	}
+
+	/**
+	 * Add a FieldBinder that is created when a bound class first uses the annotation.
+	 */
+	public synchronized void addFieldBinder(Class<? extends Annotation> annotationClass, BinderFactory<? extends FieldBinder<?>> factory) {
+		fieldBinders.add(new LazyBinder<FieldBinder<?>>(annotationClass, factory));
+		onChanged();
+	}
+
+	/**
+	 * Add a MethodBinder that is created when a bound class first uses the annotation.
+	 */
+	public synchronized void addMethodBinder(Class<? extends Annotation> annotationClass, BinderFactory<? extends MethodBinder<?>> factory) {
+		methodBinders.add(new LazyBinder<MethodBinder<?>>(annotationClass, factory));
+		onChanged();
+	}
 
-	public void add(FieldBinder<?> fieldBinder) {
-		fieldBinders.add(fieldBinder);
+	/**
+	 * Add a TypeBinder that is created when a bound class first uses the annotation.
+	 */
+	public synchronized void addTypeBinder(Class<? extends Annotation> annotationClass, BinderFactory<? extends TypeBinder<?>> factory) {
+		typeBinders.add(new LazyBinder<TypeBinder<?>>(annotationClass, factory));
+		onChanged();
 	}
 
-	public void add(MethodBinder<?> methodBinder) {
-		methodBinders.add(methodBinder);
+	private void onChanged() {
+		++version;
+		index = null;
 	}
 
-	public void add(TypeBinder<?> typeBinder) {
-		typeBinders.add(typeBinder);
+	/**
+	 * The index is created when it is first requested, which is normally during the first bind.
+	 * A cached index is returned without locking.
+	 *
+	 * @return an index of all registered binders by their annotation type
+	 */
+	Index getIndex() {
+		Index index = this.index;
+		return index != null ? index : createIndex();
+	}
+
+	private synchronized Index createIndex() {
+		if (index == null) {
+			index = new Index(this);
+		}
+
+		return index;
 	}
 
 	/**
-	 * @return all registered FieldBinder instances
+	 * @return a description of all registered binders in registration order, so that persisted binder positions can be validated
 	 */
-	List<FieldBinder> getFieldBinders() {
-		return fieldBinders;
+	synchronized String getSignature() {
+		StringBuilder builder = new StringBuilder();
+
+		// Lazy binders are described by their factory, so they are not created
+		for (LazyBinder<FieldBinder<?>> fieldBinder : fieldBinders) {
+			builder.append("field:").append(fieldBinder.getTypeName()).append('@').append(getFieldAnnotationClass(fieldBinder).getName()).append('\n');
+		}
+
+		for (LazyBinder<MethodBinder<?>> methodBinder : methodBinders) {
+			builder.append("method:").append(methodBinder.getTypeName()).append('@').append(getMethodAnnotationClass(methodBinder).getName()).append('\n');
+		}
+
+		for (LazyBinder<TypeBinder<?>> typeBinder : typeBinders) {
+			builder.append("type:").append(typeBinder.getTypeName()).append('@').append(getTypeAnnotationClass(typeBinder).getName()).append('\n');
+		}
+
+		return builder.toString();
 	}
 
+	// region Annotation classes
+
 	/**
-	 * @return all registered MethodBinder instances
+	 * The annotation class of a binder that was registered as an instance is only requested
+	 * when the Catalog is indexed or described.
 	 */
-	List<MethodBinder> getMethodBinders() {
-		return methodBinders;
+	private static Class<? extends Annotation> getFieldAnnotationClass(LazyBinder<FieldBinder<?>> fieldBinder) {
+		Class<? extends Annotation> annotationClass = fieldBinder.getAnnotationClass();
+		return annotationClass != null ? annotationClass : fieldBinder.get().getAnnotationClass();
+	}
+
+	private static Class<? extends Annotation> getMethodAnnotationClass(LazyBinder<MethodBinder<?>> methodBinder) {
+		Class<? extends Annotation> annotationClass = methodBinder.getAnnotationClass();
+		return annotationClass != null ? annotationClass : methodBinder.get().getAnnotationClass();
 	}
 
+	private static Class<? extends Annotation> getTypeAnnotationClass(LazyBinder<TypeBinder<?>> typeBinder) {
+		Class<? extends Annotation> annotationClass = typeBinder.getAnnotationClass();
+		return annotationClass != null ? annotationClass : typeBinder.get().getAnnotationClass();
+	}
+
+	// endregion
+
 	/**
-	 * @return all registered TypeBinder instances
+	 * An immutable snapshot of the registered binders, in registration order,
+	 * that maps annotation types to the positions of their binders.
+	 * Lazy binders are created when they are first requested.
 	 */
-	List<TypeBinder> getTypeBinders() {
-		return typeBinders;
+	@SuppressWarnings("PMD.UseConcurrentHashMap") // the maps are not modified after construction
+	static final class Index {
+		private final int version;
+		private final LazyBinder<?>[] fieldBinders;
+		private final LazyBinder<?>[] methodBinders;
+		private final LazyBinder<?>[] typeBinders;
+		private final Class<?>[] fieldAnnotationClasses;
+		private final Class<?>[] methodAnnotationClasses;
+		private final Class<?>[] typeAnnotationClasses;
+		private final Map<Class<? extends Annotation>, int[]> fieldBinderPositions = new HashMap<>();
+		private final Map<Class<? extends Annotation>, int[]> methodBinderPositions = new HashMap<>();
+		private final Map<Class<? extends Annotation>, int[]> typeBinderPositions = new HashMap<>();
+
+		private Index(Catalog catalog) {
+			version = catalog.version;
+			fieldBinders = catalog.fieldBinders.toArray(new LazyBinder<?>[catalog.fieldBinders.size()]);
+			methodBinders = catalog.methodBinders.toArray(new LazyBinder<?>[catalog.methodBinders.size()]);
+			typeBinders = catalog.typeBinders.toArray(new LazyBinder<?>[catalog.typeBinders.size()]);
+			fieldAnnotationClasses = new Class<?>[fieldBinders.length];
+			methodAnnotationClasses = new Class<?>[methodBinders.length];
+			typeAnnotationClasses = new Class<?>[typeBinders.length];
+
+			for (int i = 0; i < fieldBinders.length; ++i) {
+				Class<? extends Annotation> annotationClass = Catalog.getFieldAnnotationClass(catalog.fieldBinders.get(i));
+				fieldAnnotationClasses[i] = annotationClass;
+				add(fieldBinderPositions, annotationClass, i);
+			}
+
+			for (int i = 0; i < methodBinders.length; ++i) {
+				Class<? extends Annotation> annotationClass = Catalog.getMethodAnnotationClass(catalog.methodBinders.get(i));
+				methodAnnotationClasses[i] = annotationClass;
+				add(methodBinderPositions, annotationClass, i);
+			}
+
+			for (int i = 0; i < typeBinders.length; ++i) {
+				Class<? extends Annotation> annotationClass = Catalog.getTypeAnnotationClass(catalog.typeBinders.get(i));
+				typeAnnotationClasses[i] = annotationClass;
+				add(typeBinderPositions, annotationClass, i);
+			}
+		}
+
+		private static void add(Map<Class<? extends Annotation>, int[]> map, Class<? extends Annotation> annotationClass, int position) {
+			int[] positions = map.get(annotationClass);
+
+			if (positions == null) {
+				positions = new int[] { position };
+			} else {
+				positions = Arrays.copyOf(positions, positions.length + 1);
+				positions[positions.length - 1] = position;
+			}
+
+			map.put(annotationClass, positions);
+		}
+
+		/**
+		 * @return the amount of registrations that preceded this snapshot
+		 */
+		int getVersion() {
+			return version;
+		}
+
+		int getFieldBinderCount() {
+			return fieldBinders.length;
+		}
+
+		int getMethodBinderCount() {
+			return methodBinders.length;
+		}
+
+		int getTypeBinderCount() {
+			return typeBinders.length;
+		}
+
+		/**
+		 * @return the FieldBinder at a position, which is created when it was registered lazily
+		 */
+		FieldBinder<?> getFieldBinder(int position) {
+			return (FieldBinder<?>) fieldBinders[position].get();
+		}
+
+		/**
+		 * @return the MethodBinder at a position, which is created when it was registered lazily
+		 */
+		MethodBinder<?> getMethodBinder(int position) {
+			return (MethodBinder<?>) methodBinders[position].get();
+		}
+
+		/**
+		 * @return the TypeBinder at a position, which is created when it was registered lazily
+		 */
+		TypeBinder<?> getTypeBinder(int position) {
+			return (TypeBinder<?>) typeBinders[position].get();
+		}
+
+		/**
+		 * @return the annotation class of the FieldBinder at a position, without creating the binder
+		 */
+		@SuppressWarnings("unchecked")
+		Class<? extends Annotation> getFieldAnnotationClass(int position) {
+			return (Class<? extends Annotation>) fieldAnnotationClasses[position];
+		}
+
+		/**
+		 * @return the annotation class of the MethodBinder at a position, without creating the binder
+		 */
+		@SuppressWarnings("unchecked")
+		Class<? extends Annotation> getMethodAnnotationClass(int position) {
+			return (Class<? extends Annotation>) methodAnnotationClasses[position];
+		}
+
+		/**
+		 * @return the annotation class of the TypeBinder at a position, without creating the binder
+		 */
+		@SuppressWarnings("unchecked")
+		Class<? extends Annotation> getTypeAnnotationClass(int position) {
+			return (Class<? extends Annotation>) typeAnnotationClasses[position];
+		}
+
+		/**
+		 * @return the positions of the FieldBinder instances for the annotation or null when there are none
+		 */
+		@Nullable
+		int[] getFieldBinderPositions(Class<? extends Annotation> annotationClass) {
+			return fieldBinderPositions.get(annotationClass);
+		}
+
+		/**
+		 * @return the positions of the MethodBinder instances for the annotation or null when there are none
+		 */
+		@Nullable
+		int[] getMethodBinderPositions(Class<? extends Annotation> annotationClass) {
+			return methodBinderPositions.get(annotationClass);
+		}
+
+		/**
+		 * @return the positions of the TypeBinder instances for the annotation or null when there are none
+		 */
+		@Nullable
+		int[] getTypeBinderPositions(Class<? extends Annotation> annotationClass) {
+			return typeBinderPositions.get(annotationClass);
+		}
 	}
-}
\ No newline at end of file
+}
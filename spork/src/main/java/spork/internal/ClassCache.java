@@ -0,0 +1,39 @@
+package spork.internal;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A thread-safe cache of values per class.
+ *
+ * @param <V> the value type
+ */
+public interface ClassCache<V> {
+	/**
+	 * @return the cached value or null when it is not cached (anymore)
+	 */
+	@Nullable
+	V get(Class<?> type);
+
+	/**
+	 * @return the value that was already cached or null when the given value was stored
+	 */
+	@Nullable
+	V putIfAbsent(Class<?> type, V value);
+
+	/**
+	 * Remove the cached value of a class (if any).
+	 */
+	void remove(Class<?> type);
+
+	/**
+	 * @return a snapshot of the classes that have a cached value
+	 */
+	List<Class<?>> getTypes();
+
+	/**
+	 * @return the amount of cached values
+	 */
+	int size();
+}
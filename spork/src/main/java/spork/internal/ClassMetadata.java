@@ -0,0 +1,145 @@
+package spork.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The annotated members of a class, as found through reflection.
+ *
+ * This metadata doesn't depend on the registered binders, so it is cached process-wide and shared
+ * by all SporkInstance objects. The cache doesn't keep classes alive (see {@link WeakClassCache}).
+ * Its lookups only happen when a bind plan is created.
+ */
+final class ClassMetadata {
+	private static final ClassCache<ClassMetadata> CACHE = new WeakClassCache<>(0, null);
+
+	private final Annotation[] typeAnnotations;
+	private final Field[] fields;
+	private final Annotation[][] fieldAnnotations;
+	private final Method[] methods;
+	private final Annotation[][] methodAnnotations;
+
+	private ClassMetadata(Class<?> type) {
+		// getAnnotations() includes @Inherited annotations, like getAnnotation() does
+		typeAnnotations = type.getAnnotations();
+
+		List<Field> annotatedFields = new ArrayList<>();
+		List<Annotation[]> annotatedFieldAnnotations = new ArrayList<>();
+
+		for (Field field : type.getDeclaredFields()) {
+			Annotation[] annotations = field.getDeclaredAnnotations();
+
+			if (annotations.length > 0) {
+				annotatedFields.add(field);
+				annotatedFieldAnnotations.add(annotations);
+			}
+		}
+
+		List<Method> annotatedMethods = new ArrayList<>();
+		List<Annotation[]> annotatedMethodAnnotations = new ArrayList<>();
+
+		for (Method method : type.getDeclaredMethods()) {
+			Annotation[] annotations = method.getDeclaredAnnotations();
+
+			if (annotations.length > 0) {
+				annotatedMethods.add(method);
+				annotatedMethodAnnotations.add(annotations);
+			}
+		}
+
+		fields = annotatedFields.toArray(new Field[annotatedFields.size()]);
+		fieldAnnotations = annotatedFieldAnnotations.toArray(new Annotation[annotatedFieldAnnotations.size()][]);
+		methods = annotatedMethods.toArray(new Method[annotatedMethods.size()]);
+		methodAnnotations = annotatedMethodAnnotations.toArray(new Annotation[annotatedMethodAnnotations.size()][]);
+	}
+
+	/**
+	 * Get the cached metadata of a class or scan the class when it is not cached.
+	 * When multiple threads scan the same class concurrently, the first result is kept.
+	 */
+	static ClassMetadata get(Class<?> type) {
+		ClassMetadata classMetadata = CACHE.get(type);
+
+		if (classMetadata == null) {
+			ClassMetadata newClassMetadata = new ClassMetadata(type);
+			classMetadata = CACHE.putIfAbsent(type, newClassMetadata);
+
+			if (classMetadata == null) {
+				classMetadata = newClassMetadata;
+			}
+		}
+
+		return classMetadata;
+	}
+
+	/**
+	 * @return true when the type or one of its declared fields or methods has an annotation of the given type
+	 */
+	boolean hasAnnotation(Class<? extends Annotation> annotationClass) {
+		if (contains(typeAnnotations, annotationClass)) {
+			return true;
+		}
+
+		for (Annotation[] annotations : fieldAnnotations) {
+			if (contains(annotations, annotationClass)) {
+				return true;
+			}
+		}
+
+		for (Annotation[] annotations : methodAnnotations) {
+			if (contains(annotations, annotationClass)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean contains(Annotation[] annotations, Class<? extends Annotation> annotationClass) {
+		for (Annotation annotation : annotations) {
+			if (annotation.annotationType() == annotationClass) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the annotations of the type, including inherited ones
+	 */
+	Annotation[] getTypeAnnotations() {
+		return typeAnnotations;
+	}
+
+	/**
+	 * @return the declared fields that have at least 1 annotation, in declaration order
+	 */
+	Field[] getFields() {
+		return fields;
+	}
+
+	/**
+	 * @return the declared annotations of the field at the same position in {@link #getFields()}
+	 */
+	Annotation[] getFieldAnnotations(int fieldIndex) {
+		return fieldAnnotations[fieldIndex];
+	}
+
+	/**
+	 * @return the declared methods that have at least 1 annotation, in declaration order
+	 */
+	Method[] getMethods() {
+		return methods;
+	}
+
+	/**
+	 * @return the declared annotations of the method at the same position in {@link #getMethods()}
+	 */
+	Annotation[] getMethodAnnotations(int methodIndex) {
+		return methodAnnotations[methodIndex];
+	}
+}
@@ -0,0 +1,97 @@
+package spork.internal;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import spork.extension.BindListener;
+
+/**
+ * Forwards all events to multiple listeners, in registration order.
+ */
+public final class CompositeBindListener implements BindListener {
+	private final BindListener[] bindListeners;
+
+	private CompositeBindListener(BindListener[] bindListeners) {
+		this.bindListeners = bindListeners;
+	}
+
+	/**
+	 * @param bindListeners the listeners to combine
+	 * @return null when there are no listeners, the listener itself when there is one or a composite otherwise
+	 */
+	@Nullable
+	public static BindListener create(List<BindListener> bindListeners) {
+		if (bindListeners.isEmpty()) {
+			return null;
+		} else if (bindListeners.size() == 1) {
+			return bindListeners.get(0);
+		} else {
+			return new CompositeBindListener(bindListeners.toArray(new BindListener[bindListeners.size()]));
+		}
+	}
+
+	@Override
+	public void onBindStarted(Object object) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onBindStarted(object);
+		}
+	}
+
+	@Override
+	public void onBindFinished(Object object, long durationNanos) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onBindFinished(object, durationNanos);
+		}
+	}
+
+	@Override
+	public void onBindFailed(Object object, Exception failure, long durationNanos) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onBindFailed(object, failure, durationNanos);
+		}
+	}
+
+	@Override
+	public void onBindingFinished(Object object, Object binder, AnnotatedElement member, long durationNanos) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onBindingFinished(object, binder, member, durationNanos);
+		}
+	}
+
+	@Override
+	public void onBindingFailed(Object object, Object binder, AnnotatedElement member, Exception failure, long durationNanos) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onBindingFailed(object, binder, member, failure, durationNanos);
+		}
+	}
+
+	@Override
+	public void onPlanCacheHit(Class<?> type) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onPlanCacheHit(type);
+		}
+	}
+
+	@Override
+	public void onPlanCreated(Class<?> type, int bindingCount, long durationNanos) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onPlanCreated(type, bindingCount, durationNanos);
+		}
+	}
+
+	@Override
+	public void onMemberScan(Class<?> type) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onMemberScan(type);
+		}
+	}
+
+	@Override
+	public void onPlanEvicted(@Nullable Class<?> type) {
+		for (BindListener bindListener : bindListeners) {
+			bindListener.onPlanEvicted(type);
+		}
+	}
+}
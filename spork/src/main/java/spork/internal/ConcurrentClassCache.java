@@ -0,0 +1,52 @@
+package spork.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A lock-free {@link ClassCache} that keeps all classes and values for its own lifetime.
+ *
+ * @param <V> the value type
+ */
+final class ConcurrentClassCache<V> implements ClassCache<V> {
+	private final ConcurrentMap<Class<?>, V> map;
+
+	ConcurrentClassCache(ConcurrentMap<Class<?>, V> map) {
+		this.map = map;
+	}
+
+	ConcurrentClassCache() {
+		this(new ConcurrentHashMap<Class<?>, V>());
+	}
+
+	@Nullable
+	@Override
+	public V get(Class<?> type) {
+		return map.get(type);
+	}
+
+	@Nullable
+	@Override
+	public V putIfAbsent(Class<?> type, V value) {
+		return map.putIfAbsent(type, value);
+	}
+
+	@Override
+	public void remove(Class<?> type) {
+		map.remove(type);
+	}
+
+	@Override
+	public List<Class<?>> getTypes() {
+		return new ArrayList<>(map.keySet());
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+}
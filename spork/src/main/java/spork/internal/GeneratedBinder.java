@@ -0,0 +1,46 @@
+package spork.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * A GeneratedBinder is created at compile-time by spork-compiler for every class that holds
+ * annotations which are known to the annotation processor.
+ * The generated class is named after the binary name of the annotated class with a "_SporkBinder" suffix
+ * (e.g. "com.example.MyActivity_SporkBinder" or "com.example.Outer$Inner_SporkBinder").
+ *
+ * It reports the annotated members of a class so that they don't have to be found by scanning all
+ * declared fields and methods through reflection. It doesn't contain binding code: the reported members
+ * are bound by the registered binders, because binders are only known at runtime.
+ *
+ * Spork only looks up generated binders for the classes that the binding index marks as having one.
+ */
+public interface GeneratedBinder {
+	/**
+	 * @param annotationClass an annotation that has a registered binder
+	 * @return true when the annotation processor looked for this annotation while generating this binder
+	 */
+	boolean covers(Class<? extends Annotation> annotationClass);
+
+	/**
+	 * Report all annotated members of the given type to the collector.
+	 *
+	 * @param type the class that this binder was generated for
+	 * @param collector the collector to report annotated members to
+	 * @throws NoSuchFieldException when the generated code doesn't match the compiled class
+	 * @throws NoSuchMethodException when the generated code doesn't match the compiled class
+	 */
+	void collect(Class<?> type, Collector collector) throws NoSuchFieldException, NoSuchMethodException;
+
+	/**
+	 * Receives the annotated members of a class.
+	 */
+	interface Collector {
+		void addType(Class<? extends Annotation> annotationClass);
+
+		void addField(Field field, Class<? extends Annotation> annotationClass);
+
+		void addMethod(Method method, Class<? extends Annotation> annotationClass);
+	}
+}
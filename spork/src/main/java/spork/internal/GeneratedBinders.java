@@ -0,0 +1,85 @@
+package spork.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import spork.exceptions.UnexpectedException;
+
+/**
+ * Utility class for finding {@link GeneratedBinder} instances.
+ *
+ * Only the classes that the {@link BindingIndex} of their ClassLoader marks as having a generated binder
+ * are looked up, so classes without one don't cost a failed class lookup.
+ */
+public final class GeneratedBinders {
+	static final String CLASS_NAME_SUFFIX = "_SporkBinder";
+
+	// The names of the classes with a generated binder per ClassLoader, which are loaded on first use
+	private static final Map<ClassLoader, Set<String>> generatedBinderClassNames = new WeakHashMap<>();
+
+	private GeneratedBinders() {
+	}
+
+	/**
+	 * Find and instantiate the GeneratedBinder for the given type.
+	 *
+	 * @param type the class to find a GeneratedBinder for
+	 * @return the GeneratedBinder or null when spork-compiler didn't generate one
+	 */
+	@Nullable
+	public static GeneratedBinder find(Class<?> type) {
+		ClassLoader classLoader = type.getClassLoader();
+		if (classLoader == null) {
+			// classes from the bootstrap class loader never have a generated binder
+			return null;
+		}
+
+		Set<String> classNames = getGeneratedBinderClassNames(classLoader);
+		String className = type.getName();
+		if (!classNames.contains(className)) {
+			return null;
+		}
+
+		try {
+			Class<?> binderClass = Class.forName(className + CLASS_NAME_SUFFIX, true, classLoader);
+			Object binder = binderClass.newInstance();
+			if (binder instanceof GeneratedBinder) {
+				return (GeneratedBinder) binder;
+			} else {
+				throw new UnexpectedException(binderClass.getName() + " does not implement " + GeneratedBinder.class.getName());
+			}
+		} catch (ClassNotFoundException caught) {
+			// The index is outdated: don't look up the binder again
+			classNames.remove(className);
+			return null;
+		} catch (IllegalAccessException caught) {
+			throw new UnexpectedException("Failed to access generated binder for " + type.getName(), caught);
+		} catch (InstantiationException caught) {
+			throw new UnexpectedException("Failed to create generated binder for " + type.getName(), caught);
+		}
+	}
+
+	private static Set<String> getGeneratedBinderClassNames(ClassLoader classLoader) {
+		synchronized (generatedBinderClassNames) {
+			Set<String> classNames = generatedBinderClassNames.get(classLoader);
+
+			if (classNames == null) {
+				classNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+				BindingIndex bindingIndex = BindingIndex.load(classLoader);
+
+				if (bindingIndex != null) {
+					classNames.addAll(bindingIndex.getGeneratedBinderClassNames());
+				}
+
+				generatedBinderClassNames.put(classLoader, classNames);
+			}
+
+			return classNames;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package spork.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the annotated members that a {@link GeneratedBinder} reported for a single class.
+ */
+final class GeneratedMembers implements GeneratedBinder.Collector {
+	private final List<Class<? extends Annotation>> typeAnnotations = new ArrayList<>(1);
+	private final List<Field> fields = new ArrayList<>();
+	private final List<Class<? extends Annotation>> fieldAnnotations = new ArrayList<>();
+	private final List<Method> methods = new ArrayList<>();
+	private final List<Class<? extends Annotation>> methodAnnotations = new ArrayList<>();
+
+	@Override
+	public void addType(Class<? extends Annotation> annotationClass) {
+		typeAnnotations.add(annotationClass);
+	}
+
+	@Override
+	public void addField(Field field, Class<? extends Annotation> annotationClass) {
+		fields.add(field);
+		fieldAnnotations.add(annotationClass);
+	}
+
+	@Override
+	public void addMethod(Method method, Class<? extends Annotation> annotationClass) {
+		methods.add(method);
+		methodAnnotations.add(annotationClass);
+	}
+
+	boolean hasTypeAnnotation(Class<? extends Annotation> annotationClass) {
+		return typeAnnotations.contains(annotationClass);
+	}
+
+	/**
+	 * @return the fields that were reported for the given annotation in declaration order
+	 */
+	List<Field> getFields(Class<? extends Annotation> annotationClass) {
+		List<Field> result = new ArrayList<>(fields.size());
+		for (int i = 0; i < fields.size(); ++i) {
+			if (fieldAnnotations.get(i) == annotationClass) {
+				result.add(fields.get(i));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the methods that were reported for the given annotation in declaration order
+	 */
+	List<Method> getMethods(Class<? extends Annotation> annotationClass) {
+		List<Method> result = new ArrayList<>(methods.size());
+		for (int i = 0; i < methods.size(); ++i) {
+			if (methodAnnotations.get(i) == annotationClass) {
+				result.add(methods.get(i));
+			}
+		}
+		return result;
+	}
+}
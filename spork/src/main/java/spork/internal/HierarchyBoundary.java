@@ -0,0 +1,56 @@
+package spork.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Determines where Spork stops scanning the class hierarchy of a bound object.
+ *
+ * Classes in the boundary packages (e.g. framework classes) can't hold Spork annotations,
+ * so neither they nor their superclasses are scanned.
+ */
+public final class HierarchyBoundary {
+	/**
+	 * The default package prefixes: Java and Android framework packages.
+	 */
+	public static final List<String> DEFAULT_PACKAGE_PREFIXES = Collections.unmodifiableList(Arrays.asList(
+			"java.",
+			"javax.",
+			"android.",
+			"android.support.",
+			"androidx."
+	));
+
+	private final String[] packagePrefixes;
+
+	/**
+	 * @param packagePrefixes the package prefixes (e.g. "android.") of classes that are not scanned
+	 */
+	public HierarchyBoundary(List<String> packagePrefixes) {
+		this.packagePrefixes = packagePrefixes.toArray(new String[packagePrefixes.size()]);
+	}
+
+	public HierarchyBoundary() {
+		this(DEFAULT_PACKAGE_PREFIXES);
+	}
+
+	/**
+	 * @return true when the class and its superclasses should not be scanned for annotations
+	 */
+	public boolean isBoundary(Class<?> type) {
+		if (type == Object.class) {
+			return true;
+		}
+
+		String className = type.getName();
+
+		for (String packagePrefix : packagePrefixes) {
+			if (className.startsWith(packagePrefix)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,66 @@
+package spork.internal;
+
+import java.lang.annotation.Annotation;
+
+import javax.annotation.Nullable;
+
+import spork.extension.BinderFactory;
+
+/**
+ * A registered binder that is created by a {@link BinderFactory} when it is first needed,
+ * or a binder that was registered as an instance.
+ * The annotation class of a lazy binder is known upfront, so the {@link Catalog} can be indexed without creating the binder.
+ *
+ * @param <B> the binder type
+ */
+final class LazyBinder<B> {
+	@Nullable private final Class<? extends Annotation> annotationClass;
+	private final String typeName;
+	@Nullable private BinderFactory<? extends B> factory;
+	@Nullable private volatile B binder;
+
+	LazyBinder(B binder) {
+		this.annotationClass = null;
+		this.typeName = binder.getClass().getName();
+		this.binder = binder;
+	}
+
+	LazyBinder(Class<? extends Annotation> annotationClass, BinderFactory<? extends B> factory) {
+		this.annotationClass = annotationClass;
+		this.typeName = factory.getClass().getName();
+		this.factory = factory;
+	}
+
+	/**
+	 * @return the annotation class or null when the binder was registered as an instance
+	 */
+	@Nullable
+	Class<? extends Annotation> getAnnotationClass() {
+		return annotationClass;
+	}
+
+	/**
+	 * @return the class name of the binder or of its factory, without creating the binder
+	 */
+	String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * @return the binder, which is created on the first call
+	 */
+	B get() {
+		B binder = this.binder;
+		return binder != null ? binder : create();
+	}
+
+	private synchronized B create() {
+		if (binder == null && factory != null) {
+			binder = factory.create();
+			// The factory (and everything it references) is not needed anymore
+			factory = null;
+		}
+
+		return binder;
+	}
+}
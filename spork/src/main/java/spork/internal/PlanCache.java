@@ -0,0 +1,245 @@
+package spork.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * An on-disk cache of the annotated members of scanned classes.
+ *
+ * For each class it holds the annotated members and the position of their binders in the {@link Catalog},
+ * in the order of the resulting {@link BindAction} instances. This allows the {@link BindActionProvider}
+ * to look up the annotated members directly instead of scanning all declared members of a class.
+ *
+ * The file is only used when its fingerprint matches: the fingerprint combines a user-provided
+ * value (e.g. an app version) with the signature of the {@link Catalog}.
+ * A missing, corrupt or mismatched file results in an empty cache.
+ */
+public final class PlanCache {
+	private static final int MAGIC = 0x53504b50; // "SPKP"
+	private static final int VERSION = 1;
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	static final byte KIND_TYPE = 0;
+	static final byte KIND_FIELD = 1;
+	static final byte KIND_METHOD = 2;
+
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+	static {
+		for (Class<?> type : new Class<?>[] { boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class }) {
+			PRIMITIVE_TYPES.put(type.getName(), type);
+		}
+	}
+
+	private final File file;
+	private final String fingerprint;
+	private final Map<String, Entry[]> loadedEntries;
+	private final ConcurrentMap<String, Entry[]> recordedEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * An annotated member of a class.
+	 */
+	static final class Entry {
+		private static final String[] NO_PARAMETER_TYPES = new String[0];
+
+		final byte kind;
+		final int binderPosition;
+		final String memberName;
+		final String[] parameterTypeNames;
+
+		Entry(byte kind, int binderPosition, String memberName, String[] parameterTypeNames) {
+			this.kind = kind;
+			this.binderPosition = binderPosition;
+			this.memberName = memberName;
+			this.parameterTypeNames = parameterTypeNames;
+		}
+
+		static Entry forType(int binderPosition) {
+			return new Entry(KIND_TYPE, binderPosition, "", NO_PARAMETER_TYPES);
+		}
+
+		static Entry forField(int binderPosition, String fieldName) {
+			return new Entry(KIND_FIELD, binderPosition, fieldName, NO_PARAMETER_TYPES);
+		}
+
+		static Entry forMethod(int binderPosition, String methodName, Class<?>[] parameterTypes) {
+			String[] parameterTypeNames = new String[parameterTypes.length];
+
+			for (int i = 0; i < parameterTypes.length; ++i) {
+				parameterTypeNames[i] = parameterTypes[i].getName();
+			}
+
+			return new Entry(KIND_METHOD, binderPosition, methodName, parameterTypeNames);
+		}
+	}
+
+	private PlanCache(File file, String fingerprint, Map<String, Entry[]> loadedEntries) {
+		this.file = file;
+		this.fingerprint = fingerprint;
+		this.loadedEntries = loadedEntries;
+	}
+
+	/**
+	 * Load the cache file. The file is mapped into memory and read once.
+	 *
+	 * @param file the cache file (it doesn't have to exist)
+	 * @param fingerprint identifies the version of the bound classes (e.g. an app version)
+	 * @param catalog the registered binders
+	 * @return the cache, which is empty when the file is missing or doesn't match
+	 */
+	public static PlanCache load(File file, String fingerprint, Catalog catalog) {
+		return load(file, fingerprint + '\n' + catalog.getSignature());
+	}
+
+	static PlanCache load(File file, String fingerprint) {
+		Map<String, Entry[]> entries = new HashMap<>();
+
+		if (file.isFile()) {
+			try {
+				read(file, fingerprint, entries);
+			} catch (IOException | BufferUnderflowException | IllegalArgumentException caught) {
+				// Fall back to scanning
+				entries.clear();
+			}
+		}
+
+		return new PlanCache(file, fingerprint, entries);
+	}
+
+	// region Reading
+
+	private static void read(File file, String fingerprint, Map<String, Entry[]> entries) throws IOException {
+		try (FileInputStream inputStream = new FileInputStream(file);
+			FileChannel channel = inputStream.getChannel()) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !fingerprint.equals(readString(buffer))) {
+				return;
+			}
+
+			int classCount = buffer.getInt();
+
+			for (int i = 0; i < classCount; ++i) {
+				String className = readString(buffer);
+				Entry[] classEntries = new Entry[buffer.getInt()];
+
+				for (int j = 0; j < classEntries.length; ++j) {
+					byte kind = buffer.get();
+					int binderPosition = buffer.getInt();
+					String memberName = readString(buffer);
+					String[] parameterTypeNames = new String[buffer.getInt()];
+
+					for (int k = 0; k < parameterTypeNames.length; ++k) {
+						parameterTypeNames[k] = readString(buffer);
+					}
+
+					classEntries[j] = new Entry(kind, binderPosition, memberName, parameterTypeNames);
+				}
+
+				entries.put(className, classEntries);
+			}
+		}
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid string length: " + length);
+		}
+
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	// endregion
+
+	// region Writing
+
+	/**
+	 * Write all loaded and recorded entries to the cache file.
+	 * The file is replaced atomically, so concurrent readers never see a partial file.
+	 *
+	 * @throws IOException when the file can't be written
+	 */
+	public void save() throws IOException {
+		Map<String, Entry[]> entries = new HashMap<>(loadedEntries);
+		entries.putAll(recordedEntries);
+
+		File temporaryFile = new File(file.getPath() + ".tmp");
+
+		try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+			outputStream.writeInt(MAGIC);
+			outputStream.writeInt(VERSION);
+			writeString(outputStream, fingerprint);
+			outputStream.writeInt(entries.size());
+
+			for (Map.Entry<String, Entry[]> classEntries : entries.entrySet()) {
+				writeString(outputStream, classEntries.getKey());
+				outputStream.writeInt(classEntries.getValue().length);
+
+				for (Entry entry : classEntries.getValue()) {
+					outputStream.writeByte(entry.kind);
+					outputStream.writeInt(entry.binderPosition);
+					writeString(outputStream, entry.memberName);
+					outputStream.writeInt(entry.parameterTypeNames.length);
+
+					for (String parameterTypeName : entry.parameterTypeNames) {
+						writeString(outputStream, parameterTypeName);
+					}
+				}
+			}
+		}
+
+		if (!temporaryFile.renameTo(file)) {
+			throw new IOException("Failed to replace " + file.getPath());
+		}
+	}
+
+	private static void writeString(DataOutputStream outputStream, String value) throws IOException {
+		byte[] bytes = value.getBytes(UTF_8);
+		outputStream.writeInt(bytes.length);
+		outputStream.write(bytes);
+	}
+
+	// endregion
+
+	/**
+	 * @return the cached entries of a class or null when the class is not cached
+	 */
+	@Nullable
+	Entry[] get(Class<?> type) {
+		return loadedEntries.get(type.getName());
+	}
+
+	/**
+	 * Remember the entries of a scanned class, so they are written by {@link #save()}.
+	 */
+	void record(Class<?> type, Entry[] entries) {
+		recordedEntries.put(type.getName(), entries);
+	}
+
+	/**
+	 * @return the class for a name from {@link Entry#parameterTypeNames}
+	 */
+	static Class<?> getParameterType(String name, @Nullable ClassLoader classLoader) throws ClassNotFoundException {
+		Class<?> primitiveType = PRIMITIVE_TYPES.get(name);
+		return primitiveType != null ? primitiveType : Class.forName(name, false, classLoader);
+	}
+}
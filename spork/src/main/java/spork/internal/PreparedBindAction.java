@@ -0,0 +1,85 @@
+package spork.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+
+import spork.exceptions.BindFailed;
+import spork.extension.BindContext;
+import spork.extension.Binding;
+import spork.extension.ThreadSafeBinder;
+import spork.extension.UnbindableBinding;
+import spork.extension.VolatileBinder;
+
+/**
+ * The {@link BindAction} for a single annotated field, method or type.
+ *
+ * The binding is either prepared by a preparable binder or it calls a binder that can't prepare its bindings.
+ * The properties of the binder and the binding are resolved once, when the action is created.
+ */
+final class PreparedBindAction implements BindAction {
+	private final Binding binding;
+	private final Object binder;
+	private final AnnotatedElement member;
+	private final Class<? extends Annotation> annotationClass;
+	private final boolean threadSafe;
+	private final boolean isVolatile;
+	private final boolean unbindable;
+
+	/**
+	 * @param binding the binding that binds the member
+	 * @param binder the FieldBinder, MethodBinder or TypeBinder that created the binding
+	 * @param member the annotated Field, Method or Class
+	 * @param annotationClass the annotation that the binder binds
+	 */
+	PreparedBindAction(Binding binding, Object binder, AnnotatedElement member, Class<? extends Annotation> annotationClass) {
+		this.binding = binding;
+		this.binder = binder;
+		this.member = member;
+		this.annotationClass = annotationClass;
+		this.threadSafe = binder instanceof ThreadSafeBinder;
+		this.isVolatile = binder instanceof VolatileBinder;
+		this.unbindable = binding instanceof UnbindableBinding;
+	}
+
+	@Override
+	public void bind(Object object, BindContext bindContext) throws BindFailed {
+		binding.bind(object, bindContext);
+	}
+
+	@Override
+	public void unbind(Object object, BindContext bindContext) throws BindFailed {
+		if (unbindable) {
+			((UnbindableBinding) binding).unbind(object, bindContext);
+		}
+	}
+
+	@Override
+	public boolean isUnbindable() {
+		return unbindable;
+	}
+
+	@Override
+	public boolean isThreadSafe() {
+		return threadSafe;
+	}
+
+	@Override
+	public boolean isVolatile() {
+		return isVolatile;
+	}
+
+	@Override
+	public Object getBinder() {
+		return binder;
+	}
+
+	@Override
+	public AnnotatedElement getMember() {
+		return member;
+	}
+
+	@Override
+	public Class<? extends Annotation> getAnnotationClass() {
+		return annotationClass;
+	}
+}
@@ -1,5 +1,11 @@
 package spork.internal;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+
 import spork.SporkInstance;
 import spork.SporkExtension;
 import spork.exceptions.ExtensionLoadingFailed;
@@ -12,6 +18,45 @@ public final class SporkExtensionLoader {
 	private SporkExtensionLoader() {
 	}
 
+	/**
+	 * Initialize all SporkExtension classes that are listed in META-INF/services/spork.SporkExtension
+	 * and the known extensions that were not listed (when they are available).
+	 *
+	 * The extensions are initialized in a fixed order, because the order in which they register their binders
+	 * decides the order of the bindings: first the known extensions in the given order and then the other
+	 * listed extensions sorted by class name. The order of the service files on the classpath doesn't matter.
+	 *
+	 * @param classLoader the ClassLoader that finds the service files
+	 * @param knownClassNames the SporkExtension class names to initialize first, which are also loaded when their service file is missing
+	 */
+	public static void loadAll(SporkInstance spork, ClassLoader classLoader, String... knownClassNames) {
+		Map<String, SporkExtension> listedExtensions = new TreeMap<>();
+		Iterator<SporkExtension> iterator = ServiceLoader.load(SporkExtension.class, classLoader).iterator();
+
+		try {
+			while (iterator.hasNext()) {
+				SporkExtension extension = iterator.next();
+				listedExtensions.put(extension.getClass().getName(), extension);
+			}
+		} catch (ServiceConfigurationError caught) {
+			throw new ExtensionLoadingFailed("Failed to load the extensions of META-INF/services/" + SporkExtension.class.getName(), caught);
+		}
+
+		for (String className : knownClassNames) {
+			SporkExtension extension = listedExtensions.remove(className);
+
+			if (extension != null) {
+				extension.initialize(spork);
+			} else {
+				load(spork, className);
+			}
+		}
+
+		for (SporkExtension extension : listedExtensions.values()) {
+			extension.initialize(spork);
+		}
+	}
+
 	/**
 	 * Initialize a SporkExtension when it is available.
 	 *
@@ -0,0 +1,419 @@
+package spork.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ClassCache} that doesn't keep classes (and their ClassLoader) alive and that can be bounded in size.
+ *
+ * Cached values (e.g. bind plans) reference the Field and Method instances of their class,
+ * so where a value is stored depends on whether its class can be unloaded:
+ * <ul>
+ * <li>Classes of the ClassLoader of this cache (or of one of its parents) live as long as the cache,
+ * so their values are held strongly.</li>
+ * <li>Values of all other classes (e.g. plugins) are attached to their class with a {@link ClassValue},
+ * so a value lives exactly as long as its class. Where ClassValue is not available (Android before API 34),
+ * these values are softly referenced instead.</li>
+ * </ul>
+ * The classes themselves are weakly referenced. When a maximum size is set, the least recently used class
+ * is evicted when the cache is full.
+ *
+ * Lookups are lock-free. Changes are guarded by a lock. Lookups only update the recency of a class
+ * when that lock is free, so the eviction order is approximate under contention.
+ *
+ * @param <V> the value type
+ */
+final class WeakClassCache<V> implements ClassCache<V> {
+	/**
+	 * The ClassLoaders of which the classes can't be unloaded while this class is loaded.
+	 */
+	private static final Set<ClassLoader> PERMANENT_CLASS_LOADERS = getPermanentClassLoaders();
+	private static final boolean CLASS_VALUE_AVAILABLE = isClassValueAvailable();
+
+	private final int maximumSize;
+	@Nullable private final EvictionListener evictionListener;
+	private final ReferenceQueue<Class<?>> referenceQueue = new ReferenceQueue<>();
+	private final ConcurrentMap<Class<?>, V> permanentValues = new ConcurrentHashMap<>();
+	private final ValueStore<V> unloadableValues;
+	/**
+	 * All cached classes, in least recently used order when the cache is bounded. Guarded by the lock.
+	 */
+	private final LinkedHashMap<IdentityKey, Boolean> classKeys;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * @param maximumSize the maximum amount of classes or 0 for no maximum
+	 * @param evictionListener the listener for evicted and released values
+	 */
+	WeakClassCache(int maximumSize, @Nullable EvictionListener evictionListener) {
+		this.maximumSize = maximumSize;
+		this.evictionListener = evictionListener;
+		this.unloadableValues = CLASS_VALUE_AVAILABLE ? new ClassValueStore<V>() : new SoftValueStore<V>();
+		this.classKeys = new LinkedHashMap<>(16, 0.75f, maximumSize > 0);
+	}
+
+	public interface EvictionListener {
+		/**
+		 * @param type the class of which the value was removed or null when the class was garbage collected
+		 */
+		void onEvicted(@Nullable Class<?> type);
+	}
+
+	@Nullable
+	@Override
+	public V get(Class<?> type) {
+		V value = permanentValues.get(type);
+
+		if (value == null) {
+			value = unloadableValues.get(type);
+		}
+
+		if (value != null && maximumSize > 0 && lock.tryLock()) {
+			try {
+				// Accessing the key moves it to the end of the access order
+				classKeys.get(new LookupKey(type));
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		return value;
+	}
+
+	@Nullable
+	@Override
+	public V putIfAbsent(Class<?> type, V value) {
+		lock.lock();
+
+		try {
+			purge();
+
+			V existingValue = get(type);
+
+			if (existingValue != null) {
+				return existingValue;
+			}
+
+			LookupKey lookupKey = new LookupKey(type);
+
+			if (classKeys.remove(lookupKey) != null) {
+				// The soft value was released because of memory pressure
+				unloadableValues.remove(lookupKey, type);
+				notifyEviction(type);
+			}
+
+			ClassKey classKey = new ClassKey(type, referenceQueue);
+			classKeys.put(classKey, Boolean.TRUE);
+
+			if (isPermanent(type)) {
+				permanentValues.put(type, value);
+			} else {
+				unloadableValues.put(classKey, type, value);
+			}
+
+			if (maximumSize > 0 && classKeys.size() > maximumSize) {
+				evictLeastRecentlyUsed();
+			}
+
+			return null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void remove(Class<?> type) {
+		lock.lock();
+
+		try {
+			LookupKey lookupKey = new LookupKey(type);
+			classKeys.remove(lookupKey);
+			removeValue(lookupKey, type);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public List<Class<?>> getTypes() {
+		lock.lock();
+
+		try {
+			purge();
+
+			List<Class<?>> types = new ArrayList<>(classKeys.size());
+
+			for (IdentityKey classKey : classKeys.keySet()) {
+				Class<?> type = classKey.getType();
+
+				if (type != null) {
+					types.add(type);
+				}
+			}
+
+			return types;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.lock();
+
+		try {
+			purge();
+			removeReleasedValues();
+			return classKeys.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the entries of garbage collected classes.
+	 */
+	private void purge() {
+		Reference<?> reference;
+
+		while ((reference = referenceQueue.poll()) != null) {
+			ClassKey classKey = (ClassKey) reference;
+
+			if (classKeys.remove(classKey) != null) {
+				unloadableValues.remove(classKey, null);
+				notifyEviction(null);
+			}
+		}
+	}
+
+	/**
+	 * Remove the entries of which the soft value was released because of memory pressure.
+	 */
+	private void removeReleasedValues() {
+		Iterator<IdentityKey> iterator = classKeys.keySet().iterator();
+
+		while (iterator.hasNext()) {
+			IdentityKey classKey = iterator.next();
+			Class<?> type = classKey.getType();
+
+			if (type != null && permanentValues.get(type) == null && unloadableValues.get(type) == null) {
+				iterator.remove();
+				unloadableValues.remove(classKey, type);
+				notifyEviction(type);
+			}
+		}
+	}
+
+	private void evictLeastRecentlyUsed() {
+		Iterator<IdentityKey> iterator = classKeys.keySet().iterator();
+		IdentityKey eldest = iterator.next();
+		Class<?> type = eldest.getType();
+		iterator.remove();
+		removeValue(eldest, type);
+		notifyEviction(type);
+	}
+
+	private void removeValue(IdentityKey classKey, @Nullable Class<?> type) {
+		if (type != null) {
+			permanentValues.remove(type);
+		}
+
+		unloadableValues.remove(classKey, type);
+	}
+
+	private void notifyEviction(@Nullable Class<?> type) {
+		if (evictionListener != null) {
+			evictionListener.onEvicted(type);
+		}
+	}
+
+	private static boolean isPermanent(Class<?> type) {
+		ClassLoader classLoader = type.getClassLoader();
+		return classLoader == null || PERMANENT_CLASS_LOADERS.contains(classLoader);
+	}
+
+	private static Set<ClassLoader> getPermanentClassLoaders() {
+		Set<ClassLoader> classLoaders = Collections.newSetFromMap(new IdentityHashMap<ClassLoader, Boolean>());
+
+		try {
+			for (ClassLoader classLoader = WeakClassCache.class.getClassLoader(); classLoader != null; classLoader = classLoader.getParent()) {
+				classLoaders.add(classLoader);
+			}
+		} catch (SecurityException ignored) {
+			// The parents that could not be accessed are treated like any other ClassLoader
+		}
+
+		return classLoaders;
+	}
+
+	@SuppressWarnings("PMD.EmptyCatchBlock")
+	private static boolean isClassValueAvailable() {
+		try {
+			Class.forName("java.lang.ClassValue");
+			return true;
+		} catch (ClassNotFoundException caught) {
+			return false;
+		}
+	}
+
+	// region Value stores
+
+	/**
+	 * Stores the values of classes that can be unloaded. Thread-safe.
+	 */
+	private interface ValueStore<V> {
+		@Nullable
+		V get(Class<?> type);
+
+		void put(ClassKey classKey, Class<?> type, V value);
+
+		/**
+		 * @param type the class or null when it was garbage collected
+		 */
+		void remove(IdentityKey classKey, @Nullable Class<?> type);
+	}
+
+	/**
+	 * Attaches the values to their class, which keeps a value alive exactly as long as its class.
+	 */
+	private static final class ClassValueStore<V> implements ValueStore<V> {
+		private final ClassValue<ValueHolder<V>> classValue = new ClassValue<ValueHolder<V>>() {
+			@Override
+			protected ValueHolder<V> computeValue(Class<?> type) {
+				return new ValueHolder<>();
+			}
+		};
+
+		@Nullable
+		@Override
+		public V get(Class<?> type) {
+			return classValue.get(type).value;
+		}
+
+		@Override
+		public void put(ClassKey classKey, Class<?> type, V value) {
+			classValue.get(type).value = value;
+		}
+
+		@Override
+		public void remove(IdentityKey classKey, @Nullable Class<?> type) {
+			// A collected class took its value with it
+			if (type != null) {
+				classValue.remove(type);
+			}
+		}
+	}
+
+	private static final class ValueHolder<V> {
+		@Nullable volatile V value;
+	}
+
+	/**
+	 * Softly references the values, for platforms without {@link ClassValue}.
+	 */
+	private static final class SoftValueStore<V> implements ValueStore<V> {
+		private final ConcurrentMap<IdentityKey, SoftReference<V>> map = new ConcurrentHashMap<>();
+
+		@Nullable
+		@Override
+		public V get(Class<?> type) {
+			SoftReference<V> valueReference = map.get(new LookupKey(type));
+			return valueReference != null ? valueReference.get() : null;
+		}
+
+		@Override
+		public void put(ClassKey classKey, Class<?> type, V value) {
+			map.put(classKey, new SoftReference<>(value));
+		}
+
+		@Override
+		public void remove(IdentityKey classKey, @Nullable Class<?> type) {
+			map.remove(classKey);
+		}
+	}
+
+	// endregion
+
+	// region Class keys
+
+	/**
+	 * A key that compares classes by identity.
+	 */
+	private interface IdentityKey {
+		@Nullable
+		Class<?> getType();
+	}
+
+	private static final class ClassKey extends WeakReference<Class<?>> implements IdentityKey {
+		private final int hashCode;
+
+		ClassKey(Class<?> type, ReferenceQueue<Class<?>> referenceQueue) {
+			super(type, referenceQueue);
+			this.hashCode = System.identityHashCode(type);
+		}
+
+		@Nullable
+		@Override
+		public Class<?> getType() {
+			return get();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			// A cleared key only equals itself, so it can be removed after its class was collected
+			if (this == other) {
+				return true;
+			}
+
+			Class<?> type = get();
+			return type != null && other instanceof IdentityKey && ((IdentityKey) other).getType() == type;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * A key for lookups, so that looking up a class doesn't allocate a WeakReference.
+	 */
+	private static final class LookupKey implements IdentityKey {
+		private final Class<?> type;
+
+		LookupKey(Class<?> type) {
+			this.type = type;
+		}
+
+		@Override
+		public Class<?> getType() {
+			return type;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof IdentityKey && ((IdentityKey) other).getType() == type;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(type);
+		}
+	}
+
+	// endregion
+}
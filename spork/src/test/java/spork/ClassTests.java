@@ -2,6 +2,9 @@ package spork;
 
 import org.junit.Test;
 
+import spork.extension.Accessors;
+import spork.extension.Tracing;
+import spork.internal.GeneratedBinders;
 import spork.internal.SporkExtensionLoader;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -16,6 +19,9 @@ public class ClassTests {
 	@Test
 	public void test() throws Exception {
 		assertThat(Spork.class, is(utilityClass()));
+		assertThat(Accessors.class, is(utilityClass()));
+		assertThat(Tracing.class, is(utilityClass()));
+		assertThat(GeneratedBinders.class, is(utilityClass()));
 		assertThat(SporkExtensionLoader.class, is(utilityClass()));
 	}
 }
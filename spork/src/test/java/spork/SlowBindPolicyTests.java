@@ -0,0 +1,137 @@
+package spork;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import spork.extension.Tracing;
+import spork.stubs.BindFieldTarget;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SlowBindPolicyTests {
+	private final List<SlowBindPolicy.Violation> violations = new ArrayList<>();
+	private SlowBindPolicy.Callback callback;
+
+	@Before
+	public void setup() {
+		callback = new SlowBindPolicy.Callback() {
+			@Override
+			public void onViolation(SlowBindPolicy.Violation violation) {
+				violations.add(violation);
+			}
+		};
+	}
+
+	@Test
+	public void slowBind() throws NoSuchFieldException {
+		SlowBindPolicy policy = new SlowBindPolicy.Builder(callback)
+				.bindThreshold(10, TimeUnit.NANOSECONDS)
+				.build();
+		BindFieldTarget target = new BindFieldTarget();
+		Field field = BindFieldTarget.class.getDeclaredField("field");
+		Object provider = new Object();
+
+		policy.onBindStarted(target);
+		policy.onBindingFinished(target, new Object(), field, 8L);
+		policy.record(Tracing.CATEGORY_PROVIDES, provider, 0L, 5L);
+		policy.record(Tracing.CATEGORY_INSTANCE, new Object(), 0L, 7L);
+		policy.onBindFinished(target, 11L);
+
+		assertThat(violations.size(), is(1));
+		SlowBindPolicy.Violation violation = violations.get(0);
+		assertThat(violation.getKind(), is(SlowBindPolicy.Kind.BIND));
+		assertThat(violation.getType(), is(sameInstance((Object) BindFieldTarget.class)));
+		assertThat(violation.getDurationNanos(), is(11L));
+		assertThat(violation.getThresholdNanos(), is(10L));
+		assertThat(violation.isUiThread(), is(false));
+		assertThat(violation.getSlowestMember(), is(sameInstance((Object) field)));
+		assertThat(violation.getSlowestMemberNanos(), is(8L));
+		assertThat(violation.getSlowestProvider(), is(sameInstance(provider)));
+		assertThat(violation.getSlowestProviderNanos(), is(5L));
+	}
+
+	@Test
+	public void fastBind() {
+		SlowBindPolicy policy = new SlowBindPolicy.Builder(callback)
+				.bindThreshold(10, TimeUnit.NANOSECONDS)
+				.build();
+		Object target = new Object();
+
+		policy.onBindStarted(target);
+		policy.onBindFinished(target, 10L);
+
+		assertThat(violations.isEmpty(), is(true));
+	}
+
+	@Test
+	public void nestedBindsAreReportedSeparately() throws NoSuchFieldException {
+		SlowBindPolicy policy = new SlowBindPolicy.Builder(callback)
+				.bindThreshold(10, TimeUnit.NANOSECONDS)
+				.build();
+		Field field = BindFieldTarget.class.getDeclaredField("field");
+		Object outer = new Object();
+		Object inner = new Object();
+
+		policy.onBindStarted(outer);
+		policy.onBindStarted(inner);
+		policy.onBindingFinished(inner, new Object(), field, 20L);
+		policy.onBindFinished(inner, 20L);
+		policy.onBindFinished(outer, 30L);
+
+		assertThat(violations.size(), is(2));
+		assertThat(violations.get(0).getSlowestMember(), is(sameInstance((Object) field)));
+		assertThat(violations.get(1).getSlowestMember(), is(nullValue()));
+	}
+
+	@Test
+	public void uiThreadThreshold() {
+		SlowBindPolicy policy = new SlowBindPolicy.Builder(callback)
+				.bindThreshold(100, TimeUnit.NANOSECONDS)
+				.uiThread(Thread.currentThread())
+				.uiThreadBindThreshold(10, TimeUnit.NANOSECONDS)
+				.build();
+		Object target = new Object();
+
+		policy.onBindStarted(target);
+		policy.onBindFinished(target, 50L);
+
+		assertThat(violations.size(), is(1));
+		assertThat(violations.get(0).isUiThread(), is(true));
+		assertThat(violations.get(0).getThresholdNanos(), is(10L));
+	}
+
+	@Test
+	public void slowPlan() {
+		SlowBindPolicy policy = new SlowBindPolicy.Builder(callback)
+				.planThreshold(10, TimeUnit.NANOSECONDS)
+				.build();
+
+		policy.onPlanCreated(BindFieldTarget.class, 1, 5L);
+		policy.onPlanCreated(BindFieldTarget.class, 1, 15L);
+
+		assertThat(violations.size(), is(1));
+		assertThat(violations.get(0).getKind(), is(SlowBindPolicy.Kind.PLAN));
+		assertThat(violations.get(0).getDurationNanos(), is(15L));
+	}
+
+	@Test
+	public void failedBindIsNotReported() {
+		SlowBindPolicy policy = new SlowBindPolicy.Builder(callback)
+				.bindThreshold(10, TimeUnit.NANOSECONDS)
+				.build();
+		Object target = new Object();
+
+		policy.onBindStarted(target);
+		policy.onBindFailed(target, new IllegalStateException("test"), 50L);
+
+		assertThat(violations.isEmpty(), is(true));
+	}
+}
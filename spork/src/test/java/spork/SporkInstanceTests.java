@@ -4,16 +4,47 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import spork.exceptions.BindFailed;
+import spork.exceptions.SporkRuntimeException;
+import spork.extension.AbstractPreparableFieldBinder;
+import spork.extension.BindContext;
+import spork.extension.BindContexts;
 import spork.extension.FieldBinder;
 import spork.extension.MethodBinder;
+import spork.extension.BindListener;
+import spork.extension.Binding;
 import spork.extension.TypeBinder;
 import spork.internal.Binder;
 import spork.internal.Catalog;
+import spork.stubs.BindFieldTarget;
+import spork.stubs.BindMethodTarget;
+import spork.stubs.BindTypeTarget;
+import spork.stubs.TestAnnotation;
+import spork.stubs.TestFieldBinder;
+import spork.stubs.TestTypeBinder;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class SporkInstanceTests {
 	@Rule
@@ -53,36 +84,68 @@ public class SporkInstanceTests {
 	}
 
 	@Test
-	public void registerFieldBinderAfterBind() {
-		expectedException.expect(IllegalStateException.class);
-		expectedException.expectMessage("Binders must be registered before the first bind() is called");
+	@SuppressWarnings("unchecked")
+	public void registerFieldBinderAfterBind() throws BindFailed {
+		SporkInstance spork = new SporkInstance();
+		BindFieldTarget target = new BindFieldTarget();
+		spork.bind(target);
+
+		FieldBinder<TestAnnotation> fieldBinder = mock(FieldBinder.class);
+		when(fieldBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+		spork.register(fieldBinder);
+		spork.bind(target);
+
+		verify(fieldBinder).bind(same(target), any(TestAnnotation.class), any(Field.class));
+	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void registerMethodBinderAfterBind() throws BindFailed {
 		SporkInstance spork = new SporkInstance();
+		BindMethodTarget target = new BindMethodTarget();
+		spork.bind(target);
 
-		spork.bind(this);
-		spork.register(mock(FieldBinder.class));
+		MethodBinder<TestAnnotation> methodBinder = mock(MethodBinder.class);
+		when(methodBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+		spork.register(methodBinder);
+		spork.bind(target);
+
+		verify(methodBinder).bind(same(target), any(TestAnnotation.class), any(Method.class));
 	}
 
 	@Test
-	public void registerMethodBinderAfterBind() {
-		expectedException.expect(IllegalStateException.class);
-		expectedException.expectMessage("Binders must be registered before the first bind() is called");
+	@SuppressWarnings("unchecked")
+	public void registerTypeBinderAfterBind() throws BindFailed {
+		SporkInstance spork = new SporkInstance();
+		BindTypeTarget target = new BindTypeTarget();
+		spork.bind(target);
 
+		TypeBinder<TestAnnotation> typeBinder = mock(TypeBinder.class);
+		when(typeBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+		spork.register(typeBinder);
+		spork.bind(target);
+
+		verify(typeBinder).bind(same(target), any(TestAnnotation.class), eq(BindTypeTarget.class));
+	}
+
+	@Test
+	public void setHierarchyBoundary() {
 		SporkInstance spork = new SporkInstance();
 
-		spork.bind(this);
-		spork.register(mock(MethodBinder.class));
+		spork.setHierarchyBoundary("android.", "com.example.");
+
+		assertThat(spork.getHierarchyBoundary(), is(Arrays.asList("android.", "com.example.")));
 	}
 
 	@Test
-	public void registerTypeBinderAfterBind() {
+	public void setHierarchyBoundaryAfterBind() {
 		expectedException.expect(IllegalStateException.class);
-		expectedException.expectMessage("Binders must be registered before the first bind() is called");
+		expectedException.expectMessage("The hierarchy boundary must be set before the first bind() is called");
 
 		SporkInstance spork = new SporkInstance();
 
 		spork.bind(this);
-		spork.register(mock(TypeBinder.class));
+		spork.setHierarchyBoundary("android.");
 	}
 
 	@Test
@@ -96,4 +159,257 @@ public class SporkInstanceTests {
 
 		verify(binder).bind(target);
 	}
+
+	@Test
+	public void bindWithContext() throws BindFailed {
+		Binder binder = mock(Binder.class);
+		SporkInstance spork = new SporkInstance(binder, mock(Catalog.class));
+		Object target = new Object();
+		BindContext bindContext = BindContexts.create("parameter");
+
+		spork.bind(target, bindContext);
+
+		verify(binder).bind(same(target), same(bindContext));
+	}
+
+	@Test
+	public void contextAttributesBelongToOneObject() {
+		final BindContext.Key<Object> boundObjectKey = new BindContext.Key<>("boundObject");
+		SporkInstance spork = new SporkInstance();
+		spork.register(new AbstractPreparableFieldBinder<TestAnnotation>() {
+			@Override
+			public Binding prepare(TestAnnotation annotation, Field field) {
+				return new Binding() {
+					@Override
+					public void bind(Object object, BindContext bindContext) {
+						// Bind the object that the attribute was resolved for
+						Object boundObject = bindContext.getAttribute(boundObjectKey);
+
+						if (boundObject == null) {
+							boundObject = object;
+							bindContext.setAttribute(boundObjectKey, boundObject);
+						}
+
+						((BindFieldTarget) object).field = boundObject;
+					}
+				};
+			}
+
+			@Override
+			public Class<TestAnnotation> getAnnotationClass() {
+				return TestAnnotation.class;
+			}
+		});
+		BindContext bindContext = BindContexts.create();
+		BindFieldTarget firstTarget = new BindFieldTarget();
+		BindFieldTarget secondTarget = new BindFieldTarget();
+
+		spork.bind(firstTarget, bindContext);
+		spork.bind(secondTarget, bindContext);
+
+		assertThat(firstTarget.field, is((Object) firstTarget));
+		assertThat(secondTarget.field, is((Object) secondTarget));
+		assertThat(bindContext.getAttribute(boundObjectKey), is(nullValue()));
+	}
+
+	@Test
+	public void prewarm() throws BindFailed {
+		Binder binder = mock(Binder.class);
+		SporkInstance spork = new SporkInstance(binder, mock(Catalog.class));
+
+		spork.prewarm(String.class, Integer.class);
+
+		verify(binder).prepare(String.class);
+		verify(binder).prepare(Integer.class);
+	}
+
+	@Test
+	public void prewarmWithExecutor() throws BindFailed, InterruptedException {
+		Binder binder = mock(Binder.class);
+		SporkInstance spork = new SporkInstance(binder, mock(Catalog.class));
+
+		Prewarming prewarming = spork.prewarm(Collections.<Class<?>>singletonList(String.class), new DirectExecutor());
+		prewarming.await();
+
+		assertThat(prewarming.isDone(), is(true));
+		verify(binder).prepare(String.class);
+	}
+
+	@Test
+	public void prewarmWithExecutorFailure() throws BindFailed, InterruptedException {
+		expectedException.expect(SporkRuntimeException.class);
+		expectedException.expectMessage("Failed to prewarm classes");
+
+		Binder binder = mock(Binder.class);
+		doThrow(new BindFailed("test")).when(binder).prepare(String.class);
+		SporkInstance spork = new SporkInstance(binder, mock(Catalog.class));
+
+		Prewarming prewarming = spork.prewarm(Collections.<Class<?>>singletonList(String.class), new DirectExecutor());
+		prewarming.await();
+	}
+
+	@Test
+	public void prewarmWithExecutorError() throws BindFailed, InterruptedException {
+		Binder binder = mock(Binder.class);
+		doThrow(new NoClassDefFoundError("test")).when(binder).prepare(String.class);
+		SporkInstance spork = new SporkInstance(binder, mock(Catalog.class));
+
+		Prewarming prewarming = spork.prewarm(Arrays.<Class<?>>asList(String.class, Integer.class), new DirectExecutor());
+
+		assertThat(prewarming.isDone(), is(true));
+		verify(binder).prepare(Integer.class);
+
+		try {
+			prewarming.await(1, TimeUnit.SECONDS);
+			fail("expected the error to be reported");
+		} catch (SporkRuntimeException caught) {
+			assertThat(caught.getCause(), is(instanceOf(NoClassDefFoundError.class)));
+		}
+	}
+
+	@Test
+	public void prewarmWithRejectingExecutor() throws BindFailed, InterruptedException {
+		Binder binder = mock(Binder.class);
+		SporkInstance spork = new SporkInstance(binder, mock(Catalog.class));
+		Executor rejectingExecutor = new Executor() {
+			@Override
+			public void execute(Runnable runnable) {
+				throw new RejectedExecutionException("test");
+			}
+		};
+
+		Prewarming prewarming = spork.prewarm(Arrays.<Class<?>>asList(String.class, Integer.class), rejectingExecutor);
+
+		assertThat(prewarming.await(1, TimeUnit.SECONDS), is(true));
+		verify(binder).prepare(String.class);
+		verify(binder).prepare(Integer.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void registerFieldBinderAfterFreeze() throws BindFailed {
+		SporkInstance spork = new SporkInstance();
+		spork.freeze();
+
+		FieldBinder<TestAnnotation> fieldBinder = mock(FieldBinder.class);
+		when(fieldBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+		spork.register(fieldBinder);
+		BindFieldTarget target = new BindFieldTarget();
+		spork.bind(target);
+
+		verify(fieldBinder).bind(same(target), any(TestAnnotation.class), any(Field.class));
+	}
+
+	@Test
+	public void freeze() {
+		SporkInstance spork = new SporkInstance();
+		spork.register(new TestFieldBinder());
+
+		assertThat(spork.isFrozen(), is(false));
+		spork.freeze();
+		spork.freeze();
+		assertThat(spork.isFrozen(), is(true));
+
+		spork.bind(new BindFieldTarget());
+	}
+
+	@Test
+	public void useBindingIndex() {
+		SporkInstance spork = new SporkInstance();
+
+		assertThat(spork.useBindingIndex(), is(true));
+	}
+
+	@Test
+	public void useBindingIndexAfterBind() {
+		expectedException.expect(IllegalStateException.class);
+		expectedException.expectMessage("The binding index must be loaded before the first bind() is called");
+
+		SporkInstance spork = new SporkInstance();
+
+		spork.bind(this);
+		spork.useBindingIndex();
+	}
+
+	@Test
+	public void prewarmIndexedClasses() throws BindFailed {
+		Binder binder = mock(Binder.class);
+		SporkInstance spork = new SporkInstance(binder, mock(Catalog.class));
+
+		spork.prewarmIndexedClasses();
+
+		verify(binder).prepare(BindFieldTarget.class);
+		verify(binder).prepare(BindTypeTarget.class);
+	}
+
+	@Test
+	public void statistics() {
+		SporkInstance spork = new SporkInstance();
+		spork.register(new TestFieldBinder());
+		BindStatistics statistics = spork.enableStatistics();
+
+		spork.bind(new BindFieldTarget());
+		spork.bind(new BindFieldTarget());
+
+		assertThat(spork.getStatistics(), is(sameInstance(statistics)));
+		assertThat(statistics.getClassTimings().get(BindFieldTarget.class).getCount(), is(2L));
+		assertThat(statistics.getBinderTimings().get(TestFieldBinder.class).getCount(), is(2L));
+		assertThat(statistics.getPlanCacheHits(), is(1L));
+		assertThat(statistics.getPlanCacheMisses(), is(1L));
+		assertThat(statistics.getMemberScanCount(), is(1L));
+	}
+
+	@Test
+	public void weakCacheEvictionStatistics() {
+		SporkInstance spork = new SporkInstance();
+		spork.register(new TestFieldBinder());
+		spork.register(new TestTypeBinder());
+		spork.useWeakCache(1);
+		BindStatistics statistics = spork.enableStatistics();
+
+		spork.bind(new BindFieldTarget());
+		spork.bind(new BindTypeTarget());
+		spork.bind(new BindFieldTarget());
+
+		assertThat(statistics.getPlanEvictionCount(), is(2L));
+		assertThat(statistics.getPlanCacheMisses(), is(3L));
+	}
+
+	@Test
+	public void statisticsAreDisabledByDefault() {
+		SporkInstance spork = new SporkInstance();
+
+		spork.bind(new BindFieldTarget());
+
+		assertThat(spork.getStatistics(), is(nullValue()));
+	}
+
+	@Test
+	public void addBindListenerAfterBind() {
+		expectedException.expect(IllegalStateException.class);
+		expectedException.expectMessage("Bind listeners must be added before the first bind() is called");
+
+		SporkInstance spork = new SporkInstance();
+
+		spork.bind(this);
+		spork.addBindListener(mock(BindListener.class));
+	}
+
+	@Test
+	public void trackBoundObjectsAfterBind() {
+		expectedException.expect(IllegalStateException.class);
+		expectedException.expectMessage("Bound objects must be tracked before the first bind() is called");
+
+		SporkInstance spork = new SporkInstance();
+
+		spork.bind(this);
+		spork.trackBoundObjects();
+	}
+
+	private static class DirectExecutor implements Executor {
+		@Override
+		public void execute(Runnable runnable) {
+			runnable.run();
+		}
+	}
 }
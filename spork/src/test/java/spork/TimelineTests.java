@@ -0,0 +1,124 @@
+package spork;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import spork.extension.Tracing;
+import spork.stubs.BindFieldTarget;
+import spork.stubs.TestFieldBinder;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TimelineTests {
+
+	@Test
+	public void dump() throws IOException {
+		Timeline timeline = new Timeline(4);
+		timeline.record("provides", "Module.\"provide\"", 1000L, 2500L);
+
+		String json = dumpToString(timeline);
+
+		assertThat(json, containsString("{\"traceEvents\":["));
+		assertThat(json, containsString("{\"name\":\"Module.\\\"provide\\\"\",\"cat\":\"provides\",\"ph\":\"X\",\"ts\":1.000,\"dur\":2.500,\"pid\":1,\"tid\":" + Thread.currentThread().getId() + "}"));
+	}
+
+	@Test
+	public void oldestEventsAreOverwritten() throws IOException {
+		Timeline timeline = new Timeline(2);
+		timeline.record("test", "first", 0L, 1L);
+		timeline.record("test", "second", 0L, 1L);
+		timeline.record("test", "third", 0L, 1L);
+
+		String json = dumpToString(timeline);
+
+		assertThat(timeline.size(), is(2));
+		assertThat(json, not(containsString("first")));
+		assertThat(json, containsString("second"));
+		assertThat(json, containsString("third"));
+	}
+
+	@Test
+	public void subjectIsNamedWhenDumped() throws IOException {
+		Timeline timeline = new Timeline(4);
+		StringBuilder subject = new StringBuilder("recorded");
+		timeline.record("test", subject, 0L, 1L);
+		subject.setLength(0);
+		subject.append("dumped");
+
+		String json = dumpToString(timeline);
+
+		assertThat(json, containsString("\"name\":\"dumped\""));
+		assertThat(json, not(containsString("recorded")));
+	}
+
+	@Test
+	public void concurrentRecordsAreNotMixed() throws Exception {
+		final Timeline timeline = new Timeline(8);
+		final int eventsPerThread = 1000;
+		List<Thread> threads = new ArrayList<>();
+
+		for (int i = 0; i < 4; ++i) {
+			final String name = "thread" + i;
+			Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int event = 0; event < eventsPerThread; ++event) {
+						// The category and subject of an event always match
+						timeline.record(name, name, 0L, 1L);
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		String json = dumpToString(timeline);
+
+		for (int i = 0; i < 4; ++i) {
+			for (int other = 0; other < 4; ++other) {
+				if (i != other) {
+					assertThat(json, not(containsString("\"name\":\"thread" + i + "\",\"cat\":\"thread" + other + "\"")));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void recordsBindsAndPlans() throws IOException {
+		SporkInstance spork = new SporkInstance();
+		spork.register(new TestFieldBinder());
+		Timeline timeline = spork.enableTimeline(16);
+
+		spork.bind(new BindFieldTarget());
+		String json = dumpToString(timeline);
+
+		// The timeline of an instance is not added to the process-wide recorders
+		assertThat(Tracing.getTraceRecorder(), is(nullValue()));
+		assertThat(timeline.size(), is(2));
+		assertThat(json, containsString("{\"name\":\"" + BindFieldTarget.class.getName() + "\",\"cat\":\"plan\""));
+		assertThat(json, containsString("{\"name\":\"" + BindFieldTarget.class.getName() + "\",\"cat\":\"bind\""));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidCapacity() {
+		new Timeline(0);
+	}
+
+	private static String dumpToString(Timeline timeline) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		timeline.dump(outputStream);
+		return outputStream.toString("UTF-8");
+	}
+}
@@ -0,0 +1,51 @@
+package spork.extension;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AccessorsTests {
+	private static final Object STATIC_FINAL_FIELD = new Object();
+
+	private Object field;
+
+	private Object method(Object argument) {
+		return argument;
+	}
+
+	@Test
+	public void fieldAccessor() throws NoSuchFieldException, IllegalAccessException {
+		Field field = AccessorsTests.class.getDeclaredField("field");
+		FieldAccessor fieldAccessor = Accessors.forField(field);
+		Object value = new Object();
+
+		fieldAccessor.set(this, value);
+
+		assertThat(this.field, is(sameInstance(value)));
+		assertThat(fieldAccessor.get(this), is(sameInstance(value)));
+		assertThat(fieldAccessor.getField(), is(field));
+	}
+
+	@Test(expected = IllegalAccessException.class)
+	public void staticFinalFieldAccessor() throws NoSuchFieldException, IllegalAccessException {
+		Field field = AccessorsTests.class.getDeclaredField("STATIC_FINAL_FIELD");
+
+		Accessors.forField(field).set(null, new Object());
+	}
+
+	@Test
+	public void methodAccessor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+		Method method = AccessorsTests.class.getDeclaredMethod("method", Object.class);
+		MethodAccessor methodAccessor = Accessors.forMethod(method);
+		Object argument = new Object();
+
+		assertThat(methodAccessor.invoke(this, argument), is(sameInstance(argument)));
+		assertThat(methodAccessor.getMethod(), is(method));
+	}
+}
@@ -2,51 +2,66 @@ package spork.internal;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+import spork.exceptions.BindFailed;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.inOrder;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class BindActionCacheTests {
-	private Map<Class<?>, List<BindAction>> bindActionMap;
+	private ConcurrentMap<Class<?>, List<BindAction>> bindActionMap;
 	private BindActionCache cache;
-	private Lock lock;
 
 	@Before
 	public void setup() {
-		bindActionMap = new HashMap<>();
-		lock = spy(new ReentrantLock());
-		cache = new BindActionCache(bindActionMap, lock);
+		bindActionMap = new ConcurrentHashMap<>();
+		cache = new BindActionCache(bindActionMap);
+	}
+
+	@Test
+	public void factoryCreationCalled() throws BindFailed {
+		List<BindAction> bindActions = new ArrayList<>();
+		BindActionCache.Factory factory = mock(BindActionCache.Factory.class);
+		when(factory.create(String.class)).thenReturn(bindActions);
+
+		List<BindAction> resultActions = cache.getOrCreate(String.class, factory);
+
+		assertThat(resultActions, is(bindActions));
+		assertThat(bindActionMap.size(), is(1));
 	}
 
 	@Test
-	public void lockOrder() {
+	public void factoryCreationHappensOnlyOnce() throws BindFailed {
 		BindActionCache.Factory factory = mock(BindActionCache.Factory.class);
+		when(factory.create(String.class)).thenReturn(new ArrayList<BindAction>());
+
+		cache.getOrCreate(String.class, factory);
 		cache.getOrCreate(String.class, factory);
 
-		InOrder inOrder = inOrder(lock, factory);
-		inOrder.verify(lock).lock();
-		inOrder.verify(factory).create(String.class);
-		inOrder.verify(lock).unlock();
-		inOrder.verifyNoMoreInteractions();
+		verify(factory).create(String.class);
+		assertThat(bindActionMap.size(), is(1));
 	}
 
 	@Test
-	public void lockWithException() {
+	public void factoryExceptionIsNotCached() throws BindFailed {
 		BindActionCache.Factory factory = mock(BindActionCache.Factory.class);
-		when(factory.create(String.class)).thenThrow(new RuntimeException());
+		when(factory.create(String.class))
+				.thenThrow(new RuntimeException())
+				.thenReturn(new ArrayList<BindAction>());
 
 		try {
 			cache.getOrCreate(String.class, factory);
@@ -54,32 +69,60 @@ public class BindActionCacheTests {
 			// Ignore
 		}
 
-		InOrder inOrder = inOrder(lock);
-		inOrder.verify(lock).lock();
-		inOrder.verify(lock).unlock();
-		inOrder.verifyNoMoreInteractions();
-	}
-
-	@Test
-	public void factoryCreationCalled() {
-		List<BindAction> bindActions = new ArrayList<>();
-		BindActionCache.Factory factory = mock(BindActionCache.Factory.class);
-		when(factory.create(String.class)).thenReturn(bindActions);
+		assertThat(bindActionMap.size(), is(0));
 
-		List<BindAction> resultActions = cache.getOrCreate(String.class, factory);
+		cache.getOrCreate(String.class, factory);
 
-		assertThat(resultActions, is(bindActions));
+		verify(factory, times(2)).create(String.class);
 		assertThat(bindActionMap.size(), is(1));
 	}
 
 	@Test
-	public void factoryCreationHappensOnlyOnce() {
-		BindActionCache.Factory factory = mock(BindActionCache.Factory.class);
+	public void concurrentFactoryCreationHappensOnlyOnce() throws BindFailed, InterruptedException {
+		final int threadCount = 8;
+		final CountDownLatch startLatch = new CountDownLatch(1);
+		final CountDownLatch doneLatch = new CountDownLatch(threadCount);
+		final List<BindAction> bindActions = new ArrayList<>();
+		final BindActionCache.Factory factory = mock(BindActionCache.Factory.class);
+		final List<List<BindAction>> results = new ArrayList<>();
+
+		when(factory.create(any(Class.class))).thenAnswer(new Answer<List<BindAction>>() {
+			@Override
+			public List<BindAction> answer(InvocationOnMock invocation) throws Throwable {
+				// Give the other threads the chance to request the same class
+				Thread.sleep(50);
+				return bindActions;
+			}
+		});
+
+		for (int i = 0; i < threadCount; ++i) {
+			new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						startLatch.await();
+						List<BindAction> result = cache.getOrCreate(String.class, factory);
+						synchronized (results) {
+							results.add(result);
+						}
+					} catch (InterruptedException caught) {
+						Thread.currentThread().interrupt();
+					} catch (BindFailed caught) {
+						throw new IllegalStateException(caught);
+					} finally {
+						doneLatch.countDown();
+					}
+				}
+			}).start();
+		}
 
-		cache.getOrCreate(String.class, factory);
-		cache.getOrCreate(String.class, factory);
+		startLatch.countDown();
+		doneLatch.await();
 
 		verify(factory).create(String.class);
-		assertThat(bindActionMap.size(), is(1));
+		assertThat(results.size(), is(threadCount));
+		for (List<BindAction> result : results) {
+			assertThat(result, is(sameInstance(bindActions)));
+		}
 	}
 }
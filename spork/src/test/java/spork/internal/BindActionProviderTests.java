@@ -2,20 +2,43 @@ package spork.internal;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.List;
 
+import spork.BindScope;
+import spork.exceptions.BindFailed;
+import spork.extension.Binding;
+import spork.extension.FieldBinder;
+import spork.extension.PreparableFieldBinder;
+import spork.extension.UnbindableBinding;
 import spork.stubs.BindAllTarget;
+import spork.stubs.BindFieldSubclassTarget;
 import spork.stubs.BindFieldTarget;
 import spork.stubs.BindMethodTarget;
 import spork.stubs.BindTypeTarget;
+import spork.stubs.TestAnnotation;
 import spork.stubs.TestFieldBinder;
 import spork.stubs.TestMethodBinder;
 import spork.stubs.TestTypeBinder;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 public class BindActionProviderTests {
 	private Catalog catalog;
@@ -29,7 +52,7 @@ public class BindActionProviderTests {
 	}
 
 	@Test
-	public void fieldAction() {
+	public void fieldAction() throws BindFailed {
 		BindActionProvider actionProvider = new BindActionProvider(catalog);
 		List<BindAction> bindActions = actionProvider.getBindActions(BindFieldTarget.class);
 
@@ -37,7 +60,7 @@ public class BindActionProviderTests {
 	}
 
 	@Test
-	public void methodAction() {
+	public void methodAction() throws BindFailed {
 		BindActionProvider actionProvider = new BindActionProvider(catalog);
 		List<BindAction> bindActions = actionProvider.getBindActions(BindMethodTarget.class);
 
@@ -45,7 +68,7 @@ public class BindActionProviderTests {
 	}
 
 	@Test
-	public void typeAction() {
+	public void typeAction() throws BindFailed {
 		BindActionProvider actionProvider = new BindActionProvider(catalog);
 		List<BindAction> bindActions = actionProvider.getBindActions(BindTypeTarget.class);
 
@@ -53,10 +76,212 @@ public class BindActionProviderTests {
 	}
 
 	@Test
-	public void compoundActions() {
+	public void compoundActions() throws BindFailed {
 		BindActionProvider actionProvider = new BindActionProvider(catalog);
 		List<BindAction> bindActions = actionProvider.getBindActions(BindAllTarget.class);
 
 		assertThat(bindActions.size(), is(3));
 	}
+
+	@Test
+	public void planIncludesSuperclassActions() throws BindFailed {
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		BindPlan bindPlan = actionProvider.getBindPlan(BindFieldSubclassTarget.class);
+
+		assertThat(bindPlan.size(), is(2));
+	}
+
+	@Test
+	public void planIsCached() throws BindFailed {
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		BindPlan bindPlan = actionProvider.getBindPlan(BindFieldSubclassTarget.class);
+
+		assertThat(actionProvider.getBindPlan(BindFieldSubclassTarget.class), is(sameInstance(bindPlan)));
+	}
+
+	@Test
+	public void planIsSharedWithSubclassWithoutActions() throws BindFailed {
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		BindPlan superclassPlan = actionProvider.getBindPlan(BindFieldTarget.class);
+		BindPlan subclassPlan = actionProvider.getBindPlan(EmptyFieldSubclassTarget.class);
+
+		assertThat(subclassPlan, is(sameInstance(superclassPlan)));
+	}
+
+	private static class EmptyFieldSubclassTarget extends BindFieldTarget {
+	}
+
+	@Test
+	public void planStopsAtHierarchyBoundary() throws BindFailed {
+		HierarchyBoundary hierarchyBoundary = new HierarchyBoundary(Collections.singletonList(BindFieldTarget.class.getName()));
+		BindActionProvider actionProvider = new BindActionProvider(catalog, hierarchyBoundary);
+		BindPlan bindPlan = actionProvider.getBindPlan(BindFieldSubclassTarget.class);
+
+		assertThat(bindPlan.size(), is(1));
+	}
+
+	@Test
+	public void planForBoundaryClassIsEmpty() throws BindFailed {
+		HierarchyBoundary hierarchyBoundary = new HierarchyBoundary(Collections.singletonList("spork.stubs."));
+		BindActionProvider actionProvider = new BindActionProvider(catalog, hierarchyBoundary);
+		BindPlan bindPlan = actionProvider.getBindPlan(BindFieldSubclassTarget.class);
+
+		assertThat(bindPlan.size(), is(0));
+	}
+
+	@Test
+	public void planSkipsClassesOutsideBindingIndex() throws BindFailed {
+		BindingIndex bindingIndex = new BindingIndex(Collections.singleton(BindFieldTarget.class.getName()));
+		BindActionProvider actionProvider = new BindActionProvider(catalog, new HierarchyBoundary(), bindingIndex);
+		BindPlan bindPlan = actionProvider.getBindPlan(BindFieldSubclassTarget.class);
+
+		assertThat(bindPlan.size(), is(1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void actionsAreOrderedByBinderRegistration() throws BindFailed, NoSuchFieldException {
+		FieldBinder<SecondAnnotation> secondBinder = mock(FieldBinder.class);
+		when(secondBinder.getAnnotationClass()).thenReturn(SecondAnnotation.class);
+		FieldBinder<TestAnnotation> firstBinder = mock(FieldBinder.class);
+		when(firstBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+
+		Catalog catalog = new Catalog();
+		catalog.add(secondBinder);
+		catalog.add(firstBinder);
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		OrderTarget target = new OrderTarget();
+
+		for (BindAction bindAction : actionProvider.getBindActions(OrderTarget.class)) {
+			bindAction.bind(target, new BindContextImpl());
+		}
+
+		InOrder inOrder = inOrder(secondBinder, firstBinder);
+		inOrder.verify(secondBinder).bind(eq(target), any(SecondAnnotation.class), eq(OrderTarget.class.getDeclaredField("second")));
+		inOrder.verify(firstBinder).bind(eq(target), any(TestAnnotation.class), eq(OrderTarget.class.getDeclaredField("first")));
+		inOrder.verify(firstBinder).bind(eq(target), any(TestAnnotation.class), eq(OrderTarget.class.getDeclaredField("third")));
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void preparedBinding() throws BindFailed, NoSuchFieldException {
+		Binding binding = mock(Binding.class);
+		PreparableFieldBinder<TestAnnotation> fieldBinder = mock(PreparableFieldBinder.class);
+		when(fieldBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+		when(fieldBinder.prepare(any(TestAnnotation.class), any(Field.class))).thenReturn(binding);
+
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		BindFieldTarget target = new BindFieldTarget();
+		Object parameter = new Object();
+
+		BindContextImpl bindContext = new BindContextImpl(parameter);
+		BindPlan bindPlan = actionProvider.getBindPlan(BindFieldTarget.class);
+		bindPlan.bind(target, bindContext);
+		bindPlan.bind(target, bindContext);
+
+		verify(fieldBinder).getAnnotationClass();
+		verify(fieldBinder).prepare(any(TestAnnotation.class), eq(BindFieldTarget.class.getDeclaredField("field")));
+		verifyNoMoreInteractions(fieldBinder);
+		verify(binding, times(2)).bind(same(target), same(bindContext));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void unbindablePreparedBinding() throws BindFailed {
+		UnbindableBinding binding = mock(UnbindableBinding.class);
+		PreparableFieldBinder<TestAnnotation> fieldBinder = mock(PreparableFieldBinder.class);
+		when(fieldBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+		when(fieldBinder.prepare(any(TestAnnotation.class), any(Field.class))).thenReturn(binding);
+
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		catalog.add(new TestFieldBinder());
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		BindFieldTarget target = new BindFieldTarget();
+		BindContextImpl bindContext = new BindContextImpl();
+
+		actionProvider.getBindPlan(BindFieldTarget.class).unbind(target, bindContext);
+
+		verify(binding).unbind(same(target), same(bindContext));
+		verifyNoMoreInteractions(binding);
+	}
+
+	@Test(expected = BindFailed.class)
+	@SuppressWarnings("unchecked")
+	public void prepareFailure() throws BindFailed {
+		PreparableFieldBinder<TestAnnotation> fieldBinder = mock(PreparableFieldBinder.class);
+		when(fieldBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+		when(fieldBinder.prepare(any(TestAnnotation.class), any(Field.class))).thenThrow(new BindFailed("test"));
+
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+
+		actionProvider.getBindPlan(BindFieldTarget.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void scopedPlan() throws BindFailed {
+		FieldBinder<SecondAnnotation> secondBinder = mock(FieldBinder.class);
+		when(secondBinder.getAnnotationClass()).thenReturn(SecondAnnotation.class);
+		FieldBinder<TestAnnotation> firstBinder = mock(FieldBinder.class);
+		when(firstBinder.getAnnotationClass()).thenReturn(TestAnnotation.class);
+
+		Catalog catalog = new Catalog();
+		catalog.add(secondBinder);
+		catalog.add(firstBinder);
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		BindScope bindScope = BindScope.of(SecondAnnotation.class);
+		BindPlan scopedPlan = actionProvider.getBindPlan(OrderTarget.class, bindScope);
+
+		assertThat(scopedPlan.size(), is(1));
+		assertThat(actionProvider.getBindPlan(OrderTarget.class).size(), is(3));
+		assertThat(actionProvider.getBindPlan(OrderTarget.class, BindScope.of(SecondAnnotation.class)), is(sameInstance(scopedPlan)));
+		assertThat(actionProvider.getBindPlan(OrderTarget.class, BindScope.ALL), is(sameInstance(actionProvider.getBindPlan(OrderTarget.class))));
+		assertThat(actionProvider.getBindPlan(OrderTarget.class, BindScope.of(Deprecated.class)), is(sameInstance(BindPlan.EMPTY)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void registrationOnlyInvalidatesAffectedPlans() throws BindFailed {
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+		BindPlan unaffectedPlan = actionProvider.getBindPlan(BindFieldTarget.class);
+		BindPlan affectedPlan = actionProvider.getBindPlan(OrderTarget.class);
+		BindPlan affectedSubclassPlan = actionProvider.getBindPlan(OrderSubclassTarget.class);
+		BindPlan scopedPlan = actionProvider.getBindPlan(OrderTarget.class, BindScope.of(SecondAnnotation.class));
+
+		FieldBinder<SecondAnnotation> secondBinder = mock(FieldBinder.class);
+		when(secondBinder.getAnnotationClass()).thenReturn(SecondAnnotation.class);
+		actionProvider.register(secondBinder);
+
+		assertThat(actionProvider.getBindPlan(BindFieldTarget.class), is(sameInstance(unaffectedPlan)));
+		assertThat(affectedPlan.size(), is(2));
+		assertThat(actionProvider.getBindPlan(OrderTarget.class).size(), is(3));
+		assertThat(affectedSubclassPlan.size(), is(2));
+		assertThat(actionProvider.getBindPlan(OrderSubclassTarget.class).size(), is(3));
+		assertThat(scopedPlan.size(), is(0));
+		assertThat(actionProvider.getBindPlan(OrderTarget.class, BindScope.of(SecondAnnotation.class)).size(), is(1));
+	}
+
+	private static class OrderSubclassTarget extends OrderTarget {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	private @interface SecondAnnotation {
+	}
+
+	private static class OrderTarget {
+		@TestAnnotation
+		private Object first;
+
+		@SecondAnnotation
+		private Object second;
+
+		@TestAnnotation
+		private Object third;
+	}
 }
@@ -0,0 +1,171 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import spork.exceptions.BindAllFailed;
+import spork.exceptions.BindFailed;
+import spork.extension.FieldBinder;
+import spork.extension.ThreadSafeBinder;
+import spork.stubs.BindFieldTarget;
+import spork.stubs.TestAnnotation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BindAllTests {
+
+	private static class RecordingFieldBinder implements FieldBinder<TestAnnotation> {
+		final List<Object> boundObjects = new CopyOnWriteArrayList<>();
+		final List<Thread> bindThreads = new CopyOnWriteArrayList<>();
+		Object failingObject;
+
+		@Override
+		public void bind(Object object, TestAnnotation annotation, Field field, Object... parameters) throws BindFailed {
+			bindThreads.add(Thread.currentThread());
+
+			if (object == failingObject) {
+				throw new BindFailed("test");
+			}
+
+			boundObjects.add(object);
+		}
+
+		@Override
+		public Class<TestAnnotation> getAnnotationClass() {
+			return TestAnnotation.class;
+		}
+	}
+
+	private static final class ThreadSafeRecordingFieldBinder extends RecordingFieldBinder implements ThreadSafeBinder {
+	}
+
+	private static final class NewThreadExecutor implements Executor {
+		int executeCount;
+
+		@Override
+		public void execute(Runnable runnable) {
+			executeCount++;
+			new Thread(runnable).start();
+		}
+	}
+
+	/**
+	 * Executes a limited amount of tasks on new threads and rejects all other tasks.
+	 */
+	private static final class RejectingExecutor implements Executor {
+		private int remainingCapacity;
+
+		RejectingExecutor(int capacity) {
+			this.remainingCapacity = capacity;
+		}
+
+		@Override
+		public void execute(Runnable runnable) {
+			if (remainingCapacity == 0) {
+				throw new RejectedExecutionException("test");
+			}
+
+			remainingCapacity--;
+			new Thread(runnable).start();
+		}
+	}
+
+	@Test
+	public void bindAll() throws BindFailed {
+		RecordingFieldBinder fieldBinder = new RecordingFieldBinder();
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		BindActionProvider actionProvider = spy(new BindActionProvider(catalog));
+		Binder binder = new Binder(actionProvider);
+		List<BindFieldTarget> targets = Arrays.asList(new BindFieldTarget(), new BindFieldTarget(), new BindFieldTarget());
+
+		binder.bindAll(targets, null, new Object[0]);
+
+		assertThat(fieldBinder.boundObjects, is((Object) targets));
+		verify(actionProvider, times(1)).getBindPlan(BindFieldTarget.class);
+	}
+
+	@Test
+	public void bindAllAggregatesFailures() {
+		RecordingFieldBinder fieldBinder = new RecordingFieldBinder();
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		Binder binder = new Binder(new BindActionProvider(catalog));
+		BindFieldTarget first = new BindFieldTarget();
+		BindFieldTarget second = new BindFieldTarget();
+		BindFieldTarget third = new BindFieldTarget();
+		fieldBinder.failingObject = second;
+
+		try {
+			binder.bindAll(Arrays.asList(first, second, third), null, new Object[0]);
+			fail("BindAllFailed expected");
+		} catch (BindAllFailed caught) {
+			assertThat(caught.getFailures().size(), is(1));
+			assertThat(caught.getMessage(), is("Failed to bind 1 of 3 objects"));
+		}
+
+		assertThat(fieldBinder.boundObjects, is(Arrays.<Object>asList(first, third)));
+	}
+
+	@Test
+	public void bindAllWithExecutor() {
+		ThreadSafeRecordingFieldBinder fieldBinder = new ThreadSafeRecordingFieldBinder();
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		Binder binder = new Binder(new BindActionProvider(catalog));
+		NewThreadExecutor executor = new NewThreadExecutor();
+		List<BindFieldTarget> targets = Arrays.asList(new BindFieldTarget(), new BindFieldTarget());
+
+		binder.bindAll(targets, executor, new Object[0]);
+
+		assertThat(executor.executeCount, is(1));
+		assertThat(fieldBinder.boundObjects.size(), is(2));
+		assertThat(fieldBinder.bindThreads.get(0), is(not(sameInstance(Thread.currentThread()))));
+	}
+
+	@Test
+	public void bindAllWithRejectingExecutor() {
+		ThreadSafeRecordingFieldBinder fieldBinder = new ThreadSafeRecordingFieldBinder();
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		Binder binder = new Binder(new BindActionProvider(catalog));
+		List<BindFieldTarget> targets = new ArrayList<>();
+
+		for (int i = 0; i < 100; ++i) {
+			targets.add(new BindFieldTarget());
+		}
+
+		binder.bindAll(targets, new RejectingExecutor(1), new Object[0]);
+
+		assertThat(fieldBinder.boundObjects.size(), is(100));
+		assertThat(fieldBinder.bindThreads.contains(Thread.currentThread()), is(true));
+	}
+
+	@Test
+	public void bindAllWithExecutorKeepsUnsafeBindingsOnCallingThread() {
+		RecordingFieldBinder fieldBinder = new RecordingFieldBinder();
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		Binder binder = new Binder(new BindActionProvider(catalog));
+		NewThreadExecutor executor = new NewThreadExecutor();
+
+		binder.bindAll(Arrays.asList(new BindFieldTarget(), new BindFieldTarget()), executor, new Object[0]);
+
+		assertThat(executor.executeCount, is(0));
+		assertThat(fieldBinder.bindThreads, is(Arrays.asList(Thread.currentThread(), Thread.currentThread())));
+	}
+}
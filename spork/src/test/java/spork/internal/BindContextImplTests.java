@@ -0,0 +1,133 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import spork.extension.BindContext;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BindContextImplTests {
+
+	@Test
+	public void findFirstInstance() {
+		String first = "first";
+		String second = "second";
+		Integer integer = 1;
+		BindContextImpl bindContext = new BindContextImpl(integer, first, second);
+
+		assertThat(bindContext.find(String.class), is(sameInstance(first)));
+		assertThat(bindContext.find(CharSequence.class), is(sameInstance((CharSequence) first)));
+		assertThat(bindContext.find(Number.class), is(sameInstance((Number) integer)));
+		// memoized results
+		assertThat(bindContext.find(String.class), is(sameInstance(first)));
+		assertThat(bindContext.find(Number.class), is(sameInstance((Number) integer)));
+	}
+
+	@Test
+	public void findMissingType() {
+		BindContextImpl bindContext = new BindContextImpl("parameter");
+
+		assertThat(bindContext.find(Integer.class), is(nullValue()));
+		assertThat(bindContext.find(Integer.class), is(nullValue()));
+	}
+
+	@Test
+	public void nullParametersAreEmpty() {
+		BindContextImpl bindContext = new BindContextImpl((Object[]) null);
+
+		assertThat(bindContext.find(String.class), is(nullValue()));
+		assertThat(bindContext.getParameters().length, is(0));
+	}
+
+	@Test
+	public void findWithFixedArityParameters() {
+		String first = "first";
+		Integer second = 2;
+		BindContextImpl bindContext = new BindContextImpl();
+		bindContext.set(first, second);
+
+		assertThat(bindContext.find(String.class), is(sameInstance(first)));
+		assertThat(bindContext.find(Integer.class), is(sameInstance(second)));
+		assertThat(bindContext.getParameters(), is(new Object[] { first, second }));
+	}
+
+	@Test
+	public void findWithFullLookupTable() {
+		Object[] parameters = new Object[] { 1, 2L, 3f, 4d, (short) 5, (byte) 6, '7', "8", true };
+		Class<?>[] types = new Class<?>[] { Integer.class, Long.class, Float.class, Double.class, Short.class, Byte.class, Character.class, String.class, Boolean.class };
+		BindContextImpl bindContext = new BindContextImpl(parameters);
+
+		for (int i = 0; i < types.length; ++i) {
+			assertThat(bindContext.find(types[i]), is(sameInstance(parameters[i])));
+		}
+
+		for (int i = 0; i < types.length; ++i) {
+			assertThat(bindContext.find(types[i]), is(sameInstance(parameters[i])));
+		}
+	}
+
+	@Test
+	public void clear() {
+		BindContextImpl bindContext = new BindContextImpl();
+		bindContext.set("parameter");
+		assertThat(bindContext.find(String.class), is("parameter"));
+
+		bindContext.clear();
+
+		assertThat(bindContext.find(String.class), is(nullValue()));
+		assertThat(bindContext.getParameters().length, is(0));
+	}
+
+	@Test
+	public void attributes() {
+		BindContext.Key<String> firstKey = new BindContext.Key<>("first");
+		BindContextImpl bindContext = new BindContextImpl();
+
+		assertThat(bindContext.getAttribute(firstKey), is(nullValue()));
+
+		bindContext.setAttribute(firstKey, "first");
+		BindContext.Key<Integer> secondKey = new BindContext.Key<>("second");
+		bindContext.setAttribute(secondKey, 2);
+
+		assertThat(bindContext.getAttribute(firstKey), is("first"));
+		assertThat(bindContext.getAttribute(secondKey), is(2));
+	}
+
+	@Test
+	public void clearAttributes() {
+		BindContext.Key<String> key = new BindContext.Key<>("key");
+		BindContextImpl bindContext = new BindContextImpl();
+		bindContext.setAttribute(key, "value");
+
+		bindContext.clear();
+
+		assertThat(bindContext.getAttribute(key), is(nullValue()));
+	}
+
+	@Test
+	public void poolReusesContext() {
+		BindContextPool pool = new BindContextPool();
+		BindContextImpl first = pool.obtain();
+		pool.release(first);
+		BindContextImpl second = pool.obtain();
+		pool.release(second);
+
+		assertThat(second, is(sameInstance(first)));
+	}
+
+	@Test
+	public void poolCreatesContextForNestedUse() {
+		BindContextPool pool = new BindContextPool();
+		BindContextImpl outer = pool.obtain();
+		BindContextImpl nested = pool.obtain();
+
+		assertThat(nested, is(not(sameInstance(outer))));
+
+		pool.release(nested);
+		pool.release(outer);
+	}
+}
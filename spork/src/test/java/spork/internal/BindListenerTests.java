@@ -0,0 +1,208 @@
+package spork.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import spork.BindScope;
+import spork.exceptions.BindFailed;
+import spork.extension.AbstractPreparableFieldBinder;
+import spork.extension.BindContext;
+import spork.extension.BindListener;
+import spork.extension.Binding;
+import spork.extension.FieldBinder;
+import spork.stubs.BindFieldSubclassTarget;
+import spork.stubs.BindFieldTarget;
+import spork.stubs.TestAnnotation;
+import spork.stubs.TestFieldBinder;
+
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BindListenerTests {
+	private BindListener bindListener;
+	private Catalog catalog;
+
+	@Before
+	public void setup() {
+		bindListener = mock(BindListener.class);
+		catalog = new Catalog();
+	}
+
+	private Binder createBinder() {
+		return new Binder(new BindActionProvider(catalog, new HierarchyBoundary(), null, null, bindListener), bindListener);
+	}
+
+	@Test
+	public void bindEvents() throws BindFailed, NoSuchFieldException {
+		TestFieldBinder fieldBinder = new TestFieldBinder();
+		catalog.add(fieldBinder);
+		Binder binder = createBinder();
+		BindFieldTarget target = new BindFieldTarget();
+
+		binder.bind(target);
+
+		InOrder inOrder = inOrder(bindListener);
+		inOrder.verify(bindListener).onBindStarted(target);
+		inOrder.verify(bindListener).onMemberScan(BindFieldTarget.class);
+		inOrder.verify(bindListener).onPlanCreated(eq(BindFieldTarget.class), eq(1), anyLong());
+		inOrder.verify(bindListener).onBindingFinished(same(target), same(fieldBinder), eq(BindFieldTarget.class.getDeclaredField("field")), anyLong());
+		inOrder.verify(bindListener).onBindFinished(same(target), anyLong());
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	public void planCacheHit() throws BindFailed {
+		catalog.add(new TestFieldBinder());
+		Binder binder = createBinder();
+
+		binder.bind(new BindFieldTarget());
+		binder.bind(new BindFieldTarget());
+
+		verify(bindListener).onPlanCreated(eq(BindFieldTarget.class), eq(1), anyLong());
+		verify(bindListener).onPlanCacheHit(BindFieldTarget.class);
+	}
+
+	@Test
+	public void superclassPlanCreation() throws BindFailed {
+		catalog.add(new TestFieldBinder());
+		Binder binder = createBinder();
+
+		binder.bind(new BindFieldSubclassTarget());
+
+		verify(bindListener).onPlanCreated(eq(BindFieldTarget.class), eq(1), anyLong());
+		verify(bindListener).onPlanCreated(eq(BindFieldSubclassTarget.class), eq(2), anyLong());
+	}
+
+	@Test
+	public void scopedPlanCreation() throws BindFailed {
+		catalog.add(new TestFieldBinder());
+		Binder binder = createBinder();
+		BindScope bindScope = BindScope.of(TestAnnotation.class);
+
+		binder.bind(new BindFieldTarget(), bindScope);
+		binder.bind(new BindFieldTarget(), bindScope);
+
+		// The full plan and the scoped plan are created once, the second bind finds the scoped plan
+		verify(bindListener, times(2)).onPlanCreated(eq(BindFieldTarget.class), eq(1), anyLong());
+		verify(bindListener).onPlanCacheHit(BindFieldTarget.class);
+	}
+
+	@Test
+	public void concurrentPlanCreationIsReportedOnce() throws Exception {
+		final CountDownLatch prepareLatch = new CountDownLatch(1);
+		catalog.add(new AbstractPreparableFieldBinder<TestAnnotation>() {
+			@Override
+			public Binding prepare(TestAnnotation annotation, Field field) {
+				try {
+					prepareLatch.await();
+				} catch (InterruptedException caught) {
+					Thread.currentThread().interrupt();
+				}
+
+				return new Binding() {
+					@Override
+					public void bind(Object object, BindContext bindContext) {
+					}
+				};
+			}
+
+			@Override
+			public Class<TestAnnotation> getAnnotationClass() {
+				return TestAnnotation.class;
+			}
+		});
+		final Binder binder = createBinder();
+		Runnable bindTask = new Runnable() {
+			@Override
+			public void run() {
+				try {
+					binder.bind(new BindFieldTarget());
+				} catch (BindFailed caught) {
+					throw new IllegalStateException(caught);
+				}
+			}
+		};
+		Thread firstThread = new Thread(bindTask);
+		Thread secondThread = new Thread(bindTask);
+
+		// One thread creates the bind actions, the other one misses the plan cache and waits for them
+		firstThread.start();
+		secondThread.start();
+
+		while (!isCreatingWhileOtherWaits(firstThread, secondThread) && !isCreatingWhileOtherWaits(secondThread, firstThread)) {
+			Thread.sleep(1);
+		}
+
+		prepareLatch.countDown();
+		firstThread.join();
+		secondThread.join();
+
+		verify(bindListener).onPlanCreated(eq(BindFieldTarget.class), eq(1), anyLong());
+		verify(bindListener).onPlanCacheHit(BindFieldTarget.class);
+	}
+
+	@Test
+	public void bindFailure() throws BindFailed, NoSuchFieldException {
+		FieldBinder<TestAnnotation> fieldBinder = new TestFieldBinder() {
+			@Override
+			public void bind(Object object, TestAnnotation annotation, Field field, Object... parameters) {
+				throw new IllegalStateException("test");
+			}
+		};
+		catalog.add(fieldBinder);
+		Binder binder = createBinder();
+		BindFieldTarget target = new BindFieldTarget();
+
+		try {
+			binder.bind(target);
+			fail("bind() should throw");
+		} catch (IllegalStateException caught) {
+			verify(bindListener).onBindingFailed(same(target), same(fieldBinder), eq(BindFieldTarget.class.getDeclaredField("field")), same(caught), anyLong());
+			verify(bindListener).onBindFailed(same(target), same(caught), anyLong());
+			verify(bindListener, never()).onBindFinished(any(), anyLong());
+		}
+	}
+
+	@Test
+	public void bindAllEvents() throws BindFailed {
+		catalog.add(new TestFieldBinder());
+		Binder binder = createBinder();
+		BindFieldTarget first = new BindFieldTarget();
+		BindFieldTarget second = new BindFieldTarget();
+
+		binder.bindAll(Arrays.asList(first, second), null, new Object[0]);
+
+		verify(bindListener).onBindFinished(same(first), anyLong());
+		verify(bindListener).onBindFinished(same(second), anyLong());
+	}
+
+	@Test
+	public void compositeForwardsInOrder() {
+		BindListener secondListener = mock(BindListener.class);
+		BindListener compositeListener = CompositeBindListener.create(Arrays.asList(bindListener, secondListener));
+		Object object = new Object();
+
+		compositeListener.onBindStarted(object);
+
+		InOrder inOrder = inOrder(bindListener, secondListener);
+		inOrder.verify(bindListener).onBindStarted(object);
+		inOrder.verify(secondListener).onBindStarted(object);
+	}
+
+	private static boolean isCreatingWhileOtherWaits(Thread creatingThread, Thread waitingThread) {
+		return creatingThread.getState() == Thread.State.WAITING && waitingThread.getState() == Thread.State.BLOCKED;
+	}
+}
@@ -27,7 +27,7 @@ public class BinderTests {
 	public void setup() {
 		Catalog catalog = new Catalog();
 		factory = mock(BindActionCache.Factory.class);
-		actionProvider = spy(new BindActionProvider(catalog, factory));
+		actionProvider = spy(new BindActionProvider(catalog, new HierarchyBoundary(), factory));
 		binder = new Binder(actionProvider);
 	}
 
@@ -42,6 +42,7 @@ public class BinderTests {
 	public void bindNoInheritance() throws BindFailed {
 		binder.bind(new NoInheritanceTarget());
 
+		verify(actionProvider).getBindPlan(NoInheritanceTarget.class);
 		verify(actionProvider).getBindActions(NoInheritanceTarget.class);
 		verifyNoMoreInteractions(actionProvider);
 
@@ -55,7 +56,9 @@ public class BinderTests {
 		binder.bind(new NoInheritanceTarget());
 
 		// Bound twice
-		verify(actionProvider, times(2)).getBindActions(NoInheritanceTarget.class);
+		verify(actionProvider, times(2)).getBindPlan(NoInheritanceTarget.class);
+		// Plan created once
+		verify(actionProvider).getBindActions(NoInheritanceTarget.class);
 		verifyNoMoreInteractions(actionProvider);
 
 		// Cached once
@@ -68,6 +71,8 @@ public class BinderTests {
 	public void bindWithInheritance() throws BindFailed {
 		binder.bind(new InheritanceTarget());
 
+		verify(actionProvider).getBindPlan(InheritanceTarget.class);
+		verify(actionProvider).getBindPlan(NoInheritanceTarget.class);
 		verify(actionProvider).getBindActions(InheritanceTarget.class);
 		verify(actionProvider).getBindActions(NoInheritanceTarget.class);
 		verifyNoMoreInteractions(actionProvider);
@@ -76,4 +81,18 @@ public class BinderTests {
 		verify(factory).create(NoInheritanceTarget.class);
 		verifyNoMoreInteractions(factory);
 	}
+
+	@Test
+	public void bindWithInheritanceCache() throws BindFailed {
+		binder.bind(new InheritanceTarget());
+		binder.bind(new InheritanceTarget());
+		binder.bind(new NoInheritanceTarget());
+
+		// The plan of the superclass is reused
+		verify(actionProvider, times(2)).getBindPlan(InheritanceTarget.class);
+		verify(actionProvider, times(2)).getBindPlan(NoInheritanceTarget.class);
+		verify(actionProvider).getBindActions(InheritanceTarget.class);
+		verify(actionProvider).getBindActions(NoInheritanceTarget.class);
+		verifyNoMoreInteractions(actionProvider);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import spork.stubs.BindFieldTarget;
+import spork.stubs.BindMethodTarget;
+import spork.stubs.BindTypeTarget;
+import spork.stubs.GeneratedTarget;
+import spork.stubs.OutdatedGeneratedTarget;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BindingIndexTests {
+
+	@Test
+	public void load() {
+		BindingIndex bindingIndex = BindingIndex.load(BindingIndexTests.class.getClassLoader());
+
+		assertThat(bindingIndex, is(notNullValue()));
+		assertThat(bindingIndex.getClassNames(), is((Object) new LinkedHashSet<>(Arrays.asList(
+				BindFieldTarget.class.getName(),
+				BindTypeTarget.class.getName(),
+				GeneratedTarget.class.getName(),
+				OutdatedGeneratedTarget.class.getName()))));
+		assertThat(bindingIndex.getGeneratedBinderClassNames(), is((Object) new LinkedHashSet<>(Arrays.asList(
+				GeneratedTarget.class.getName(),
+				OutdatedGeneratedTarget.class.getName()))));
+		assertThat(bindingIndex.contains(BindFieldTarget.class), is(true));
+		assertThat(bindingIndex.contains(BindMethodTarget.class), is(false));
+	}
+
+	@Test
+	public void loadWithoutIndex() {
+		ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+
+		assertThat(BindingIndex.load(classLoader), is(nullValue()));
+	}
+}
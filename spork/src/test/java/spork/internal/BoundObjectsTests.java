@@ -0,0 +1,196 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import spork.BindScope;
+import spork.exceptions.BindFailed;
+import spork.extension.FieldBinder;
+import spork.extension.VolatileBinder;
+import spork.stubs.BindFieldTarget;
+import spork.stubs.TestAnnotation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BoundObjectsTests {
+
+	private static class EqualObject {
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof EqualObject;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+
+	private static class RecordingFieldBinder implements FieldBinder<TestAnnotation> {
+		final List<Object> boundObjects = new ArrayList<>();
+
+		@Override
+		public void bind(Object object, TestAnnotation annotation, Field field, Object... parameters) {
+			boundObjects.add(object);
+		}
+
+		@Override
+		public Class<TestAnnotation> getAnnotationClass() {
+			return TestAnnotation.class;
+		}
+	}
+
+	private static class RecordingVolatileFieldBinder extends RecordingFieldBinder implements VolatileBinder {
+	}
+
+	@Test
+	public void objectsAreComparedByIdentity() {
+		BoundObjects boundObjects = new BoundObjects();
+
+		assertThat(boundObjects.addIfAbsent(new EqualObject(), BindScope.ALL), is(true));
+		assertThat(boundObjects.addIfAbsent(new EqualObject(), BindScope.ALL), is(true));
+		assertThat(boundObjects.size(), is(2));
+	}
+
+	@Test
+	public void scopes() {
+		BindScope bindScope = BindScope.of(TestAnnotation.class);
+		BoundObjects boundObjects = new BoundObjects();
+		Object scopedObject = new Object();
+		Object object = new Object();
+
+		assertThat(boundObjects.addIfAbsent(scopedObject, bindScope), is(true));
+		assertThat(boundObjects.addIfAbsent(object, BindScope.ALL), is(true));
+
+		assertThat(boundObjects.addIfAbsent(scopedObject, bindScope), is(false));
+		assertThat(boundObjects.addIfAbsent(scopedObject, BindScope.of(TestAnnotation.class)), is(false));
+		// Binding all annotations includes every scope
+		assertThat(boundObjects.addIfAbsent(object, bindScope), is(false));
+		assertThat(boundObjects.addIfAbsent(scopedObject, BindScope.ALL), is(true));
+	}
+
+	@Test
+	public void removedScopeIsAddedAgain() {
+		BindScope bindScope = BindScope.of(TestAnnotation.class);
+		BoundObjects boundObjects = new BoundObjects();
+		Object object = new Object();
+
+		boundObjects.addIfAbsent(object, bindScope);
+		boundObjects.remove(object, bindScope);
+
+		assertThat(boundObjects.size(), is(0));
+		assertThat(boundObjects.addIfAbsent(object, bindScope), is(true));
+	}
+
+	@Test
+	public void concurrentAddIfAbsentAddsOnce() throws InterruptedException {
+		final BoundObjects boundObjects = new BoundObjects();
+		final Object object = new Object();
+		final AtomicInteger addCount = new AtomicInteger();
+		final CountDownLatch startLatch = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+
+		for (int i = 0; i < 8; ++i) {
+			Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						startLatch.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+
+					if (boundObjects.addIfAbsent(object, BindScope.ALL)) {
+						addCount.incrementAndGet();
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+
+		startLatch.countDown();
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(addCount.get(), is(1));
+	}
+
+	@Test
+	public void repeatedBindIsSkipped() throws BindFailed {
+		RecordingFieldBinder fieldBinder = new RecordingFieldBinder();
+		Binder binder = createTrackingBinder(fieldBinder);
+		BindFieldTarget target = new BindFieldTarget();
+
+		binder.bind(target);
+		binder.bind(target);
+		binder.bind(new BindFieldTarget());
+
+		assertThat(fieldBinder.boundObjects.size(), is(2));
+	}
+
+	@Test
+	public void volatileBindingsAreRepeated() throws BindFailed {
+		RecordingFieldBinder fieldBinder = new RecordingVolatileFieldBinder();
+		Binder binder = createTrackingBinder(fieldBinder);
+		BindFieldTarget target = new BindFieldTarget();
+
+		binder.bind(target);
+		binder.bind(target);
+
+		assertThat(fieldBinder.boundObjects.size(), is(2));
+	}
+
+	@Test
+	public void failedBindIsNotTracked() throws BindFailed {
+		final BindFieldTarget failingTarget = new BindFieldTarget();
+		RecordingFieldBinder fieldBinder = new RecordingFieldBinder() {
+			@Override
+			public void bind(Object object, TestAnnotation annotation, Field field, Object... parameters) {
+				super.bind(object, annotation, field, parameters);
+
+				if (boundObjects.size() == 1) {
+					throw new IllegalStateException("test");
+				}
+			}
+		};
+		Binder binder = createTrackingBinder(fieldBinder);
+
+		try {
+			binder.bind(failingTarget);
+		} catch (IllegalStateException caught) {
+			// expected
+		}
+
+		binder.bind(failingTarget);
+
+		assertThat(fieldBinder.boundObjects.size(), is(2));
+	}
+
+	@Test
+	public void unboundObjectIsBoundAgain() throws BindFailed {
+		RecordingFieldBinder fieldBinder = new RecordingFieldBinder();
+		Binder binder = createTrackingBinder(fieldBinder);
+		BindFieldTarget target = new BindFieldTarget();
+
+		binder.bind(target);
+		binder.unbind(target);
+		binder.bind(target);
+
+		assertThat(fieldBinder.boundObjects.size(), is(2));
+	}
+
+	private static Binder createTrackingBinder(FieldBinder<?> fieldBinder) {
+		Catalog catalog = new Catalog();
+		catalog.add(fieldBinder);
+		return new Binder(new BindActionProvider(catalog), null, true);
+	}
+}
@@ -0,0 +1,93 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import spork.extension.BinderFactory;
+import spork.extension.FieldBinder;
+import spork.stubs.TestAnnotation;
+import spork.stubs.TestFieldBinder;
+import spork.stubs.TestMethodBinder;
+import spork.stubs.TestTypeBinder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CatalogTests {
+
+	@Test
+	public void index() {
+		Catalog catalog = new Catalog();
+		catalog.add(new TestFieldBinder());
+		catalog.add(new TestFieldBinder());
+		catalog.add(new TestMethodBinder());
+		catalog.add(new TestTypeBinder());
+
+		Catalog.Index index = catalog.getIndex();
+
+		assertThat(index.getFieldBinderPositions(TestAnnotation.class), is(new int[] { 0, 1 }));
+		assertThat(index.getMethodBinderPositions(TestAnnotation.class), is(new int[] { 0 }));
+		assertThat(index.getTypeBinderPositions(TestAnnotation.class), is(new int[] { 0 }));
+		assertThat(index.getFieldBinderPositions(Deprecated.class), is(nullValue()));
+	}
+
+	@Test
+	public void indexIsCached() {
+		Catalog catalog = new Catalog();
+		catalog.add(new TestFieldBinder());
+
+		assertThat(catalog.getIndex(), is(sameInstance(catalog.getIndex())));
+	}
+
+	@Test
+	public void indexIsRecreatedAfterRegistration() {
+		Catalog catalog = new Catalog();
+		Catalog.Index index = catalog.getIndex();
+
+		catalog.add(new TestFieldBinder());
+
+		assertThat(catalog.getIndex(), is(not(sameInstance(index))));
+		assertThat(catalog.getIndex().getFieldBinderPositions(TestAnnotation.class), is(new int[] { 0 }));
+	}
+
+	@Test
+	public void indexIsVersioned() {
+		Catalog catalog = new Catalog();
+		FieldBinder<?> fieldBinder = new TestFieldBinder();
+		catalog.add(fieldBinder);
+		Catalog.Index index = catalog.getIndex();
+
+		catalog.add(new TestMethodBinder());
+
+		assertThat(index.getVersion(), is(1));
+		assertThat(index.getFieldBinder(0), is(sameInstance((Object) fieldBinder)));
+		assertThat(index.getMethodBinderCount(), is(0));
+		assertThat(catalog.getIndex().getVersion(), is(2));
+		assertThat(catalog.getIndex().getFieldBinder(0), is(sameInstance((Object) fieldBinder)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void lazyBinder() {
+		BinderFactory<FieldBinder<TestAnnotation>> factory = mock(BinderFactory.class);
+		TestFieldBinder fieldBinder = new TestFieldBinder();
+		when(factory.create()).thenReturn(fieldBinder);
+		Catalog catalog = new Catalog();
+		catalog.addFieldBinder(TestAnnotation.class, factory);
+
+		Catalog.Index index = catalog.getIndex();
+		catalog.getSignature();
+
+		assertThat(index.getFieldBinderPositions(TestAnnotation.class), is(new int[] { 0 }));
+		verify(factory, never()).create();
+		assertThat(index.getFieldBinder(0), is(sameInstance((Object) fieldBinder)));
+		assertThat(index.getFieldBinder(0), is(sameInstance((Object) fieldBinder)));
+		verify(factory).create();
+	}
+}
@@ -0,0 +1,65 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import spork.stubs.BindAllTarget;
+import spork.stubs.TestAnnotation;
+import spork.stubs.TestFieldBinder;
+import spork.stubs.TestMethodBinder;
+import spork.stubs.TestTypeBinder;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassMetadataTests {
+
+	@Test
+	public void onlyAnnotatedMembers() throws NoSuchFieldException {
+		ClassMetadata classMetadata = ClassMetadata.get(MixedTarget.class);
+		Field[] fields = classMetadata.getFields();
+		Method[] methods = classMetadata.getMethods();
+
+		assertThat(fields.length, is(1));
+		assertThat(fields[0], is(MixedTarget.class.getDeclaredField("annotated")));
+		assertThat(classMetadata.getFieldAnnotations(0)[0], is(instanceOf(TestAnnotation.class)));
+		assertThat(methods.length, is(1));
+		assertThat(methods[0].getName(), is("annotatedMethod"));
+		assertThat(classMetadata.getTypeAnnotations().length, is(0));
+	}
+
+	@Test
+	public void sharedAcrossProviders() throws Exception {
+		Catalog firstCatalog = new Catalog();
+		firstCatalog.add(new TestFieldBinder());
+		Catalog secondCatalog = new Catalog();
+		secondCatalog.add(new TestFieldBinder());
+		secondCatalog.add(new TestMethodBinder());
+		secondCatalog.add(new TestTypeBinder());
+
+		ClassMetadata classMetadata = ClassMetadata.get(BindAllTarget.class);
+
+		assertThat(new BindActionProvider(firstCatalog).getBindActions(BindAllTarget.class).size(), is(1));
+		assertThat(new BindActionProvider(secondCatalog).getBindActions(BindAllTarget.class).size(), is(3));
+		assertThat(ClassMetadata.get(BindAllTarget.class), is(sameInstance(classMetadata)));
+	}
+
+	@SuppressWarnings("unused")
+	private static class MixedTarget {
+		@TestAnnotation
+		private Object annotated;
+
+		private Object notAnnotated;
+
+		@TestAnnotation
+		void annotatedMethod() {
+		}
+
+		void notAnnotatedMethod() {
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import spork.exceptions.BindFailed;
+import spork.stubs.BindFieldTarget;
+import spork.stubs.BindMethodTarget;
+import spork.stubs.GeneratedTarget;
+import spork.stubs.GeneratedTarget_SporkBinder;
+import spork.stubs.OutdatedGeneratedTarget;
+import spork.stubs.TestFieldBinder;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GeneratedBinderTests {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD})
+	private @interface OtherAnnotation {
+	}
+
+	@Test
+	public void findGeneratedBinder() {
+		assertThat(GeneratedBinders.find(GeneratedTarget.class), is(instanceOf(GeneratedTarget_SporkBinder.class)));
+	}
+
+	@Test
+	public void findMissingGeneratedBinder() {
+		// Indexed without a generated binder
+		assertThat(GeneratedBinders.find(BindFieldTarget.class), is(nullValue()));
+		// Not indexed
+		assertThat(GeneratedBinders.find(BindMethodTarget.class), is(nullValue()));
+		assertThat(GeneratedBinders.find(String.class), is(nullValue()));
+	}
+
+	@Test
+	public void generatedBinderIsPreferred() throws BindFailed {
+		Catalog catalog = new Catalog();
+		catalog.add(new TestFieldBinder());
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+
+		List<BindAction> bindActions = actionProvider.getBindActions(GeneratedTarget.class);
+
+		// The generated binder only reports 1 of the 2 annotated fields
+		assertThat(bindActions.size(), is(1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void uncoveredAnnotationFallsBackToReflection() throws BindFailed {
+		spork.extension.FieldBinder<OtherAnnotation> otherBinder = mock(spork.extension.FieldBinder.class);
+		when(otherBinder.getAnnotationClass()).thenReturn(OtherAnnotation.class);
+
+		Catalog catalog = new Catalog();
+		catalog.add(new TestFieldBinder());
+		catalog.add(otherBinder);
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+
+		List<BindAction> bindActions = actionProvider.getBindActions(GeneratedTarget.class);
+
+		assertThat(bindActions.size(), is(2));
+	}
+
+	@Test
+	public void outdatedGeneratedBinderFallsBackToReflection() throws BindFailed {
+		Catalog catalog = new Catalog();
+		catalog.add(new TestFieldBinder());
+		BindActionProvider actionProvider = new BindActionProvider(catalog);
+
+		List<BindAction> bindActions = actionProvider.getBindActions(OutdatedGeneratedTarget.class);
+
+		assertThat(bindActions.size(), is(1));
+	}
+}
@@ -0,0 +1,39 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import spork.stubs.BindFieldTarget;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class HierarchyBoundaryTests {
+
+	@Test
+	public void defaultBoundary() {
+		HierarchyBoundary hierarchyBoundary = new HierarchyBoundary();
+
+		assertThat(hierarchyBoundary.isBoundary(Object.class), is(true));
+		assertThat(hierarchyBoundary.isBoundary(String.class), is(true));
+		assertThat(hierarchyBoundary.isBoundary(javax.annotation.Nullable.class), is(true));
+		assertThat(hierarchyBoundary.isBoundary(BindFieldTarget.class), is(false));
+	}
+
+	@Test
+	public void customBoundary() {
+		HierarchyBoundary hierarchyBoundary = new HierarchyBoundary(Collections.singletonList("spork.stubs."));
+
+		assertThat(hierarchyBoundary.isBoundary(BindFieldTarget.class), is(true));
+		assertThat(hierarchyBoundary.isBoundary(HierarchyBoundaryTests.class), is(false));
+		assertThat(hierarchyBoundary.isBoundary(String.class), is(false));
+	}
+
+	@Test
+	public void objectIsAlwaysBoundary() {
+		HierarchyBoundary hierarchyBoundary = new HierarchyBoundary(Collections.<String>emptyList());
+
+		assertThat(hierarchyBoundary.isBoundary(Object.class), is(true));
+	}
+}
@@ -0,0 +1,108 @@
+package spork.internal;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import spork.exceptions.BindFailed;
+import spork.stubs.BindAllTarget;
+import spork.stubs.BindFieldTarget;
+import spork.stubs.TestFieldBinder;
+import spork.stubs.TestMethodBinder;
+import spork.stubs.TestTypeBinder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PlanCacheTests {
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Catalog catalog;
+	private File file;
+
+	@Before
+	public void setup() throws IOException {
+		catalog = new Catalog();
+		catalog.add(new TestFieldBinder());
+		catalog.add(new TestMethodBinder());
+		catalog.add(new TestTypeBinder());
+		file = new File(temporaryFolder.getRoot(), "plans");
+	}
+
+	@Test
+	public void missingFile() {
+		PlanCache planCache = PlanCache.load(file, "1", catalog);
+
+		assertThat(planCache.get(BindAllTarget.class), is(nullValue()));
+	}
+
+	@Test
+	public void saveAndLoad() throws BindFailed, IOException {
+		PlanCache planCache = PlanCache.load(file, "1", catalog);
+		new BindActionProvider(catalog, new HierarchyBoundary(), null, planCache).getBindActions(BindAllTarget.class);
+		planCache.save();
+
+		PlanCache loadedPlanCache = PlanCache.load(file, "1", catalog);
+		PlanCache.Entry[] entries = loadedPlanCache.get(BindAllTarget.class);
+
+		assertThat(entries, is(notNullValue()));
+		assertThat(entries.length, is(3));
+		assertThat(entries[0].kind, is(PlanCache.KIND_TYPE));
+		assertThat(entries[1].kind, is(PlanCache.KIND_FIELD));
+		assertThat(entries[1].memberName, is("field"));
+		assertThat(entries[2].kind, is(PlanCache.KIND_METHOD));
+		assertThat(entries[2].memberName, is("method"));
+
+		BindActionProvider actionProvider = new BindActionProvider(catalog, new HierarchyBoundary(), null, loadedPlanCache);
+		assertThat(actionProvider.getBindActions(BindAllTarget.class).size(), is(3));
+	}
+
+	@Test
+	public void fingerprintMismatch() throws BindFailed, IOException {
+		PlanCache planCache = PlanCache.load(file, "1", catalog);
+		new BindActionProvider(catalog, new HierarchyBoundary(), null, planCache).getBindActions(BindAllTarget.class);
+		planCache.save();
+
+		assertThat(PlanCache.load(file, "2", catalog).get(BindAllTarget.class), is(nullValue()));
+	}
+
+	@Test
+	public void catalogMismatch() throws BindFailed, IOException {
+		PlanCache planCache = PlanCache.load(file, "1", catalog);
+		new BindActionProvider(catalog, new HierarchyBoundary(), null, planCache).getBindActions(BindAllTarget.class);
+		planCache.save();
+
+		Catalog otherCatalog = new Catalog();
+		otherCatalog.add(new TestFieldBinder());
+
+		assertThat(PlanCache.load(file, "1", otherCatalog).get(BindAllTarget.class), is(nullValue()));
+	}
+
+	@Test
+	public void corruptFile() throws IOException {
+		Files.write(file.toPath(), new byte[] { 0x53, 0x50, 0x4b });
+
+		assertThat(PlanCache.load(file, "1", catalog).get(BindAllTarget.class), is(nullValue()));
+	}
+
+	@Test
+	public void outdatedEntryFallsBackToScan() throws BindFailed, IOException {
+		PlanCache planCache = PlanCache.load(file, "1", catalog);
+		// BindFieldTarget has no field with this name
+		planCache.record(BindFieldTarget.class, new PlanCache.Entry[] { PlanCache.Entry.forField(0, "removedField") });
+		planCache.save();
+
+		PlanCache loadedPlanCache = PlanCache.load(file, "1", catalog);
+		BindActionProvider actionProvider = new BindActionProvider(catalog, new HierarchyBoundary(), null, loadedPlanCache);
+
+		assertThat(actionProvider.getBindActions(BindFieldTarget.class).size(), is(1));
+	}
+}
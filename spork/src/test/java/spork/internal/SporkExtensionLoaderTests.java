@@ -3,6 +3,18 @@ package spork.internal;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import spork.SporkExtension;
 import spork.SporkInstance;
@@ -17,6 +29,9 @@ public class SporkExtensionLoaderTests {
 	@Rule
 	public ExpectedException expectedException = ExpectedException.none();
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	static final class Extension implements SporkExtension {
 		static int initializeCallCount = 0;
 
@@ -26,6 +41,48 @@ public class SporkExtensionLoaderTests {
 		}
 	}
 
+	public static final class ServiceExtension implements SporkExtension {
+		static int initializeCallCount = 0;
+
+		@Override
+		public void initialize(SporkInstance spork) {
+			initializeCallCount++;
+		}
+	}
+
+	static final class FallbackExtension implements SporkExtension {
+		static int initializeCallCount = 0;
+
+		@Override
+		public void initialize(SporkInstance spork) {
+			initializeCallCount++;
+		}
+	}
+
+	/**
+	 * Records the order in which the extensions that extend it are initialized.
+	 */
+	public abstract static class OrderedExtension implements SporkExtension {
+		static final List<String> initializedClassNames = new ArrayList<>();
+
+		@Override
+		public void initialize(SporkInstance spork) {
+			initializedClassNames.add(getClass().getSimpleName());
+		}
+	}
+
+	public static final class FirstListedExtension extends OrderedExtension {
+	}
+
+	public static final class SecondListedExtension extends OrderedExtension {
+	}
+
+	public static final class KnownListedExtension extends OrderedExtension {
+	}
+
+	public static final class KnownFallbackExtension extends OrderedExtension {
+	}
+
 	static final class InstantiationExceptionExtension implements SporkExtension {
 
 		public InstantiationExceptionExtension() throws InstantiationException {
@@ -95,4 +152,42 @@ public class SporkExtensionLoaderTests {
 		SporkInstance spork = new SporkInstance();
 		SporkExtensionLoader.load(spork, PrivateConstructorExtension.class.getName());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void loadAll() {
+		int serviceInitializeCallCount = ServiceExtension.initializeCallCount;
+		int fallbackInitializeCallCount = FallbackExtension.initializeCallCount;
+		SporkInstance spork = new SporkInstance();
+
+		SporkExtensionLoader.loadAll(spork, getClass().getClassLoader(), ServiceExtension.class.getName(), FallbackExtension.class.getName(), "foo");
+
+		assertThat(ServiceExtension.initializeCallCount, is(serviceInitializeCallCount + 1));
+		assertThat(FallbackExtension.initializeCallCount, is(fallbackInitializeCallCount + 1));
+	}
+
+	@Test
+	public void loadAllInFixedOrder() throws IOException {
+		File serviceFile = new File(temporaryFolder.newFolder("META-INF", "services"), SporkExtension.class.getName());
+		writeLines(serviceFile, SecondListedExtension.class.getName(), KnownListedExtension.class.getName(), FirstListedExtension.class.getName());
+		URLClassLoader classLoader = new URLClassLoader(new URL[]{temporaryFolder.getRoot().toURI().toURL()}, getClass().getClassLoader());
+		OrderedExtension.initializedClassNames.clear();
+
+		SporkExtensionLoader.loadAll(new SporkInstance(), classLoader, KnownFallbackExtension.class.getName(), KnownListedExtension.class.getName());
+
+		assertThat(OrderedExtension.initializedClassNames, is(Arrays.asList("KnownFallbackExtension", "KnownListedExtension", "FirstListedExtension", "SecondListedExtension")));
+		classLoader.close();
+	}
+
+	private static void writeLines(File file, String... lines) throws IOException {
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+
+		try {
+			for (String line : lines) {
+				writer.write(line);
+				writer.write('\n');
+			}
+		} finally {
+			writer.close();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package spork.internal;
+
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WeakClassCacheTests {
+	private final List<Class<?>> evictedTypes = new ArrayList<>();
+	private final WeakClassCache.EvictionListener evictionListener = new WeakClassCache.EvictionListener() {
+		@Override
+		public void onEvicted(@Nullable Class<?> type) {
+			evictedTypes.add(type);
+		}
+	};
+
+	@Test
+	public void putIfAbsent() {
+		WeakClassCache<String> cache = new WeakClassCache<>(0, evictionListener);
+
+		assertThat(cache.get(String.class), is(nullValue()));
+		assertThat(cache.putIfAbsent(String.class, "first"), is(nullValue()));
+		assertThat(cache.putIfAbsent(String.class, "second"), is("first"));
+		assertThat(cache.get(String.class), is("first"));
+		assertThat(cache.size(), is(1));
+	}
+
+	@Test
+	public void leastRecentlyUsedIsEvicted() {
+		WeakClassCache<String> cache = new WeakClassCache<>(2, evictionListener);
+		cache.putIfAbsent(String.class, "string");
+		cache.putIfAbsent(Integer.class, "integer");
+		// Accessing String makes Integer the least recently used class
+		cache.get(String.class);
+		cache.putIfAbsent(Long.class, "long");
+
+		assertThat(cache.size(), is(2));
+		assertThat(cache.get(Integer.class), is(nullValue()));
+		assertThat(cache.get(String.class), is("string"));
+		assertThat(cache.get(Long.class), is("long"));
+		assertThat(evictedTypes.size(), is(1));
+		assertThat(evictedTypes.get(0), is((Object) Integer.class));
+	}
+
+	@Test
+	public void unboundedCacheDoesNotEvict() {
+		WeakClassCache<String> cache = new WeakClassCache<>(0, evictionListener);
+		cache.putIfAbsent(String.class, "string");
+		cache.putIfAbsent(Integer.class, "integer");
+		cache.putIfAbsent(Long.class, "long");
+
+		assertThat(cache.size(), is(3));
+		assertThat(evictedTypes.isEmpty(), is(true));
+	}
+
+	@Test
+	public void classOfDiscardedClassLoaderIsEvicted() throws Exception {
+		WeakClassCache<Object> cache = new WeakClassCache<>(0, evictionListener);
+		// The value references its class, like a bind plan references its fields
+		cacheClassOfThrowawayClassLoader(cache);
+
+		for (int i = 0; i < 10 && cache.size() > 0; ++i) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertThat(cache.size(), is(0));
+		assertThat(evictedTypes.size(), is(1));
+		assertThat(evictedTypes.get(0), is(nullValue()));
+	}
+
+	@Test
+	public void valueOfUnloadableClassLivesAsLongAsItsClass() throws Exception {
+		WeakClassCache<Object> cache = new WeakClassCache<>(0, evictionListener);
+		URL location = UnloadableClass.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, null);
+		Class<?> type = Class.forName(UnloadableClass.class.getName(), false, classLoader);
+		classLoader.close();
+		cache.putIfAbsent(type, new Object());
+
+		System.gc();
+		Thread.sleep(10);
+
+		assertThat(cache.get(type), is(notNullValue()));
+		assertThat(cache.size(), is(1));
+		assertThat(evictedTypes.isEmpty(), is(true));
+	}
+
+	@Test
+	public void valueOfPermanentClassIsNotReleased() throws Exception {
+		WeakClassCache<Object> cache = new WeakClassCache<>(0, evictionListener);
+		cache.putIfAbsent(WeakClassCacheTests.class, new Object());
+
+		System.gc();
+		Thread.sleep(10);
+
+		assertThat(cache.get(WeakClassCacheTests.class), is(notNullValue()));
+		assertThat(evictedTypes.isEmpty(), is(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeMaximumSize() {
+		CachePolicy.weak(-1);
+	}
+
+	private static void cacheClassOfThrowawayClassLoader(WeakClassCache<Object> cache) throws Exception {
+		URL location = UnloadableClass.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, null);
+		Class<?> type = Class.forName(UnloadableClass.class.getName(), false, classLoader);
+		classLoader.close();
+
+		assertThat(type == UnloadableClass.class, is(false));
+		cache.putIfAbsent(type, type);
+		assertThat(cache.get(type), is((Object) type));
+	}
+
+	/**
+	 * A class that is loaded by a throwaway ClassLoader.
+	 */
+	public static class UnloadableClass {
+	}
+}
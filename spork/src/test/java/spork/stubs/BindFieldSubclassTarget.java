@@ -0,0 +1,6 @@
+package spork.stubs;
+
+public class BindFieldSubclassTarget extends BindFieldTarget {
+	@TestAnnotation
+	public Object subclassField;
+}
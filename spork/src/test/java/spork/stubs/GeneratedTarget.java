@@ -0,0 +1,9 @@
+package spork.stubs;
+
+public class GeneratedTarget {
+	@TestAnnotation
+	public Object first;
+
+	@TestAnnotation
+	public Object second;
+}
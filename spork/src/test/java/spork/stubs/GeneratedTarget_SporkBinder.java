@@ -0,0 +1,22 @@
+package spork.stubs;
+
+import java.lang.annotation.Annotation;
+
+import spork.internal.GeneratedBinder;
+
+/**
+ * Hand-written equivalent of a binder generated by spork-compiler.
+ * It deliberately only reports the first field, so tests can tell whether it was used.
+ */
+public final class GeneratedTarget_SporkBinder implements GeneratedBinder {
+
+	@Override
+	public boolean covers(Class<? extends Annotation> annotationClass) {
+		return annotationClass == TestAnnotation.class;
+	}
+
+	@Override
+	public void collect(Class<?> type, Collector collector) throws NoSuchFieldException, NoSuchMethodException {
+		collector.addField(type.getDeclaredField("first"), TestAnnotation.class);
+	}
+}
@@ -0,0 +1,6 @@
+package spork.stubs;
+
+public class OutdatedGeneratedTarget {
+	@TestAnnotation
+	public Object field;
+}
@@ -0,0 +1,21 @@
+package spork.stubs;
+
+import java.lang.annotation.Annotation;
+
+import spork.internal.GeneratedBinder;
+
+/**
+ * Hand-written equivalent of a binder generated by spork-compiler for an older version of its target class.
+ */
+public final class OutdatedGeneratedTarget_SporkBinder implements GeneratedBinder {
+
+	@Override
+	public boolean covers(Class<? extends Annotation> annotationClass) {
+		return annotationClass == TestAnnotation.class;
+	}
+
+	@Override
+	public void collect(Class<?> type, Collector collector) throws NoSuchFieldException, NoSuchMethodException {
+		collector.addField(type.getDeclaredField("removedField"), TestAnnotation.class);
+	}
+}
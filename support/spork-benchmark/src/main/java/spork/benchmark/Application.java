@@ -1,8 +1,10 @@
 package spork.benchmark;
 
 import spork.benchmark.core.CoreFiveFieldWarm;
+import spork.benchmark.core.CoreFiveFieldWarmDeep;
 import spork.benchmark.core.CoreOneFieldCold;
 import spork.benchmark.core.CoreOneFieldWarm;
+import spork.benchmark.core.CoreOneFieldWarmDeep;
 import spork.benchmark.inject.complex.InjectComplex;
 import spork.benchmark.inject.field.InjectFiveFieldWarm;
 import spork.benchmark.inject.field.InjectOneFieldWarm;
@@ -40,6 +42,13 @@ public final class Application {
 		// This tests how well injecting multiple fields work in a situation where Spork has cached all the necessary data.
 		BenchmarkResult fiveFieldWarmResult = new CoreFiveFieldWarm(REPEAT_COUNT).run();
 		BenchmarkResultPrinter.print(fiveFieldWarmResult);
+
+		// These test the same situations for classes that have a deep hierarchy of (empty) superclasses.
+		BenchmarkResult oneFieldWarmDeepResult = new CoreOneFieldWarmDeep(REPEAT_COUNT).run();
+		BenchmarkResultPrinter.print(oneFieldWarmDeepResult);
+
+		BenchmarkResult fiveFieldWarmDeepResult = new CoreFiveFieldWarmDeep(REPEAT_COUNT).run();
+		BenchmarkResultPrinter.print(fiveFieldWarmDeepResult);
 	}
 
 	/**
@@ -0,0 +1,33 @@
+package spork.benchmark.core;
+
+/**
+ * Empty superclasses that mimic a deep class hierarchy (e.g. an Android Activity subclass).
+ */
+final class HierarchyLevels {
+	private HierarchyLevels() {
+	}
+
+	static class Level1 {
+	}
+
+	static class Level2 extends Level1 {
+	}
+
+	static class Level3 extends Level2 {
+	}
+
+	static class Level4 extends Level3 {
+	}
+
+	static class Level5 extends Level4 {
+	}
+
+	static class Level6 extends Level5 {
+	}
+
+	static class Level7 extends Level6 {
+	}
+
+	static class Level8 extends Level7 {
+	}
+}
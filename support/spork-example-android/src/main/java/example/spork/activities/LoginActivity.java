@@ -10,6 +10,7 @@ import android.widget.Button;
 
 import javax.inject.Inject;
 
+import spork.Spork;
 import spork.android.BindClick;
 import spork.android.BindLayout;
 import example.spork.R;
@@ -30,7 +31,8 @@ public class LoginActivity extends AppCompatActivity {
 	protected void onCreate(@Nullable Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
 
-		objectGraphFrom(getApplication()).inject(this);
+		// Bind the layout, views and click listeners and inject the services at once
+		Spork.bind(this, objectGraphFrom(getApplication()));
 
 		loginProgressDialog = new ProgressDialog(this);
 		loginProgressDialog.setMessage(getString(R.string.login_progress));
@@ -8,6 +8,7 @@ import android.widget.TextView;
 
 import javax.inject.Inject;
 
+import spork.Spork;
 import spork.android.BindClick;
 import spork.android.BindLayout;
 import spork.android.BindView;
@@ -29,7 +30,8 @@ public class WelcomeActivity extends AppCompatActivity {
 	public void onCreate(Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
 
-		objectGraphFrom(getApplication()).inject(this);
+		// Bind the layout, views and click listeners and inject the services at once
+		Spork.bind(this, objectGraphFrom(getApplication()));
 
 		if (sessionService.getCurentSession().isActive()) {
 			// Show the session ID in a TextView